@@ -0,0 +1,79 @@
+package com.abdatytch.user_service.benchmark;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import com.abdatytch.user_service.UserServiceApplication;
+import com.abdatytch.user_service.dto.request.AdministrationRequestDTO;
+import com.abdatytch.user_service.dto.request.DepartmentRequestDTO;
+import com.abdatytch.user_service.dto.request.UserRequestDTO;
+import com.abdatytch.user_service.model.UserRole;
+import com.abdatytch.user_service.service.AdministrationService;
+import com.abdatytch.user_service.service.DepartmentService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Démarrage du contexte user-service et jeux de données communs aux benchmarks
+ * 
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+final class BenchmarkContext {
+
+    private BenchmarkContext() {}
+
+    /**
+     * Démarre le service sur H2 (profil bench)
+     * 
+     * @param properties Propriétés supplémentaires (« clé=valeur »)
+     * @return Contexte Spring démarré
+     */
+    static ConfigurableApplicationContext start(String... properties) {
+        return new SpringApplicationBuilder(UserServiceApplication.class)
+                .profiles("bench")
+                .properties(properties)
+                .logStartupInfo(false)
+                .run();
+    }
+
+    /**
+     * Crée une administration et un département de référence
+     * 
+     * @param context Contexte Spring démarré
+     * @return Identifiants de l'administration et du département
+     */
+    static Organisation seedOrganisation(ConfigurableApplicationContext context) {
+        AdministrationRequestDTO administrationRequest = new AdministrationRequestDTO();
+        administrationRequest.setName("Administration Benchmark");
+        UUID administrationId = context.getBean(AdministrationService.class)
+                .createAdministration(administrationRequest).getId();
+
+        DepartmentRequestDTO departmentRequest = new DepartmentRequestDTO();
+        departmentRequest.setName("Département Benchmark");
+        departmentRequest.setAdministrationId(administrationId);
+        UUID departmentId = context.getBean(DepartmentService.class)
+                .createDepartment(departmentRequest).getId();
+
+        return new Organisation(administrationId, departmentId);
+    }
+
+    /**
+     * Construit une requête de création valide, unique pour chaque n
+     * 
+     * @param organisation Administration et département d'affectation
+     * @param n Numéro de l'utilisateur (rend téléphone, email et matricule uniques)
+     * @return Requête de création d'utilisateur
+     */
+    static UserRequestDTO sampleUser(Organisation organisation, int n) {
+        return new UserRequestDTO(null, null, "Makan", "Sissoko", UserRole.USER,
+                organisation.administrationId(), organisation.departmentId(),
+                String.format("%08d", n), "user" + n + "@bench.ml", "Rue 100, ACI 2000, Bamako",
+                LocalDate.of(1990, 1, 1), "Bamako", "Agent", "Marié", String.format("MAT%06d", n));
+    }
+
+    /**
+     * Administration et département de référence
+     */
+    record Organisation(UUID administrationId, UUID departmentId) {}
+}
@@ -0,0 +1,91 @@
+package com.abdatytch.user_service.benchmark;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import com.abdatytch.user_service.dto.response.DepartmentResponseDTO;
+import com.abdatytch.user_service.dto.response.UserResponseDTO;
+import com.abdatytch.user_service.model.Administration;
+import com.abdatytch.user_service.model.Department;
+import com.abdatytch.user_service.model.User;
+import com.abdatytch.user_service.model.UserRole;
+import com.abdatytch.user_service.service.impl.DepartmentServiceImpl;
+import com.abdatytch.user_service.service.impl.UserServiceImpl;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Conversions entité vers DTO des services
+ * 
+ * Appelle les méthodes privées convertToDTO de UserServiceImpl (setters explicites) et de
+ * DepartmentServiceImpl (BeanUtils.copyProperties, par introspection) telles qu'elles sont
+ * livrées, et compare la seconde à une copie par setters explicites. À lancer avec
+ * -prof gc pour l'allocation par conversion.
+ * 
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConversionBenchmark {
+
+    private MethodHandle userConvert;
+    private MethodHandle departmentConvert;
+    private User user;
+    private Department department;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        // Les conversions n'utilisent aucune dépendance des services
+        UserServiceImpl userService = new UserServiceImpl(null, null, null, null, null, null, null);
+        DepartmentServiceImpl departmentService = new DepartmentServiceImpl(null, null, null, null, null);
+        userConvert = MethodHandles.privateLookupIn(UserServiceImpl.class, MethodHandles.lookup())
+                .findVirtual(UserServiceImpl.class, "convertToDTO", MethodType.methodType(UserResponseDTO.class, User.class))
+                .bindTo(userService);
+        departmentConvert = MethodHandles.privateLookupIn(DepartmentServiceImpl.class, MethodHandles.lookup())
+                .findVirtual(DepartmentServiceImpl.class, "convertToDTO",
+                        MethodType.methodType(DepartmentResponseDTO.class, Department.class))
+                .bindTo(departmentService);
+
+        Administration administration = new Administration("Administration Benchmark");
+        administration.setId(UUID.randomUUID());
+        department = new Department("Département Benchmark");
+        department.setId(UUID.randomUUID());
+        department.setAdministration(administration);
+        user = new User("makansissoko", "Makan", "Sissoko", UserRole.USER);
+        user.setId(UUID.randomUUID());
+        user.setAdministration(administration);
+        user.setDepartment(department);
+    }
+
+    @Benchmark
+    public UserResponseDTO userConvertToDTO() throws Throwable {
+        return (UserResponseDTO) userConvert.invokeExact(user);
+    }
+
+    @Benchmark
+    public DepartmentResponseDTO departmentConvertToDTO() throws Throwable {
+        return (DepartmentResponseDTO) departmentConvert.invokeExact(department);
+    }
+
+    /**
+     * Référence : même résultat que DepartmentServiceImpl.convertToDTO, sans introspection
+     */
+    @Benchmark
+    public DepartmentResponseDTO departmentExplicitSetters() {
+        DepartmentResponseDTO dto = new DepartmentResponseDTO();
+        dto.setId(department.getId());
+        dto.setName(department.getName());
+        if (department.getAdministration() != null) {
+            dto.setAdministrationId(department.getAdministration().getId());
+            dto.setAdministrationName(department.getAdministration().getName());
+        }
+        return dto;
+    }
+}
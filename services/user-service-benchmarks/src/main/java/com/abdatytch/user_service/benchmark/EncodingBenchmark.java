@@ -0,0 +1,106 @@
+package com.abdatytch.user_service.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import com.abdatytch.user_service.dto.response.PageEnvelope;
+import com.abdatytch.user_service.dto.response.UserResponseDTO;
+import com.abdatytch.user_service.model.UserRole;
+import com.abdatytch.user_service.serialization.UserResponseWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Taille et coût CPU des encodages négociés (JSON, Smile, CBOR)
+ * 
+ * Chaque format est construit comme dans EncodingConfig (builder Jackson + fabrique).
+ * Mesure l'encodage d'une page de 50 utilisateurs (enveloppe en flux) et
+ * l'encodage / décodage d'un tableau de 50 UserResponseDTO. Les tailles sont
+ * affichées en fin d'essai.
+ * 
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EncodingBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    @Param({"json", "smile", "cbor"})
+    private String format;
+
+    private ObjectMapper objectMapper;
+    private UserResponseDTO[] users;
+    private PageImpl<UserResponseDTO> page;
+    private byte[] encodedUsers;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        switch (format) {
+            case "smile" -> builder.factory(new SmileFactory());
+            case "cbor" -> builder.factory(new CBORFactory());
+            default -> { }
+        }
+        objectMapper = builder.build();
+
+        UUID administrationId = UUID.randomUUID();
+        UUID departmentId = UUID.randomUUID();
+        List<UserResponseDTO> content = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            UserResponseDTO dto = new UserResponseDTO();
+            dto.setId(UUID.randomUUID());
+            dto.setUsername("utilisateur" + i);
+            dto.setFirstName("Makan");
+            dto.setLastName("Sissoko");
+            dto.setRole(UserRole.USER);
+            dto.setAdministrationId(administrationId);
+            dto.setAdministrationName("Administration Benchmark");
+            dto.setDepartmentId(departmentId);
+            dto.setDepartmentName("Département Benchmark");
+            content.add(dto);
+        }
+        users = content.toArray(new UserResponseDTO[0]);
+        page = new PageImpl<>(content, PageRequest.of(0, PAGE_SIZE), 10_000);
+        encodedUsers = encodeUsers();
+
+        System.out.printf("%n[%s] octets : page=%d, users=%d%n", format, encodePage().length, encodedUsers.length);
+    }
+
+    /**
+     * Encodage d'une page (enveloppe compacte, tous les champs)
+     */
+    @Benchmark
+    public byte[] encodePage() throws Exception {
+        return objectMapper.writeValueAsBytes(PageEnvelope.of(page, dto -> dto)
+                .withWriter(UserResponseWriter.forFields(null)));
+    }
+
+    /**
+     * Encodage d'un tableau de DTOs (sérialiseurs Jackson standards)
+     */
+    @Benchmark
+    public byte[] encodeUsers() throws Exception {
+        return objectMapper.writeValueAsBytes(users);
+    }
+
+    /**
+     * Décodage du même tableau
+     */
+    @Benchmark
+    public UserResponseDTO[] decodeUsers() throws Exception {
+        return objectMapper.readValue(encodedUsers, UserResponseDTO[].class);
+    }
+}
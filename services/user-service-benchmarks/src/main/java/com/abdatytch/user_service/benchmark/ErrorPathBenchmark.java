@@ -0,0 +1,89 @@
+package com.abdatytch.user_service.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import com.abdatytch.user_service.constant.Message;
+import com.abdatytch.user_service.exception.ApiErrors;
+import com.abdatytch.user_service.exception.ApiException;
+import com.abdatytch.user_service.exception.GlobalExceptionHandler;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Débit du chemin d'erreur métier : levée de l'exception puis construction de la
+ * réponse ErrorDTO par GlobalExceptionHandler
+ * 
+ * La profondeur de pile est simulée (stackDepth) : sous Tomcat et Spring MVC, une
+ * exception levée dans un service se trouve sous une centaine de frames, et c'est
+ * leur capture qui domine le coût d'une exception classique.
+ * 
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ErrorPathBenchmark {
+
+    @Param({"10", "150"})
+    public int stackDepth;
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    /**
+     * Ancien chemin : ResponseStatusException avec pile complète
+     */
+    @Benchmark
+    public ResponseEntity<?> responseStatusException() {
+        try {
+            return descend(stackDepth, Failure.RESPONSE_STATUS);
+        } catch (ResponseStatusException e) {
+            return handler.handleResponseStatusException(e);
+        }
+    }
+
+    /**
+     * Erreur pré-allouée (ApiErrors) : aucune allocation à la levée
+     */
+    @Benchmark
+    public ResponseEntity<?> preallocatedApiError() {
+        try {
+            return descend(stackDepth, Failure.PREALLOCATED);
+        } catch (ApiException e) {
+            return handler.handleApiException(e);
+        }
+    }
+
+    /**
+     * Erreur sans pile construite à la levée (message ou détails variables)
+     */
+    @Benchmark
+    public ResponseEntity<?> stacklessApiException() {
+        try {
+            return descend(stackDepth, Failure.STACKLESS);
+        } catch (ApiException e) {
+            return handler.handleApiException(e);
+        }
+    }
+
+    private enum Failure { RESPONSE_STATUS, PREALLOCATED, STACKLESS }
+
+    private static ResponseEntity<?> descend(int depth, Failure failure) {
+        if (depth > 0) {
+            return descend(depth - 1, failure);
+        }
+        switch (failure) {
+            case RESPONSE_STATUS:
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, Message.DUPLICATE_EMAIL);
+            case PREALLOCATED:
+                throw ApiErrors.DUPLICATE_EMAIL;
+            default:
+                throw new ApiException(HttpStatus.BAD_REQUEST, Message.PATCH_FIELD_NOT_ALLOWED, "username");
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.abdatytch.user_service.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import com.abdatytch.user_service.monitoring.jfr.JfrPasswordEncoder;
+import com.abdatytch.user_service.monitoring.jfr.ValidationEvent;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Coût des événements JFR du service sans enregistrement actif
+ * 
+ * Un encodeur trivial, nu puis enveloppé par JfrPasswordEncoder, isole le coût de
+ * l'instrumentation ; validationEvent mesure un couple start/end de ValidationEvent.
+ * Sans enregistrement, l'écart attendu se limite au test isEnabled() (quelques ns).
+ * 
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JfrEventOverheadBenchmark {
+
+    private static final String PASSWORD = "Motdepasse@2026";
+
+    // Encodeur trivial : seul le coût de l'instrumentation est mesuré
+    private static final PasswordEncoder PLAIN = new PasswordEncoder() {
+        @Override
+        public String encode(CharSequence rawPassword) {return rawPassword.toString();}
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return rawPassword.toString().equals(encodedPassword);
+        }
+    };
+
+    private final PasswordEncoder instrumented = new JfrPasswordEncoder(PLAIN);
+
+    @Benchmark
+    public String plainEncode() {
+        return PLAIN.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public String instrumentedEncode() {
+        return instrumented.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public void validationEvent() {
+        ValidationEvent.end(ValidationEvent.start("User", "validate"), 0);
+    }
+}
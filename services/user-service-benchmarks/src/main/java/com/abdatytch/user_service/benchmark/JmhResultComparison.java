@@ -0,0 +1,101 @@
+package com.abdatytch.user_service.benchmark;
+
+import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Comparaison de deux fichiers de résultats JMH (format JSON, -rf json)
+ * 
+ * Rapproche les benchmarks par nom et paramètres, affiche l'écart du score principal
+ * et de l'allocation par opération (gc.alloc.rate.norm, présent avec -prof gc), et
+ * termine en erreur si l'un d'eux régresse au-delà du seuil.
+ * 
+ * Usage : JmhResultComparison reference.json courant.json [seuil en %, 10 par défaut]
+ * 
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public final class JmhResultComparison {
+
+    private static final String ALLOCATION = "gc.alloc.rate.norm";
+
+    private JmhResultComparison() {}
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("Usage : JmhResultComparison reference.json courant.json [seuil %]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10;
+        Map<String, JsonNode> baseline = index(args[0]);
+        Map<String, JsonNode> current = index(args[1]);
+
+        int regressions = 0;
+        for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+            JsonNode before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.printf("%-90s nouveau%n", entry.getKey());
+                continue;
+            }
+            JsonNode after = entry.getValue();
+            // Débit : plus haut est meilleur ; temps moyen, échantillonné ou unique : plus bas est meilleur
+            boolean higherIsBetter = "thrpt".equals(after.path("mode").asText());
+            double scoreChange = change(before.path("primaryMetric"), after.path("primaryMetric"));
+            boolean regressed = (higherIsBetter ? -scoreChange : scoreChange) > threshold;
+
+            String allocation = "";
+            JsonNode allocBefore = secondary(before);
+            JsonNode allocAfter = secondary(after);
+            if (allocBefore != null && allocAfter != null) {
+                double allocChange = change(allocBefore, allocAfter);
+                // Tolérance absolue : quelques octets de bruit sur des allocations quasi nulles
+                boolean allocRegressed = allocChange > threshold
+                        && allocAfter.path("score").asDouble() - allocBefore.path("score").asDouble() > 16;
+                regressed |= allocRegressed;
+                allocation = String.format("  alloc %+6.1f %% (%.0f B/op)", allocChange, allocAfter.path("score").asDouble());
+            }
+            System.out.printf("%-90s score %+6.1f %% (%.3f %s)%s%s%n", entry.getKey(), scoreChange,
+                    after.path("primaryMetric").path("score").asDouble(),
+                    after.path("primaryMetric").path("scoreUnit").asText(), allocation, regressed ? "  RÉGRESSION" : "");
+            if (regressed) {
+                regressions++;
+            }
+        }
+        if (regressions > 0) {
+            System.err.printf("%d régression(s) au-delà de %.1f %%%n", regressions, threshold);
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, JsonNode> index(String file) throws Exception {
+        Map<String, JsonNode> results = new LinkedHashMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(new File(file))) {
+            StringBuilder key = new StringBuilder(result.path("benchmark").asText());
+            result.path("params").fields().forEachRemaining(param ->
+                    key.append(' ').append(param.getKey()).append('=').append(param.getValue().asText()));
+            key.append(" [").append(result.path("mode").asText()).append(']');
+            results.put(key.toString(), result);
+        }
+        return results;
+    }
+
+    private static JsonNode secondary(JsonNode result) {
+        var metrics = result.path("secondaryMetrics").fields();
+        while (metrics.hasNext()) {
+            var metric = metrics.next();
+            if (metric.getKey().endsWith(ALLOCATION)) {
+                return metric.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static double change(JsonNode before, JsonNode after) {
+        double reference = before.path("score").asDouble();
+        return reference == 0 ? 0 : (after.path("score").asDouble() - reference) / reference * 100;
+    }
+}
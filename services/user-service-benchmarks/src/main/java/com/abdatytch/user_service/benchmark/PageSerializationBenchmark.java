@@ -0,0 +1,113 @@
+package com.abdatytch.user_service.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import com.abdatytch.user_service.dto.response.PageEnvelope;
+import com.abdatytch.user_service.dto.response.UserResponseDTO;
+import com.abdatytch.user_service.model.Administration;
+import com.abdatytch.user_service.model.Department;
+import com.abdatytch.user_service.model.User;
+import com.abdatytch.user_service.model.UserRole;
+import com.abdatytch.user_service.serialization.UserResponseWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Sérialisation des listes paginées d'utilisateurs
+ * 
+ * Compare l'ancienne réponse (Page.map vers une liste de DTOs puis sérialisation
+ * réflexive de PageImpl) à l'enveloppe compacte écrite en flux, complète ou
+ * projetée sur id,username. Les entités sont construites en mémoire : seule la
+ * conversion et l'écriture JSON sont mesurées. La taille des réponses est
+ * affichée en fin d'essai.
+ * 
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PageSerializationBenchmark {
+
+    @Param({"10", "50", "200"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private Page<User> users;
+    private UserResponseWriter sparseWriter;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        sparseWriter = UserResponseWriter.forFields("id,username");
+
+        Administration administration = new Administration("Administration Benchmark");
+        administration.setId(UUID.randomUUID());
+        Department department = new Department("Département Benchmark");
+        department.setId(UUID.randomUUID());
+
+        List<User> content = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            User user = new User("utilisateur" + i, "Makan", "Sissoko", UserRole.USER);
+            user.setId(UUID.randomUUID());
+            user.setAdministration(administration);
+            user.setDepartment(department);
+            content.add(user);
+        }
+        users = new PageImpl<>(content, PageRequest.of(0, pageSize), 10_000);
+
+        System.out.printf("%n[pageSize=%d] octets : pageImpl=%d, envelope=%d, envelopeSparse=%d%n", pageSize,
+                pageImpl().length, envelope().length, envelopeSparse().length);
+    }
+
+    /**
+     * Ancienne réponse : liste de DTOs puis PageImpl sérialisée par réflexion
+     */
+    @Benchmark
+    public byte[] pageImpl() throws Exception {
+        return objectMapper.writeValueAsBytes(users.map(PageSerializationBenchmark::toDTO));
+    }
+
+    /**
+     * Enveloppe compacte, tous les champs
+     */
+    @Benchmark
+    public byte[] envelope() throws Exception {
+        PageEnvelope<UserResponseDTO> page = PageEnvelope.of(users, PageSerializationBenchmark::toDTO);
+        return objectMapper.writeValueAsBytes(page.withWriter(UserResponseWriter.forFields(null)));
+    }
+
+    /**
+     * Enveloppe compacte projetée (?fields=id,username)
+     */
+    @Benchmark
+    public byte[] envelopeSparse() throws Exception {
+        PageEnvelope<UserResponseDTO> page = PageEnvelope.of(users, PageSerializationBenchmark::toDTO);
+        return objectMapper.writeValueAsBytes(page.withWriter(sparseWriter));
+    }
+
+    // Même conversion que UserServiceImpl.convertToDTO
+    private static UserResponseDTO toDTO(User user) {
+        UserResponseDTO dto = new UserResponseDTO();
+        dto.setId(user.getId());
+        dto.setUsername(user.getUsername());
+        dto.setFirstName(user.getFirstName());
+        dto.setLastName(user.getLastName());
+        dto.setRole(user.getRole());
+        dto.setAdministrationId(user.getAdministration().getId());
+        dto.setAdministrationName(user.getAdministration().getName());
+        dto.setDepartmentId(user.getDepartment().getId());
+        dto.setDepartmentName(user.getDepartment().getName());
+        return dto;
+    }
+}
@@ -0,0 +1,109 @@
+package com.abdatytch.user_service.benchmark;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import com.abdatytch.user_service.ratelimit.ClientKeyResolver;
+import com.abdatytch.user_service.ratelimit.TokenBucketRateLimiter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+/**
+ * Coût d'une décision de limitation de débit sous contention
+ * 
+ * Compare le seau à jetons sans verrou (un CAS par requête) à un seau classique
+ * synchronisé avec recharge calculée, sur 4 threads, pour une clé unique très
+ * sollicitée et pour 1000 clients. resolveAndAcquire mesure le coût complet d'une
+ * décision du filtre : résolution de la clé du client depuis la requête
+ * (ClientKeyResolver, X-Forwarded-For ajouté par la gateway) puis acquisition.
+ * 
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class RateLimiterBenchmark {
+
+    private static final double PERMITS_PER_SECOND = 1_000_000;
+    private static final int BURST = 1_000;
+
+    @Param({"1", "1000"})
+    private int clients;
+
+    private String[] keys;
+    private MockHttpServletRequest[] requests;
+    private ClientKeyResolver resolver;
+    private TokenBucketRateLimiter lockFree;
+    private SynchronizedLimiter synchronizedLimiter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        keys = new String[clients];
+        requests = new MockHttpServletRequest[clients];
+        for (int i = 0; i < clients; i++) {
+            keys[i] = "users|10.0.0." + i;
+            requests[i] = new MockHttpServletRequest("GET", "/api/users");
+            requests[i].setRemoteAddr("10.1.0.1");
+            requests[i].addHeader("X-Forwarded-For", "192.168.1.20, 203.0." + (i / 256) + "." + (i % 256));
+        }
+        resolver = new ClientKeyResolver(1);
+        lockFree = new TokenBucketRateLimiter(PERMITS_PER_SECOND, BURST, 100_000);
+        synchronizedLimiter = new SynchronizedLimiter();
+    }
+
+    @Benchmark
+    public long lockFree() {
+        return lockFree.tryAcquire(nextKey(), System.nanoTime());
+    }
+
+    @Benchmark
+    public long resolveAndAcquire() {
+        MockHttpServletRequest request = requests[ThreadLocalRandom.current().nextInt(requests.length)];
+        return lockFree.tryAcquire(resolver.resolve(request), System.nanoTime());
+    }
+
+    @Benchmark
+    public boolean synchronizedBucket() {
+        return synchronizedLimiter.tryAcquire(nextKey(), System.nanoTime());
+    }
+
+    private String nextKey() {
+        return keys[ThreadLocalRandom.current().nextInt(keys.length)];
+    }
+
+    /**
+     * Référence : seau à jetons synchronisé, recharge calculée à chaque acquisition
+     */
+    static final class SynchronizedLimiter {
+        private final ConcurrentHashMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+        boolean tryAcquire(String key, long now) {
+            return buckets.computeIfAbsent(key, k -> new Bucket(now)).tryAcquire(now);
+        }
+
+        private static final class Bucket {
+            private double tokens = BURST;
+            private long lastRefill;
+
+            Bucket(long now) {
+                this.lastRefill = now;
+            }
+
+            synchronized boolean tryAcquire(long now) {
+                tokens = Math.min(BURST, tokens + (now - lastRefill) * PERMITS_PER_SECOND / 1e9);
+                lastRefill = now;
+                if (tokens < 1) {
+                    return false;
+                }
+                tokens--;
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.abdatytch.user_service.benchmark;
+
+import java.util.concurrent.atomic.LongAdder;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * StatementInspector Hibernate comptant les requêtes SQL préparées et leur taille
+ * 
+ * Enregistré via la propriété hibernate.session_factory.statement_inspector du profil bench.
+ * 
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public class SqlCaptureInspector implements StatementInspector {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final LongAdder STATEMENTS = new LongAdder();
+    private static final LongAdder BYTES = new LongAdder();
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.increment();
+        BYTES.add(sql.length());
+        return sql;
+    }
+
+    /**
+     * @return Nombre de requêtes depuis le dernier appel (compteur remis à zéro)
+     */
+    public static long drainStatements() {return STATEMENTS.sumThenReset();}
+
+    /**
+     * @return Taille cumulée des requêtes depuis le dernier appel (compteur remis à zéro)
+     */
+    public static long drainBytes() {return BYTES.sumThenReset();}
+}
@@ -0,0 +1,72 @@
+package com.abdatytch.user_service.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import com.abdatytch.user_service.service.UserService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Surcoût du traçage distribué sur le débit
+ * 
+ * Lecture d'un utilisateur (GET /api/users/{id} : span HTTP serveur, spans de repository
+ * et JDBC) sur loopback, 4 threads, traçage désactivé ou actif à l'échantillonnage par
+ * défaut (10 % en tête, racine de chaque requête et 10 % des traces complètes enregistrées
+ * localement pour l'échantillonnage en queue, export mémoire). Objectif : moins de 3 %
+ * d'écart de débit entre off et default. Le mode local-all enregistre localement toutes
+ * les traces (tracing.tail.local-sample-rate=1) ; le mode always (100 % en tête) borne le
+ * coût d'un échantillonnage complet.
+ * 
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class TracingOverheadBenchmark {
+
+    @Param({"off", "default", "local-all", "always"})
+    private String tracing;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private HttpRequest getUser;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = switch (tracing) {
+            case "off" -> BenchmarkContext.start("management.tracing.enabled=false");
+            case "local-all" -> BenchmarkContext.start("tracing.tail.local-sample-rate=1.0");
+            case "always" -> BenchmarkContext.start("management.tracing.sampling.probability=1.0");
+            default -> BenchmarkContext.start();
+        };
+        BenchmarkContext.Organisation organisation = BenchmarkContext.seedOrganisation(context);
+        UUID id = context.getBean(UserService.class).createUser(BenchmarkContext.sampleUser(organisation, 1)).getId();
+
+        String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        httpClient = HttpClient.newHttpClient();
+        getUser = HttpRequest.newBuilder(URI.create(baseUrl + "/api/users/" + id))
+                .header("Cache-Control", "no-cache")
+                .GET()
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public String getUser() throws Exception {
+        return httpClient.send(getUser, HttpResponse.BodyHandlers.ofString()).body();
+    }
+}
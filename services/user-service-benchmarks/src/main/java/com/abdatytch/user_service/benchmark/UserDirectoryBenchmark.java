@@ -0,0 +1,153 @@
+package com.abdatytch.user_service.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import com.abdatytch.user_service.grpc.GrpcServerLifecycle;
+import com.abdatytch.user_service.grpc.UserDirectoryGrpcService;
+import com.abdatytch.user_service.grpc.v1.BatchGetUsersRequest;
+import com.abdatytch.user_service.grpc.v1.GetUserRequest;
+import com.abdatytch.user_service.grpc.v1.ListDepartmentMembersRequest;
+import com.abdatytch.user_service.grpc.v1.User;
+import com.abdatytch.user_service.grpc.v1.UserDirectoryGrpc;
+import com.abdatytch.user_service.serialization.UuidBytes;
+import com.abdatytch.user_service.service.UserService;
+import com.google.protobuf.ByteString;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Annuaire interne : gRPC vs REST
+ * 
+ * Compare la lecture d'un utilisateur et de 100 membres d'un département par
+ * gRPC en mémoire (transport in-process, coût de la pile seule), gRPC sur
+ * loopback (Netty) et REST JSON sur loopback. Les modes Throughput et
+ * SampleTime donnent le débit et les percentiles de latence.
+ * 
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserDirectoryBenchmark {
+
+    private static final int MEMBERS = 100;
+
+    private ConfigurableApplicationContext context;
+    private Server inProcessServer;
+    private ManagedChannel inProcessChannel;
+    private ManagedChannel loopbackChannel;
+    private UserDirectoryGrpc.UserDirectoryBlockingStub inProcessStub;
+    private UserDirectoryGrpc.UserDirectoryBlockingStub loopbackStub;
+    private HttpClient httpClient;
+    private GetUserRequest getUserRequest;
+    private BatchGetUsersRequest batchRequest;
+    private ListDepartmentMembersRequest membersRequest;
+    private HttpRequest restGetUser;
+    private HttpRequest restDepartmentMembers;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        context = BenchmarkContext.start();
+        BenchmarkContext.Organisation organisation = BenchmarkContext.seedOrganisation(context);
+        UserService userService = context.getBean(UserService.class);
+        List<UUID> ids = new ArrayList<>(MEMBERS);
+        for (int i = 0; i < MEMBERS; i++) {
+            ids.add(userService.createUser(BenchmarkContext.sampleUser(organisation, i)).getId());
+        }
+
+        String serverName = InProcessServerBuilder.generateName();
+        inProcessServer = InProcessServerBuilder.forName(serverName)
+                .directExecutor()
+                .addService(context.getBean(UserDirectoryGrpcService.class))
+                .build()
+                .start();
+        inProcessChannel = InProcessChannelBuilder.forName(serverName).directExecutor().build();
+        loopbackChannel = ManagedChannelBuilder
+                .forAddress("localhost", context.getBean(GrpcServerLifecycle.class).getPort())
+                .usePlaintext()
+                .build();
+        inProcessStub = UserDirectoryGrpc.newBlockingStub(inProcessChannel);
+        loopbackStub = UserDirectoryGrpc.newBlockingStub(loopbackChannel);
+
+        getUserRequest = GetUserRequest.newBuilder().setId(toByteString(ids.get(0))).build();
+        BatchGetUsersRequest.Builder batch = BatchGetUsersRequest.newBuilder();
+        ids.forEach(id -> batch.addIds(toByteString(id)));
+        batchRequest = batch.build();
+        membersRequest = ListDepartmentMembersRequest.newBuilder()
+                .setDepartmentId(toByteString(organisation.departmentId()))
+                .setPageSize(MEMBERS)
+                .build();
+
+        String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        httpClient = HttpClient.newHttpClient();
+        restGetUser = HttpRequest.newBuilder(URI.create(baseUrl + "/api/users/" + ids.get(0))).GET().build();
+        restDepartmentMembers = HttpRequest.newBuilder(URI.create(
+                baseUrl + "/api/users/department/" + organisation.departmentId() + "?size=" + MEMBERS)).GET().build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        inProcessChannel.shutdownNow();
+        loopbackChannel.shutdownNow();
+        inProcessServer.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        context.close();
+    }
+
+    @Benchmark
+    public User grpcInProcessGetUser() {
+        return inProcessStub.getUser(getUserRequest);
+    }
+
+    @Benchmark
+    public User grpcGetUser() {
+        return loopbackStub.getUser(getUserRequest);
+    }
+
+    @Benchmark
+    public String restGetUser() throws Exception {
+        return httpClient.send(restGetUser, HttpResponse.BodyHandlers.ofString()).body();
+    }
+
+    @Benchmark
+    public void grpcInProcessBatchGetUsers(Blackhole blackhole) {
+        drain(inProcessStub.batchGetUsers(batchRequest), blackhole);
+    }
+
+    @Benchmark
+    public void grpcListDepartmentMembers(Blackhole blackhole) {
+        drain(loopbackStub.listDepartmentMembers(membersRequest), blackhole);
+    }
+
+    @Benchmark
+    public String restDepartmentMembers() throws Exception {
+        return httpClient.send(restDepartmentMembers, HttpResponse.BodyHandlers.ofString()).body();
+    }
+
+    private static void drain(Iterator<User> users, Blackhole blackhole) {
+        while (users.hasNext()) {
+            blackhole.consume(users.next());
+        }
+    }
+
+    private static ByteString toByteString(UUID id) {
+        return ByteString.copyFrom(UuidBytes.toBytes(id));
+    }
+}
@@ -0,0 +1,94 @@
+package com.abdatytch.user_service.benchmark;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import com.abdatytch.user_service.dto.request.UserRequestDTO;
+import com.abdatytch.user_service.dto.response.UserResponseDTO;
+import com.abdatytch.user_service.service.UserService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Compare la mise à jour complète (PUT) et la modification partielle (PATCH)
+ * d'un seul champ : latence, nombre et taille des requêtes SQL par opération.
+ * 
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserUpdateBenchmark {
+
+    private static final String[] PHONES = {"90000001", "90000002"};
+
+    private ConfigurableApplicationContext context;
+    private UserService userService;
+    private ObjectMapper objectMapper;
+    private UUID userId;
+    private UserRequestDTO fullRequest;
+    private int toggle;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        userService = context.getBean(UserService.class);
+        objectMapper = context.getBean(ObjectMapper.class);
+        fullRequest = BenchmarkContext.sampleUser(BenchmarkContext.seedOrganisation(context), 1);
+        userId = userService.createUser(fullRequest).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * Requêtes SQL émises, rapportées en total par itération
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class SqlCounters {
+        public long sqlStatements;
+        public long sqlBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            SqlCaptureInspector.drainStatements();
+            SqlCaptureInspector.drainBytes();
+            sqlStatements = 0;
+            sqlBytes = 0;
+        }
+
+        void record() {
+            sqlStatements += SqlCaptureInspector.drainStatements();
+            sqlBytes += SqlCaptureInspector.drainBytes();
+        }
+    }
+
+    private String nextPhone() {
+        return PHONES[toggle++ & 1];
+    }
+
+    @Benchmark
+    public UserResponseDTO put(SqlCounters counters) {
+        fullRequest.setPhoneNumber(nextPhone());
+        UserResponseDTO updated = userService.updateUser(userId, fullRequest);
+        counters.record();
+        return updated;
+    }
+
+    @Benchmark
+    public UserResponseDTO patch(SqlCounters counters) {
+        ObjectNode patch = objectMapper.createObjectNode().put("phoneNumber", nextPhone());
+        UserResponseDTO updated = userService.patchUser(userId, patch);
+        counters.record();
+        return updated;
+    }
+}
@@ -0,0 +1,89 @@
+package com.abdatytch.user_service.benchmark;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Proxy;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import com.abdatytch.user_service.repository.UserRepository;
+import com.abdatytch.user_service.service.UserService;
+import com.abdatytch.user_service.service.impl.UserServiceImpl;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Génération du nom d'utilisateur (UserServiceImpl.generateUsername)
+ * 
+ * La méthode concatène prénom et nom puis sonde existsByUsername avec un suffixe
+ * croissant jusqu'au premier nom libre : une requête par homonyme existant. Le mode
+ * memory isole le coût des chaînes (dépôt simulé par un ensemble), le mode h2 inclut
+ * les requêtes sur la base du profil bench, pour 0, 10 et 100 homonymes.
+ * 
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UsernameGenerationBenchmark {
+
+    @Param({"0", "10", "100"})
+    private int homonyms;
+
+    @Param({"memory", "h2"})
+    private String repository;
+
+    private ConfigurableApplicationContext context;
+    private MethodHandle generateUsername;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        UserRepository userRepository;
+        if ("h2".equals(repository)) {
+            context = BenchmarkContext.start();
+            BenchmarkContext.Organisation organisation = BenchmarkContext.seedOrganisation(context);
+            UserService userService = context.getBean(UserService.class);
+            // Chaque création sans username génère makansissoko, makansissoko1, makansissoko2...
+            for (int i = 0; i < homonyms; i++) {
+                userService.createUser(BenchmarkContext.sampleUser(organisation, i));
+            }
+            userRepository = context.getBean(UserRepository.class);
+        } else {
+            Set<String> existing = new HashSet<>();
+            for (int i = 0; i < homonyms; i++) {
+                existing.add(i == 0 ? "makansissoko" : "makansissoko" + i);
+            }
+            userRepository = (UserRepository) Proxy.newProxyInstance(UserRepository.class.getClassLoader(),
+                    new Class<?>[] {UserRepository.class}, (proxy, method, args) -> {
+                        if (method.getName().equals("existsByUsername")) {
+                            return existing.contains((String) args[0]);
+                        }
+                        throw new UnsupportedOperationException(method.getName());
+                    });
+        }
+
+        UserServiceImpl userService = new UserServiceImpl(userRepository, null, null, null, null, null, null);
+        generateUsername = MethodHandles.privateLookupIn(UserServiceImpl.class, MethodHandles.lookup())
+                .findVirtual(UserServiceImpl.class, "generateUsername",
+                        MethodType.methodType(String.class, String.class, String.class))
+                .bindTo(userService);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    @Benchmark
+    public String generateUsername() throws Throwable {
+        return (String) generateUsername.invokeExact("Makan", "Sissoko");
+    }
+}
@@ -0,0 +1,98 @@
+package com.abdatytch.user_service.benchmark;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import com.abdatytch.user_service.dto.request.UserRequestDTO;
+import com.abdatytch.user_service.model.Administration;
+import com.abdatytch.user_service.model.Department;
+import com.abdatytch.user_service.model.User;
+import com.abdatytch.user_service.validation.UserValidator;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Coût de validation par écriture d'utilisateur
+ * 
+ * Compare la passe unique du pipeline actuel (UserValidator sur le Validator partagé)
+ * à l'ancien enchaînement de createUser : @Valid du contrôleur, revalidation du DTO
+ * puis validation de l'entité User construite. Mesure aussi le coût d'une fabrique
+ * construite à la demande, comme le faisait chaque service.
+ * 
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidationBenchmark {
+
+    private ValidatorFactory factory;
+    private Validator validator;
+    private UserValidator userValidator;
+    private UserRequestDTO request;
+    private User user;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        factory = Validation.buildDefaultValidatorFactory();
+        validator = factory.getValidator();
+        userValidator = new UserValidator(validator);
+
+        BenchmarkContext.Organisation organisation = new BenchmarkContext.Organisation(UUID.randomUUID(), UUID.randomUUID());
+        request = BenchmarkContext.sampleUser(organisation, 1);
+
+        user = new User("makansissoko", request.getFirstName(), request.getLastName(), request.getRole());
+        user.setPassword("$2a$10$abcdefghijklmnopqrstuv");
+        user.setPhoneNumber(request.getPhoneNumber());
+        user.setEmail(request.getEmail());
+        user.setAddress(request.getAddress());
+        user.setBirthDate(request.getBirthDate());
+        user.setBirthPlace(request.getBirthPlace());
+        user.setPosition(request.getPosition());
+        user.setMaritalStatus(request.getMaritalStatus());
+        user.setMatriculeNumber(request.getMatriculeNumber());
+        user.setAdministration(new Administration("Administration Benchmark"));
+        user.setDepartment(new Department("Département Benchmark"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        factory.close();
+    }
+
+    /**
+     * Pipeline actuel : une passe sur les contraintes du DTO
+     */
+    @Benchmark
+    public void singlePass() {
+        userValidator.validate(request);
+    }
+
+    /**
+     * Ancien pipeline : DTO validé deux fois puis entité validée
+     */
+    @Benchmark
+    public void legacyTriplePass(Blackhole blackhole) {
+        blackhole.consume(validator.validate(request));
+        blackhole.consume(validator.validate(request));
+        blackhole.consume(validator.validate(user));
+    }
+
+    /**
+     * Fabrique construite à la demande (métadonnées de contraintes recalculées)
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void freshFactoryPerValidation(Blackhole blackhole) {
+        try (ValidatorFactory fresh = Validation.buildDefaultValidatorFactory()) {
+            blackhole.consume(fresh.getValidator().validate(request));
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.abdatytch.user_service.dataset;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HexFormat;
+import java.util.UUID;
+import com.abdatytch.user_service.serialization.UuidBytes;
+
+/**
+ * Export CSV, une table par fichier, et script de chargement MySQL (LOAD DATA LOCAL INFILE)
+ *
+ * Les identifiants sont écrits en hexadécimal (octets de UuidBytes) et convertis par UNHEX au
+ * chargement ; les champs texte sont entre guillemets (les adresses contiennent des virgules).
+ * Le chargement en masse évite l'analyse d'un INSERT par ligne : c'est la voie la plus rapide
+ * pour plusieurs millions d'utilisateurs.
+ *
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public final class CsvDatasetSink implements DatasetSink {
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private static final String LOAD_SCRIPT = """
+            -- Chargement des fichiers CSV générés ; à exécuter depuis ce répertoire :
+            -- mysql --local-infile=1 -u root -p user_data < load-mysql.sql
+            SET foreign_key_checks = 0;
+            SET unique_checks = 0;
+            LOAD DATA LOCAL INFILE 'administrations.csv' INTO TABLE administrations CHARACTER SET utf8mb4
+                FIELDS TERMINATED BY ',' OPTIONALLY ENCLOSED BY '"' LINES TERMINATED BY '\\n' IGNORE 1 LINES
+                (@id, name) SET id = UNHEX(@id);
+            LOAD DATA LOCAL INFILE 'departments.csv' INTO TABLE departments CHARACTER SET utf8mb4
+                FIELDS TERMINATED BY ',' OPTIONALLY ENCLOSED BY '"' LINES TERMINATED BY '\\n' IGNORE 1 LINES
+                (@id, name, @administration_id)
+                SET id = UNHEX(@id), administration_id = UNHEX(@administration_id);
+            LOAD DATA LOCAL INFILE 'users.csv' INTO TABLE users CHARACTER SET utf8mb4
+                FIELDS TERMINATED BY ',' OPTIONALLY ENCLOSED BY '"' LINES TERMINATED BY '\\n' IGNORE 1 LINES
+                (@id, username, password, first_name, last_name, phone_number, email, address, birth_date,
+                 birth_place, position, marital_status, matricule_number, role, @administration_id, @department_id)
+                SET id = UNHEX(@id), administration_id = UNHEX(@administration_id), department_id = UNHEX(@department_id);
+            SET unique_checks = 1;
+            SET foreign_key_checks = 1;
+            """;
+
+    private final BufferedWriter administrations;
+    private final BufferedWriter departments;
+    private final BufferedWriter users;
+
+    /**
+     * @param directory Répertoire de sortie, créé si besoin ; les fichiers existants sont remplacés
+     */
+    public CsvDatasetSink(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        Files.writeString(directory.resolve("load-mysql.sql"), LOAD_SCRIPT, StandardCharsets.UTF_8);
+        this.administrations = open(directory.resolve("administrations.csv"), "id,name");
+        this.departments = open(directory.resolve("departments.csv"), "id,name,administration_id");
+        this.users = open(directory.resolve("users.csv"),
+                "id,username,password,first_name,last_name,phone_number,email,address,birth_date,birth_place,"
+                + "position,marital_status,matricule_number,role,administration_id,department_id");
+    }
+
+    @Override
+    public void administration(AdministrationRow row) throws IOException {
+        write(administrations, hex(row.id()), quote(row.name()));
+    }
+
+    @Override
+    public void department(DepartmentRow row) throws IOException {
+        write(departments, hex(row.id()), quote(row.name()), hex(row.administrationId()));
+    }
+
+    @Override
+    public void user(UserRow row) throws IOException {
+        write(users, hex(row.id()), quote(row.username()), quote(row.password()), quote(row.firstName()),
+                quote(row.lastName()), row.phoneNumber(), quote(row.email()), quote(row.address()),
+                row.birthDate().toString(), quote(row.birthPlace()), quote(row.position()),
+                quote(row.maritalStatus()), quote(row.matriculeNumber()), row.role(),
+                hex(row.administrationId()), hex(row.departmentId()));
+    }
+
+    @Override
+    public void close() throws IOException {
+        try (administrations; departments; users) {
+            administrations.flush();
+            departments.flush();
+            users.flush();
+        }
+    }
+
+    private static BufferedWriter open(Path file, String header) throws IOException {
+        BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+        writer.write(header);
+        writer.write('\n');
+        return writer;
+    }
+
+    private static void write(BufferedWriter writer, String... fields) throws IOException {
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(fields[i]);
+        }
+        writer.write('\n');
+    }
+
+    private static String hex(UUID id) {return HEX.formatHex(UuidBytes.toBytes(id));}
+
+    private static String quote(String value) {return '"' + value.replace("\"", "\"\"") + '"';}
+}
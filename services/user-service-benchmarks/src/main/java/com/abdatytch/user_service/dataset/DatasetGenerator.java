@@ -0,0 +1,137 @@
+package com.abdatytch.user_service.dataset;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Génération d'un annuaire synthétique en ligne de commande
+ *
+ * Usage : DatasetGenerator [seed=42] [administrations=30] [departments=600] [users=2000000]
+ *         [department-skew=0.8] [surname-skew=1.0] [format=csv|sql|jdbc] [output=target/dataset]
+ *         [jdbc-url=...] [jdbc-user=root] [jdbc-password=root]
+ *
+ * - csv : administrations.csv, departments.csv, users.csv et load-mysql.sql dans le répertoire output ;
+ * - sql : output/dataset.sql (INSERT multi-lignes, MySQL ou H2) ;
+ * - jdbc : insertion par lots dans la base jdbc-url, dont le schéma existe déjà.
+ *
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public final class DatasetGenerator {
+
+    // Base du service (application.yml), INSERT réécrits en requêtes multi-lignes
+    private static final String DEFAULT_JDBC_URL = "jdbc:mysql://localhost:8889/user_data?useSSL=false"
+            + "&allowPublicKeyRetrieval=true&rewriteBatchedStatements=true";
+
+    private DatasetGenerator() {}
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Argument attendu sous la forme clé=valeur : " + arg);
+            }
+            values.put(arg.substring(0, separator).replaceFirst("^--", ""), arg.substring(separator + 1));
+        }
+        DatasetSpec defaults = DatasetSpec.of(0, 1, 1, 0);
+        DatasetSpec spec = new DatasetSpec(
+                Long.parseLong(values.getOrDefault("seed", "42")),
+                Integer.parseInt(values.getOrDefault("administrations", "30")),
+                Integer.parseInt(values.getOrDefault("departments", "600")),
+                Integer.parseInt(values.getOrDefault("users", "2000000")),
+                Double.parseDouble(values.getOrDefault("department-skew", String.valueOf(defaults.departmentSkew()))),
+                Double.parseDouble(values.getOrDefault("surname-skew", String.valueOf(defaults.surnameSkew()))),
+                values.getOrDefault("password", defaults.password()));
+        String format = values.getOrDefault("format", "csv");
+        Path output = Path.of(values.getOrDefault("output", "target/dataset"));
+
+        long start = System.nanoTime();
+        Statistics statistics;
+        switch (format) {
+            case "csv" -> {
+                try (DatasetSink sink = new CsvDatasetSink(output)) {
+                    statistics = generate(spec, sink);
+                }
+            }
+            case "sql" -> {
+                try (DatasetSink sink = new SqlDumpDatasetSink(output.resolve("dataset.sql"))) {
+                    statistics = generate(spec, sink);
+                }
+            }
+            case "jdbc" -> {
+                try (Connection connection = DriverManager.getConnection(
+                        values.getOrDefault("jdbc-url", DEFAULT_JDBC_URL),
+                        values.getOrDefault("jdbc-user", "root"), values.getOrDefault("jdbc-password", "root"));
+                     DatasetSink sink = new JdbcDatasetSink(connection)) {
+                    statistics = generate(spec, sink);
+                }
+            }
+            default -> throw new IllegalArgumentException("Format inconnu (csv, sql ou jdbc) : " + format);
+        }
+        long millis = Math.max(1, Duration.ofNanos(System.nanoTime() - start).toMillis());
+
+        System.out.printf("Graine %d : %d administrations, %d départements, %d utilisateurs (%s) en %d ms, %d lignes/s%n",
+                spec.seed(), spec.administrations(), spec.departments(), spec.users(), format, millis,
+                spec.users() * 1000L / millis);
+        System.out.printf("Plus grand département : %d utilisateurs ; plus petit : %d%n",
+                statistics.largestDepartment(), statistics.smallestDepartment(spec.departments()));
+        System.out.printf("Usernames distincts avant suffixe : %d ; homonymes du plus fréquent : %d%n",
+                statistics.homonyms.size(), statistics.largestHomonymGroup());
+    }
+
+    private static Statistics generate(DatasetSpec spec, DatasetSink sink) throws Exception {
+        Statistics statistics = new Statistics(sink);
+        new SyntheticDataset(spec).generate(statistics);
+        return statistics;
+    }
+
+    /**
+     * Répartition effectivement générée : tailles des départements et groupes d'homonymes
+     */
+    private static final class Statistics implements DatasetSink {
+
+        private final DatasetSink delegate;
+        private final Map<UUID, Integer> departmentSizes = new HashMap<>();
+        private final Map<String, Integer> homonyms = new HashMap<>();
+
+        Statistics(DatasetSink delegate) {this.delegate = delegate;}
+
+        @Override
+        public void administration(AdministrationRow row) throws Exception {delegate.administration(row);}
+
+        @Override
+        public void department(DepartmentRow row) throws Exception {delegate.department(row);}
+
+        @Override
+        public void user(UserRow row) throws Exception {
+            departmentSizes.merge(row.departmentId(), 1, Integer::sum);
+            homonyms.merge((row.firstName() + row.lastName()).toLowerCase(), 1, Integer::sum);
+            delegate.user(row);
+        }
+
+        @Override
+        public void close() {
+            // La destination est fermée par l'appelant
+        }
+
+        int largestDepartment() {
+            return departmentSizes.values().stream().mapToInt(Integer::intValue).max().orElse(0);
+        }
+
+        int smallestDepartment(int departments) {
+            return departmentSizes.size() < departments ? 0
+                    : departmentSizes.values().stream().mapToInt(Integer::intValue).min().orElse(0);
+        }
+
+        int largestHomonymGroup() {
+            return homonyms.values().stream().mapToInt(Integer::intValue).max().orElse(0);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.abdatytch.user_service.dataset;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Destination des lignes générées (base via JDBC, fichiers CSV, script SQL)
+ *
+ * Les lignes arrivent dans l'ordre des dépendances : toutes les administrations,
+ * puis tous les départements, puis les utilisateurs.
+ *
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public interface DatasetSink extends AutoCloseable {
+
+    void administration(AdministrationRow row) throws Exception;
+
+    void department(DepartmentRow row) throws Exception;
+
+    void user(UserRow row) throws Exception;
+
+    /**
+     * Vide les lignes en attente et libère la destination
+     */
+    @Override
+    void close() throws IOException, SQLException;
+
+    /**
+     * Ligne de la table administrations
+     */
+    record AdministrationRow(UUID id, String name) {}
+
+    /**
+     * Ligne de la table departments
+     */
+    record DepartmentRow(UUID id, String name, UUID administrationId) {}
+
+    /**
+     * Ligne de la table users, colonnes dans l'ordre du schéma
+     */
+    record UserRow(UUID id, String username, String password, String firstName, String lastName,
+                   String phoneNumber, String email, String address, LocalDate birthDate, String birthPlace,
+                   String position, String maritalStatus, String matriculeNumber, String role,
+                   UUID administrationId, UUID departmentId) {}
+}
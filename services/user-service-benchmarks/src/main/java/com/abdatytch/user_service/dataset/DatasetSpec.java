@@ -0,0 +1,47 @@
+package com.abdatytch.user_service.dataset;
+
+/**
+ * Paramètres d'un jeu de données synthétique ; à paramètres égaux, les lignes générées sont identiques
+ *
+ * @param seed Graine de tous les tirages (identifiants, noms, répartition)
+ * @param administrations Nombre d'administrations
+ * @param departments Nombre de départements
+ * @param users Nombre d'utilisateurs
+ * @param departmentSkew Exposant de Zipf de la taille des départements (0 : tailles égales)
+ * @param surnameSkew Exposant de Zipf des noms de famille (plus il est grand, plus les homonymes sont nombreux)
+ * @param password Mot de passe commun, haché une fois (BCrypt, sel dérivé de la graine)
+ *
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public record DatasetSpec(long seed, int administrations, int departments, int users,
+                          double departmentSkew, double surnameSkew, String password) {
+
+    /**
+     * Espace des numéros de téléphone (8 chiffres) : borne du nombre d'utilisateurs générés et créés
+     */
+    static final long PHONE_SPACE = 100_000_000L;
+
+    public DatasetSpec {
+        if (administrations <= 0 || departments <= 0 || users < 0) {
+            throw new IllegalArgumentException("Au moins une administration et un département sont requis");
+        }
+        if (users >= PHONE_SPACE / 2) {
+            throw new IllegalArgumentException("Trop d'utilisateurs pour des numéros de téléphone uniques à 8 chiffres");
+        }
+    }
+
+    /**
+     * Répartition par défaut : départements et noms de famille concentrés comme dans l'annuaire réel
+     *
+     * @param seed Graine
+     * @param administrations Nombre d'administrations
+     * @param departments Nombre de départements
+     * @param users Nombre d'utilisateurs
+     * @return paramètres du jeu de données
+     */
+    public static DatasetSpec of(long seed, int administrations, int departments, int users) {
+        return new DatasetSpec(seed, administrations, departments, users, 0.8, 1.0, "Motdepasse@2026");
+    }
+}
@@ -0,0 +1,122 @@
+package com.abdatytch.user_service.dataset;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import com.abdatytch.user_service.serialization.UuidBytes;
+
+/**
+ * Insertion directe par lots JDBC, sans passer par les services ni par Hibernate
+ *
+ * Le schéma doit exister (démarrage préalable du service avec ddl-auto). Sur MySQL, l'option
+ * rewriteBatchedStatements=true de l'URL transforme chaque lot en un INSERT multi-lignes.
+ * Une transaction est validée tous les COMMIT_INTERVAL lots pour borner le journal d'annulation.
+ *
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public final class JdbcDatasetSink implements DatasetSink {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final int COMMIT_INTERVAL = 20;
+
+    private final Connection connection;
+    private final boolean autoCommit;
+    private final PreparedStatement administrations;
+    private final PreparedStatement departments;
+    private final PreparedStatement users;
+    private PreparedStatement pending;
+    private int pendingRows;
+    private int batchesSinceCommit;
+
+    /**
+     * @param connection Connexion ouverte ; son mode autocommit est rétabli à la fermeture, la connexion reste ouverte
+     */
+    public JdbcDatasetSink(Connection connection) throws SQLException {
+        this.connection = connection;
+        this.autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        this.administrations = connection.prepareStatement("insert into administrations (id, name) values (?, ?)");
+        this.departments = connection.prepareStatement(
+                "insert into departments (id, name, administration_id) values (?, ?, ?)");
+        this.users = connection.prepareStatement(
+                "insert into users (id, username, password, first_name, last_name, phone_number, email, address, "
+                + "birth_date, birth_place, position, marital_status, matricule_number, role, administration_id, "
+                + "department_id) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+    }
+
+    @Override
+    public void administration(AdministrationRow row) throws SQLException {
+        administrations.setBytes(1, UuidBytes.toBytes(row.id()));
+        administrations.setString(2, row.name());
+        add(administrations);
+    }
+
+    @Override
+    public void department(DepartmentRow row) throws SQLException {
+        departments.setBytes(1, UuidBytes.toBytes(row.id()));
+        departments.setString(2, row.name());
+        departments.setBytes(3, UuidBytes.toBytes(row.administrationId()));
+        add(departments);
+    }
+
+    @Override
+    public void user(UserRow row) throws SQLException {
+        users.setBytes(1, UuidBytes.toBytes(row.id()));
+        users.setString(2, row.username());
+        users.setString(3, row.password());
+        users.setString(4, row.firstName());
+        users.setString(5, row.lastName());
+        users.setString(6, row.phoneNumber());
+        users.setString(7, row.email());
+        users.setString(8, row.address());
+        users.setDate(9, Date.valueOf(row.birthDate()));
+        users.setString(10, row.birthPlace());
+        users.setString(11, row.position());
+        users.setString(12, row.maritalStatus());
+        users.setString(13, row.matriculeNumber());
+        users.setString(14, row.role());
+        users.setBytes(15, UuidBytes.toBytes(row.administrationId()));
+        users.setBytes(16, UuidBytes.toBytes(row.departmentId()));
+        add(users);
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try {
+            flush();
+            connection.commit();
+        } finally {
+            administrations.close();
+            departments.close();
+            users.close();
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    private void add(PreparedStatement statement) throws SQLException {
+        // Changement de table : le lot précédent part avant la première ligne qui le référence
+        if (pending != statement) {
+            flush();
+            pending = statement;
+        }
+        statement.addBatch();
+        if (++pendingRows == BATCH_SIZE) {
+            flush();
+        }
+    }
+
+    private void flush() throws SQLException {
+        if (pendingRows == 0) {
+            return;
+        }
+        pending.executeBatch();
+        pendingRows = 0;
+        if (++batchesSinceCommit == COMMIT_INTERVAL) {
+            connection.commit();
+            batchesSinceCommit = 0;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.abdatytch.user_service.dataset;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.HexFormat;
+import java.util.UUID;
+import com.abdatytch.user_service.serialization.UuidBytes;
+
+/**
+ * Script SQL d'INSERT multi-lignes, rejouable sur MySQL comme sur H2 (RUNSCRIPT)
+ *
+ * Identifiants en littéraux binaires X'...', dates en littéraux DATE '...', chaînes
+ * échappées selon la norme (apostrophe doublée). Un INSERT regroupe ROWS_PER_INSERT lignes.
+ *
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public final class SqlDumpDatasetSink implements DatasetSink {
+
+    private static final int ROWS_PER_INSERT = 500;
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final BufferedWriter writer;
+    private String pendingInsert;
+    private int pendingRows;
+
+    /**
+     * @param file Fichier de sortie (répertoire parent créé si besoin), remplacé s'il existe
+     */
+    public SqlDumpDatasetSink(Path file) throws IOException {
+        if (file.toAbsolutePath().getParent() != null) {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+        }
+        this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void administration(AdministrationRow row) throws IOException {
+        values("insert into administrations (id, name) values",
+                binary(row.id()), text(row.name()));
+    }
+
+    @Override
+    public void department(DepartmentRow row) throws IOException {
+        values("insert into departments (id, name, administration_id) values",
+                binary(row.id()), text(row.name()), binary(row.administrationId()));
+    }
+
+    @Override
+    public void user(UserRow row) throws IOException {
+        values("insert into users (id, username, password, first_name, last_name, phone_number, email, address, "
+                        + "birth_date, birth_place, position, marital_status, matricule_number, role, "
+                        + "administration_id, department_id) values",
+                binary(row.id()), text(row.username()), text(row.password()), text(row.firstName()),
+                text(row.lastName()), text(row.phoneNumber()), text(row.email()), text(row.address()),
+                date(row.birthDate()), text(row.birthPlace()), text(row.position()), text(row.maritalStatus()),
+                text(row.matriculeNumber()), text(row.role()), binary(row.administrationId()),
+                binary(row.departmentId()));
+    }
+
+    @Override
+    public void close() throws IOException {
+        try (writer) {
+            endInsert();
+        }
+    }
+
+    private void values(String insert, String... values) throws IOException {
+        if (pendingRows == 0 || pendingRows == ROWS_PER_INSERT || !insert.equals(pendingInsert)) {
+            endInsert();
+            writer.write(insert);
+            pendingInsert = insert;
+        } else {
+            writer.write(',');
+        }
+        writer.write("\n(");
+        writer.write(String.join(", ", values));
+        writer.write(')');
+        pendingRows++;
+    }
+
+    private void endInsert() throws IOException {
+        if (pendingRows > 0) {
+            writer.write(";\n");
+            pendingRows = 0;
+        }
+    }
+
+    private static String binary(UUID id) {return "X'" + HEX.formatHex(UuidBytes.toBytes(id)) + "'";}
+
+    private static String text(String value) {return "'" + value.replace("'", "''") + "'";}
+
+    private static String date(LocalDate value) {return "DATE '" + value + "'";}
+}
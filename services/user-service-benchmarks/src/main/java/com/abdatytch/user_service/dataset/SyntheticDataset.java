@@ -0,0 +1,292 @@
+package com.abdatytch.user_service.dataset;
+
+import java.text.Normalizer;
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import com.abdatytch.user_service.dataset.DatasetSink.AdministrationRow;
+import com.abdatytch.user_service.dataset.DatasetSink.DepartmentRow;
+import com.abdatytch.user_service.dataset.DatasetSink.UserRow;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+/**
+ * Générateur déterministe d'un annuaire synthétique à l'échelle de la production
+ *
+ * Répartitions reproduites :
+ * - taille des départements selon une loi de Zipf (quelques grands départements, une longue traîne) ;
+ * - noms de famille et prénoms partagés, tirés selon une loi de Zipf : les homonymes sont nombreux
+ *   et les usernames suivent la règle de UserServiceImpl.generateUsername (base, base1, base2...),
+ *   ce qui reproduit le sondage existsByUsername des créations ;
+ * - téléphones, emails et matricules uniques : permutation affine du numéro de ligne, sans
+ *   ensemble de valeurs déjà tirées, valable aussi pour les créations ultérieures (numéros suivants).
+ *
+ * Chaque famille de tirages a son propre flux, dérivé de la graine : ajouter des utilisateurs ne
+ * change ni les identifiants des administrations ni ceux des départements.
+ *
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public final class SyntheticDataset {
+
+    private static final String[] LAST_NAMES = {
+        "Traoré", "Coulibaly", "Diarra", "Keita", "Diallo", "Koné", "Touré", "Sissoko", "Camara", "Sangaré",
+        "Martin", "Bernard", "Dubois", "Thomas", "Robert", "Richard", "Petit", "Durand", "Leroy", "Moreau",
+        "Cissé", "Dembélé", "Doumbia", "Maïga", "Sidibé", "Konaté", "Sacko", "Kanté", "Fofana", "Ballo",
+        "Simon", "Laurent", "Lefebvre", "Michel", "Garcia", "David", "Bertrand", "Roux", "Vincent", "Fournier",
+        "Samaké", "Dicko", "Bagayoko", "Tangara", "Guindo", "Dao", "Kouyaté", "Sow", "Bah", "Haïdara"
+    };
+
+    private static final String[] FIRST_NAMES = {
+        "Moussa", "Aminata", "Mamadou", "Fatoumata", "Ibrahim", "Mariam", "Seydou", "Awa", "Oumar", "Kadiatou",
+        "Jean", "Marie", "Pierre", "Nathalie", "Michel", "Isabelle", "Philippe", "Sylvie", "Alain", "Catherine",
+        "Makan", "Assétou", "Boubacar", "Djénéba", "Abdoulaye", "Rokia", "Souleymane", "Oumou", "Bakary", "Hawa",
+        "Mohamed Lamine", "Marie-Claire", "Adama", "Salimata", "Youssouf", "Coumba", "Lassana", "Nana", "Amadou", "Bintou"
+    };
+
+    private static final String[] CITIES = {
+        "Bamako", "Sikasso", "Ségou", "Mopti", "Kayes", "Koutiala", "Kati", "Gao", "San", "Tombouctou",
+        "Koulikoro", "Kidal", "Bougouni", "Nioro du Sahel", "Dakar", "Paris", "Abidjan"
+    };
+
+    private static final String[] DISTRICTS = {
+        "ACI 2000", "Hamdallaye", "Badalabougou", "Lafiabougou", "Kalaban Coura", "Magnambougou",
+        "Sébénikoro", "Niamakoro", "Baco Djicoroni", "Hippodrome", "Quinzambougou", "Missira"
+    };
+
+    private static final String[] POSITIONS = {
+        "Agent", "Agent", "Agent", "Secrétaire", "Comptable", "Chef de section", "Chef de division",
+        "Chargé d'études", "Inspecteur", "Technicien", "Juriste", "Conseiller technique", "Directeur"
+    };
+
+    private static final String[] MARITAL_STATUSES = {
+        "Marié", "Marié", "Marié", "Mariée", "Mariée", "Célibataire", "Célibataire", "Célibataire", "Divorcé", "Veuf"
+    };
+
+    private static final String[] MINISTRIES = {
+        "Ministère de la Santé", "Ministère de l'Éducation nationale", "Ministère de l'Économie et des Finances",
+        "Ministère de la Justice", "Ministère de l'Agriculture", "Ministère des Affaires étrangères",
+        "Ministère de la Défense", "Ministère de la Sécurité", "Ministère des Transports",
+        "Ministère de l'Énergie et de l'Eau", "Ministère de la Fonction publique", "Ministère de la Communication"
+    };
+
+    private static final String[] DEPARTMENT_KINDS = {
+        "Direction des ressources humaines", "Direction des finances et du matériel", "Cellule informatique",
+        "Direction de la planification", "Inspection", "Secrétariat général", "Division des affaires juridiques",
+        "Direction régionale", "Service des archives", "Cellule de communication"
+    };
+
+    // Permutations affines des numéros de ligne (multiplicateurs premiers, donc inversibles modulo 10^8 et 10^9)
+    private static final long PHONE_MULTIPLIER = 15_485_863L;
+    private static final long MATRICULE_SPACE = 1_000_000_000L;
+    private static final long MATRICULE_MULTIPLIER = 982_451_653L;
+
+    private static final String EMAIL_DOMAIN = "@gouv.ml";
+    private static final LocalDate OLDEST_BIRTH_DATE = LocalDate.of(1960, 1, 1);
+    private static final int BIRTH_DATE_RANGE_DAYS = 44 * 365;
+
+    private final DatasetSpec spec;
+    private final ZipfDistribution lastNames;
+    private final ZipfDistribution firstNames;
+    private final ZipfDistribution cities;
+    private final long phoneOffset;
+    private final long matriculeOffset;
+
+    public SyntheticDataset(DatasetSpec spec) {
+        this.spec = spec;
+        this.lastNames = new ZipfDistribution(LAST_NAMES.length, spec.surnameSkew());
+        this.firstNames = new ZipfDistribution(FIRST_NAMES.length, spec.surnameSkew() * 0.7);
+        this.cities = new ZipfDistribution(CITIES.length, 1.2);
+        SplittableRandom offsets = new SplittableRandom(spec.seed());
+        this.phoneOffset = offsets.nextLong(DatasetSpec.PHONE_SPACE);
+        this.matriculeOffset = offsets.nextLong(MATRICULE_SPACE);
+    }
+
+    public DatasetSpec spec() {return spec;}
+
+    /**
+     * Génère administrations, départements puis utilisateurs vers la destination
+     *
+     * @param sink Destination des lignes (fermée par l'appelant)
+     */
+    public void generate(DatasetSink sink) throws Exception {
+        SplittableRandom root = new SplittableRandom(spec.seed());
+        SplittableRandom organisationRandom = root.split();
+        SplittableRandom userRandom = root.split();
+
+        UUID[] administrationIds = new UUID[spec.administrations()];
+        for (int i = 0; i < administrationIds.length; i++) {
+            administrationIds[i] = uuid(organisationRandom);
+            sink.administration(new AdministrationRow(administrationIds[i], administrationName(i)));
+        }
+
+        // Chaque administration reçoit au moins un département, les suivants vont surtout aux premières
+        ZipfDistribution administrationSizes = new ZipfDistribution(administrationIds.length, 0.8);
+        UUID[] departmentIds = new UUID[spec.departments()];
+        UUID[] departmentAdministrations = new UUID[spec.departments()];
+        for (int i = 0; i < departmentIds.length; i++) {
+            departmentIds[i] = uuid(organisationRandom);
+            departmentAdministrations[i] = administrationIds[i < administrationIds.length
+                    ? i : administrationSizes.sample(organisationRandom)];
+            sink.department(new DepartmentRow(departmentIds[i],
+                    DEPARTMENT_KINDS[i % DEPARTMENT_KINDS.length] + " " + (i + 1), departmentAdministrations[i]));
+        }
+
+        // Rang de taille de chaque département mélangé : le plus grand n'est pas toujours le premier créé
+        int[] departmentBySize = shuffledIndexes(departmentIds.length, organisationRandom);
+        ZipfDistribution departmentSizes = new ZipfDistribution(departmentIds.length, spec.departmentSkew());
+
+        String passwordHash = passwordHash(spec.password(), spec.seed());
+        // Bases de username et parties d'email calculées une fois par couple de noms, compteur d'homonymes par couple
+        String[][] usernameBases = new String[FIRST_NAMES.length][LAST_NAMES.length];
+        String[][] emailPrefixes = new String[FIRST_NAMES.length][LAST_NAMES.length];
+        int[][] homonyms = new int[FIRST_NAMES.length][LAST_NAMES.length];
+        for (int f = 0; f < FIRST_NAMES.length; f++) {
+            for (int l = 0; l < LAST_NAMES.length; l++) {
+                usernameBases[f][l] = (FIRST_NAMES[f].toLowerCase() + LAST_NAMES[l].toLowerCase()).replaceAll("\\s+", "");
+                emailPrefixes[f][l] = ascii(FIRST_NAMES[f]) + "." + ascii(LAST_NAMES[l]) + ".";
+            }
+        }
+        for (long n = 0; n < spec.users(); n++) {
+            int f = firstNames.sample(userRandom);
+            int l = lastNames.sample(userRandom);
+            int department = departmentBySize[departmentSizes.sample(userRandom)];
+            // Même règle que UserServiceImpl.generateUsername, sans requête : le compteur donne le premier suffixe libre
+            int homonym = homonyms[f][l]++;
+            sink.user(new UserRow(
+                    uuid(userRandom),
+                    homonym == 0 ? usernameBases[f][l] : usernameBases[f][l] + homonym,
+                    passwordHash,
+                    FIRST_NAMES[f],
+                    LAST_NAMES[l],
+                    phone(n),
+                    emailPrefixes[f][l] + n + EMAIL_DOMAIN,
+                    address(userRandom),
+                    OLDEST_BIRTH_DATE.plusDays(userRandom.nextInt(BIRTH_DATE_RANGE_DAYS)),
+                    CITIES[cities.sample(userRandom)],
+                    POSITIONS[userRandom.nextInt(POSITIONS.length)],
+                    MARITAL_STATUSES[userRandom.nextInt(MARITAL_STATUSES.length)],
+                    matricule(n),
+                    role(userRandom),
+                    departmentAdministrations[department],
+                    departmentIds[department]));
+        }
+    }
+
+    /**
+     * Prénom selon la répartition du jeu de données
+     *
+     * @param uniform Tirage uniforme dans [0, 1)
+     * @return prénom
+     */
+    public String firstName(double uniform) {return FIRST_NAMES[firstNames.sample(uniform)];}
+
+    /**
+     * Nom de famille selon la répartition du jeu de données (les plus fréquents ont le plus d'homonymes)
+     *
+     * @param uniform Tirage uniforme dans [0, 1)
+     * @return nom de famille
+     */
+    public String lastName(double uniform) {return LAST_NAMES[lastNames.sample(uniform)];}
+
+    /**
+     * Téléphone du n-ième utilisateur ; unique pour tout n inférieur à 10^8, y compris au-delà des lignes générées
+     *
+     * @param n Numéro de l'utilisateur
+     * @return numéro à 8 chiffres
+     */
+    public String phone(long n) {
+        return digits(Math.floorMod(n * PHONE_MULTIPLIER + phoneOffset, DatasetSpec.PHONE_SPACE), 8);
+    }
+
+    /**
+     * Matricule du n-ième utilisateur, unique (permutation des numéros sur 9 chiffres)
+     *
+     * @param n Numéro de l'utilisateur
+     * @return matricule
+     */
+    public String matricule(long n) {
+        return "MAT" + digits(Math.floorMod(n * MATRICULE_MULTIPLIER + matriculeOffset, MATRICULE_SPACE), 9);
+    }
+
+    /**
+     * Email du n-ième utilisateur, unique par son numéro
+     *
+     * @param firstName Prénom
+     * @param lastName Nom de famille
+     * @param n Numéro de l'utilisateur
+     * @return adresse prenom.nom.n@gouv.ml, sans accents ni espaces
+     */
+    public String email(String firstName, String lastName, long n) {
+        return ascii(firstName) + "." + ascii(lastName) + "." + n + EMAIL_DOMAIN;
+    }
+
+    /**
+     * Hachage BCrypt déterministe : le sel est dérivé de la graine, les fichiers générés sont reproductibles
+     *
+     * @param password Mot de passe en clair
+     * @param seed Graine du jeu de données
+     * @return hachage $2a$10$
+     */
+    static String passwordHash(String password, long seed) {
+        String alphabet = "./ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
+        SplittableRandom random = new SplittableRandom(seed);
+        StringBuilder salt = new StringBuilder("$2a$10$");
+        for (int i = 0; i < 22; i++) {
+            salt.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return BCrypt.hashpw(password, salt.toString());
+    }
+
+    private static String administrationName(int i) {
+        return i < MINISTRIES.length ? MINISTRIES[i] : "Direction nationale " + (i - MINISTRIES.length + 1);
+    }
+
+    private static String address(SplittableRandom random) {
+        return "Rue " + (1 + random.nextInt(600)) + ", " + DISTRICTS[random.nextInt(DISTRICTS.length)] + ", Bamako";
+    }
+
+    private static String role(SplittableRandom random) {
+        int draw = random.nextInt(1000);
+        return draw == 0 ? "ADMIN" : draw < 50 ? "MANAGER" : "USER";
+    }
+
+    // Équivalent de String.format("%0" + width + "d"), sans analyse du format à chaque ligne
+    private static String digits(long value, int width) {
+        char[] chars = new char[width];
+        for (int i = width - 1; i >= 0; i--) {
+            chars[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return new String(chars);
+    }
+
+    private static String ascii(String name) {
+        return Normalizer.normalize(name, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("[^a-z]", "");
+    }
+
+    private static UUID uuid(SplittableRandom random) {
+        // Version 4, variante IETF, comme UUID.randomUUID()
+        long mostSignificant = (random.nextLong() & 0xFFFFFFFFFFFF0FFFL) | 0x0000000000004000L;
+        long leastSignificant = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSignificant, leastSignificant);
+    }
+
+    private static int[] shuffledIndexes(int size, SplittableRandom random) {
+        int[] indexes = new int[size];
+        for (int i = 0; i < size; i++) {
+            indexes[i] = i;
+        }
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = indexes[i];
+            indexes[i] = indexes[j];
+            indexes[j] = swap;
+        }
+        return indexes;
+    }
+}
@@ -0,0 +1,45 @@
+package com.abdatytch.user_service.dataset;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Loi de Zipf sur les rangs 0..n-1 : le rang k est tiré avec un poids 1 / (k + 1)^s
+ *
+ * Les poids cumulés sont calculés une fois ; un tirage est une recherche dichotomique.
+ * Un exposant nul donne une loi uniforme, un exposant de 1 une forte concentration
+ * sur les premiers rangs (noms de famille, grands départements).
+ *
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+final class ZipfDistribution {
+
+    private final double[] cumulative;
+
+    ZipfDistribution(int size, double exponent) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("La loi de Zipf requiert au moins un rang");
+        }
+        cumulative = new double[size];
+        double total = 0;
+        for (int k = 0; k < size; k++) {
+            total += 1 / Math.pow(k + 1, exponent);
+            cumulative[k] = total;
+        }
+    }
+
+    int sample(SplittableRandom random) {return sample(random.nextDouble());}
+
+    /**
+     * Rang correspondant à un tirage uniforme
+     *
+     * @param uniform Valeur dans [0, 1)
+     * @return rang tiré
+     */
+    int sample(double uniform) {
+        int index = Arrays.binarySearch(cumulative, uniform * cumulative[cumulative.length - 1]);
+        return Math.min(index >= 0 ? index : -index - 1, cumulative.length - 1);
+    }
+}
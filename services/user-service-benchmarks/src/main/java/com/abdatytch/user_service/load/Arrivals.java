@@ -0,0 +1,67 @@
+package com.abdatytch.user_service.load;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Processus d'arrivée d'un modèle ouvert : intervalle entre deux arrivées successives
+ * 
+ * Les arrivées ne dépendent pas des réponses : un service ralenti accumule des requêtes
+ * en vol au lieu de ralentir le générateur.
+ * 
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+interface Arrivals {
+
+    /**
+     * @return nanosecondes jusqu'à l'arrivée suivante
+     */
+    long nextGapNanos();
+
+    /**
+     * @return débit moyen visé (arrivées par seconde)
+     */
+    double rate();
+
+    /**
+     * Arrivées de Poisson (intervalles exponentiels) au débit moyen donné
+     * 
+     * @param perSecond Débit moyen
+     * @return processus d'arrivée
+     */
+    static Arrivals poisson(double perSecond) {
+        return new Arrivals() {
+            @Override
+            public long nextGapNanos() {
+                return (long) (-Math.log(1 - ThreadLocalRandom.current().nextDouble()) / perSecond * 1e9);
+            }
+
+            @Override
+            public double rate() {return perSecond;}
+        };
+    }
+
+    /**
+     * Rafales : size arrivées simultanées toutes les every
+     * 
+     * @param size Taille d'une rafale
+     * @param every Intervalle entre deux rafales
+     * @return processus d'arrivée
+     */
+    static Arrivals bursts(int size, Duration every) {
+        return new Arrivals() {
+            private int position;
+
+            @Override
+            public long nextGapNanos() {
+                position = (position + 1) % size;
+                return position == 0 ? every.toNanos() : 0;
+            }
+
+            @Override
+            public double rate() {return size / (every.toNanos() / 1e9);}
+        };
+    }
+}
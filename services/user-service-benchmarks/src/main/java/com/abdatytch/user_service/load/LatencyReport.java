@@ -0,0 +1,126 @@
+package com.abdatytch.user_service.load;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * Latences (HdrHistogram), débits et erreurs par opération, et contrôle des seuils
+ * 
+ * La latence est mesurée depuis l'instant d'arrivée prévu par le modèle ouvert, et non
+ * depuis l'envoi effectif : une requête retardée par la saturation du client ou du
+ * service compte son attente (pas d'omission coordonnée).
+ * 
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+final class LatencyReport {
+
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private final Map<String, OperationStats> operations = new ConcurrentHashMap<>();
+
+    /**
+     * Statistiques d'une opération ; les histogrammes sont extraits en fin de mesure
+     */
+    static final class OperationStats {
+        final String name;
+        final boolean write;
+        final Recorder recorder = new Recorder(MAX_LATENCY_MICROS, 3);
+        final LongAdder errors = new LongAdder();
+        final LongAdder dropped = new LongAdder();
+        final LongAdder scheduled = new LongAdder();
+        Histogram histogram;
+
+        OperationStats(String name, boolean write) {
+            this.name = name;
+            this.write = write;
+        }
+    }
+
+    OperationStats stats(TrafficMix.Operation operation) {
+        return operations.computeIfAbsent(operation.name(), name -> new OperationStats(name, operation.write()));
+    }
+
+    void scheduled(OperationStats stats) {
+        stats.scheduled.increment();
+    }
+
+    void completed(OperationStats stats, long latencyNanos, int status) {
+        stats.recorder.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), MAX_LATENCY_MICROS));
+        if (status >= 400) {
+            stats.errors.increment();
+        }
+    }
+
+    void failed(OperationStats stats) {
+        stats.errors.increment();
+    }
+
+    void dropped(OperationStats stats) {
+        stats.dropped.increment();
+    }
+
+    /**
+     * Clôt la mesure : extrait les histogrammes
+     */
+    void close() {
+        operations.values().forEach(stats -> stats.histogram = stats.recorder.getIntervalHistogram());
+    }
+
+    void print(PrintStream out, Duration measured) {
+        double seconds = measured.toNanos() / 1e9;
+        out.printf("%n%-52s %9s %9s %8s %8s %8s %8s %9s %7s %7s%n", "Opération", "visé/s", "servi/s",
+                "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "erreurs", "abandon");
+        operations.values().stream().sorted((a, b) -> a.name.compareTo(b.name)).forEach(stats -> {
+            Histogram h = stats.histogram;
+            out.printf("%-52s %9.1f %9.1f %8.1f %8.1f %8.1f %8.1f %9.1f %7d %7d%n", stats.name,
+                    stats.scheduled.sum() / seconds, h.getTotalCount() / seconds,
+                    ms(h.getValueAtPercentile(50)), ms(h.getValueAtPercentile(90)), ms(h.getValueAtPercentile(99)),
+                    ms(h.getValueAtPercentile(99.9)), ms(h.getMaxValue()), stats.errors.sum(), stats.dropped.sum());
+        });
+    }
+
+    /**
+     * @param options Seuils de la campagne
+     * @return seuils dépassés, vide si la campagne est réussie
+     */
+    List<String> violations(LoadOptions options) {
+        List<String> violations = new ArrayList<>();
+        for (OperationStats stats : operations.values()) {
+            Histogram h = stats.histogram;
+            long scheduled = stats.scheduled.sum();
+            if (scheduled == 0) {
+                continue;
+            }
+            Duration limit = stats.write ? options.maxP99Write() : options.maxP99Read();
+            long p99 = h.getValueAtPercentile(99);
+            if (p99 > limit.toNanos() / 1000) {
+                violations.add(String.format("%s : p99 %.1f ms > %d ms", stats.name, ms(p99), limit.toMillis()));
+            }
+            double errorRate = (double) (stats.errors.sum() + stats.dropped.sum()) / scheduled;
+            if (errorRate > options.maxErrorRate()) {
+                violations.add(String.format("%s : taux d'erreur %.2f %% > %.2f %%", stats.name,
+                        errorRate * 100, options.maxErrorRate() * 100));
+            }
+            double served = (double) h.getTotalCount() / scheduled;
+            if (served < options.minThroughputRatio()) {
+                violations.add(String.format("%s : débit servi %.1f %% du débit visé < %.1f %%", stats.name,
+                        served * 100, options.minThroughputRatio() * 100));
+            }
+        }
+        return violations;
+    }
+
+    private static double ms(long micros) {
+        return micros / 1000.0;
+    }
+}
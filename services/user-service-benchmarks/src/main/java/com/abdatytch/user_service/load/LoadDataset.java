@@ -0,0 +1,146 @@
+package com.abdatytch.user_service.load;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.sql.DataSource;
+import com.abdatytch.user_service.dataset.DatasetSink;
+import com.abdatytch.user_service.dataset.DatasetSpec;
+import com.abdatytch.user_service.dataset.JdbcDatasetSink;
+import com.abdatytch.user_service.dataset.SyntheticDataset;
+
+/**
+ * Jeu de données de la campagne de charge et tirage des paramètres de requête
+ *
+ * Les lignes viennent du générateur SyntheticDataset (départements de tailles inégales,
+ * homonymes fréquents) et sont insérées par lots JDBC, sans passer par les services : le
+ * hachage BCrypt de chaque mot de passe rendrait l'amorçage prohibitif. Seul un échantillon
+ * des identifiants d'utilisateurs est conservé pour le tirage des requêtes.
+ *
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+final class LoadDataset {
+
+    private static final int USER_SAMPLE_SIZE = 100_000;
+
+    private final SyntheticDataset generator;
+    private final List<UUID> administrationIds;
+    private final List<UUID> departmentIds;
+    private final List<UUID> departmentAdministrations;
+    private final List<UUID> userIds;
+    // Numérotation des créations : téléphone, email et matricule uniques après les lignes générées
+    private final AtomicLong sequence;
+
+    private LoadDataset(SyntheticDataset generator, Collector collector) {
+        this.generator = generator;
+        this.administrationIds = collector.administrationIds;
+        this.departmentIds = collector.departmentIds;
+        this.departmentAdministrations = collector.departmentAdministrations;
+        this.userIds = collector.userSample;
+        this.sequence = new AtomicLong(generator.spec().users());
+    }
+
+    /**
+     * Génère et insère administrations, départements et utilisateurs
+     *
+     * @param dataSource DataSource du service démarré (schéma créé)
+     * @param options Graine et volumes à générer
+     * @return jeu de données inséré
+     */
+    static LoadDataset seed(DataSource dataSource, LoadOptions options) throws Exception {
+        SyntheticDataset generator = new SyntheticDataset(DatasetSpec.of(options.seed(),
+                options.administrations(), options.departments(), options.users()));
+        Collector collector;
+        try (Connection connection = dataSource.getConnection();
+             JdbcDatasetSink sink = new JdbcDatasetSink(connection)) {
+            collector = new Collector(sink, options.seed());
+            generator.generate(collector);
+        }
+        return new LoadDataset(generator, collector);
+    }
+
+    UUID randomUser() {return userIds.get(ThreadLocalRandom.current().nextInt(userIds.size()));}
+
+    UUID randomAdministration() {return administrationIds.get(ThreadLocalRandom.current().nextInt(administrationIds.size()));}
+
+    String randomLastName() {return generator.lastName(ThreadLocalRandom.current().nextDouble()).toLowerCase();}
+
+    /**
+     * Corps JSON d'une création d'utilisateur valide et unique ; les noms suivent la répartition
+     * du jeu de données, le username généré par le service doit donc contourner les homonymes
+     *
+     * @return requête de création sérialisée
+     */
+    String nextCreateBody() {
+        long n = sequence.getAndIncrement();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String firstName = generator.firstName(random.nextDouble());
+        String lastName = generator.lastName(random.nextDouble());
+        int department = random.nextInt(departmentIds.size());
+        return """
+                {"firstname":"%s","lastName":"%s","role":"USER","administrationId":"%s","departmentId":"%s",\
+                "phoneNumber":"%s","email":"%s","address":"Rue 100, ACI 2000, Bamako","birthDate":"1990-01-01",\
+                "birthPlace":"Bamako","position":"Agent","maritalStatus":"Célibataire","matriculeNumber":"%s"}"""
+                .formatted(firstName, lastName, departmentAdministrations.get(department), departmentIds.get(department),
+                        generator.phone(n), generator.email(firstName, lastName, n), generator.matricule(n));
+    }
+
+    /**
+     * Transmet les lignes à l'insertion JDBC et retient les identifiants utiles au tirage :
+     * toutes les administrations et tous les départements, un échantillon uniforme des utilisateurs
+     */
+    private static final class Collector implements DatasetSink {
+
+        private final List<UUID> administrationIds = new ArrayList<>();
+        private final List<UUID> departmentIds = new ArrayList<>();
+        private final List<UUID> departmentAdministrations = new ArrayList<>();
+        private final List<UUID> userSample = new ArrayList<>();
+        private final DatasetSink delegate;
+        private final SplittableRandom sampling;
+        private long users;
+
+        Collector(DatasetSink delegate, long seed) {
+            this.delegate = delegate;
+            this.sampling = new SplittableRandom(seed);
+        }
+
+        @Override
+        public void administration(AdministrationRow row) throws Exception {
+            administrationIds.add(row.id());
+            delegate.administration(row);
+        }
+
+        @Override
+        public void department(DepartmentRow row) throws Exception {
+            departmentIds.add(row.id());
+            departmentAdministrations.add(row.administrationId());
+            delegate.department(row);
+        }
+
+        @Override
+        public void user(UserRow row) throws Exception {
+            // Échantillonnage par réservoir : chaque utilisateur a la même probabilité d'être retenu
+            if (userSample.size() < USER_SAMPLE_SIZE) {
+                userSample.add(row.id());
+            } else {
+                long slot = sampling.nextLong(users + 1);
+                if (slot < USER_SAMPLE_SIZE) {
+                    userSample.set((int) slot, row.id());
+                }
+            }
+            users++;
+            delegate.user(row);
+        }
+
+        @Override
+        public void close() {
+            // La destination est fermée par l'appelant
+        }
+    }
+}
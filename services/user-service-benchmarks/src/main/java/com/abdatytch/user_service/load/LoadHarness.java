@@ -0,0 +1,75 @@
+package com.abdatytch.user_service.load;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javax.sql.DataSource;
+import com.abdatytch.user_service.UserServiceApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Campagne de charge du user-service
+ * 
+ * Démarre le service (H2 en mémoire ou MySQL local), génère un jeu de données, applique
+ * les mélanges de trafic en modèle ouvert (chauffe puis mesure), affiche latences et
+ * débits par opération et termine en erreur (code 1) si un seuil est dépassé.
+ * 
+ * Usage : LoadHarness [database=h2|mysql] [mix=all|directory|creates|search] [rate-scale=1]
+ *         [warmup=10s] [duration=60s] [seed=42] [users=50000] [max-p99-read=200ms] [max-p99-write=2s] ...
+ * 
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public final class LoadHarness {
+
+    private LoadHarness() {}
+
+    public static void main(String[] args) throws Exception {
+        LoadOptions options = LoadOptions.parse(args);
+        List<TrafficMix> mixes = TrafficMix.select(options.mix(), options.rateScale());
+
+        List<String> violations;
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(UserServiceApplication.class)
+                .profiles("load", "load-" + options.database())
+                .logStartupInfo(false)
+                .run()) {
+            long seedStart = System.nanoTime();
+            LoadDataset dataset = LoadDataset.seed(context.getBean(DataSource.class), options);
+            System.out.printf("Jeu de données (graine %d) : %d administrations, %d départements, %d utilisateurs en %d ms%n",
+                    options.seed(), options.administrations(), options.departments(), options.users(),
+                    Duration.ofNanos(System.nanoTime() - seedStart).toMillis());
+
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            ExecutorService responses = Executors.newFixedThreadPool(8);
+            HttpClient httpClient = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(responses)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+            OpenModelDriver driver = new OpenModelDriver(httpClient, baseUrl, dataset, options.maxInFlight());
+
+            System.out.printf("Chauffe %s, mesure %s, mélanges %s%n", options.warmup(), options.duration(),
+                    mixes.stream().map(mix -> mix.name() + " (" + Math.round(mix.arrivals().rate()) + "/s)").toList());
+            driver.run(mixes, options.warmup(), new LatencyReport());
+
+            LatencyReport report = new LatencyReport();
+            driver.run(mixes, options.duration(), report);
+            report.close();
+            report.print(System.out, options.duration());
+            violations = report.violations(options);
+            responses.shutdownNow();
+        }
+
+        if (violations.isEmpty()) {
+            System.out.println("\nSeuils respectés");
+        } else {
+            System.out.println("\nSeuils dépassés :");
+            violations.forEach(violation -> System.out.println("  - " + violation));
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.abdatytch.user_service.load;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.boot.convert.DurationStyle;
+
+/**
+ * Paramètres d'une campagne de charge, lus sous la forme « clé=valeur »
+ * 
+ * @param database Base cible : h2 (mémoire, comme application-test.properties) ou mysql (instance locale)
+ * @param mix Mélange de trafic : directory, creates, search ou all (les trois simultanément)
+ * @param rateScale Multiplicateur des débits d'arrivée de chaque mélange
+ * @param warmup Durée de chauffe, exclue des mesures
+ * @param duration Durée de mesure
+ * @param seed Graine du jeu de données généré
+ * @param administrations Nombre d'administrations générées
+ * @param departments Nombre de départements générés
+ * @param users Nombre d'utilisateurs générés
+ * @param maxInFlight Requêtes en vol au-delà desquelles une arrivée est abandonnée (client saturé)
+ * @param maxP99Read Seuil du 99e centile des lectures
+ * @param maxP99Write Seuil du 99e centile des écritures
+ * @param maxErrorRate Part maximale de réponses en erreur (4xx, 5xx, abandons)
+ * @param minThroughputRatio Part minimale du débit visé effectivement servie
+ * 
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+record LoadOptions(String database, String mix, double rateScale, Duration warmup, Duration duration,
+                   long seed, int administrations, int departments, int users, int maxInFlight,
+                   Duration maxP99Read, Duration maxP99Write, double maxErrorRate, double minThroughputRatio) {
+
+    static LoadOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Argument attendu sous la forme clé=valeur : " + arg);
+            }
+            values.put(arg.substring(0, separator).replaceFirst("^--", ""), arg.substring(separator + 1));
+        }
+        return new LoadOptions(
+                values.getOrDefault("database", "h2"),
+                values.getOrDefault("mix", "all"),
+                Double.parseDouble(values.getOrDefault("rate-scale", "1")),
+                duration(values, "warmup", "10s"),
+                duration(values, "duration", "60s"),
+                Long.parseLong(values.getOrDefault("seed", "42")),
+                Integer.parseInt(values.getOrDefault("administrations", "10")),
+                Integer.parseInt(values.getOrDefault("departments", "200")),
+                Integer.parseInt(values.getOrDefault("users", "50000")),
+                Integer.parseInt(values.getOrDefault("max-in-flight", "2000")),
+                duration(values, "max-p99-read", "200ms"),
+                duration(values, "max-p99-write", "2s"),
+                Double.parseDouble(values.getOrDefault("max-error-rate", "0.01")),
+                Double.parseDouble(values.getOrDefault("min-throughput-ratio", "0.95")));
+    }
+
+    private static Duration duration(Map<String, String> values, String key, String defaultValue) {
+        return DurationStyle.detectAndParse(values.getOrDefault(key, defaultValue));
+    }
+}
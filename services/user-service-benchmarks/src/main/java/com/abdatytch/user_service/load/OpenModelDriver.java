@@ -0,0 +1,94 @@
+package com.abdatytch.user_service.load;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Générateur de charge en modèle ouvert
+ * 
+ * Un thread de cadencement par mélange calcule les instants d'arrivée et envoie chaque
+ * requête de façon asynchrone à l'instant prévu, sans attendre les réponses. Au-delà de
+ * maxInFlight requêtes en vol, les arrivées sont abandonnées et comptées : le client
+ * n'est pas autorisé à masquer la saturation en ralentissant.
+ * 
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+final class OpenModelDriver {
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final LoadDataset dataset;
+    private final Semaphore inFlight;
+    private final int maxInFlight;
+
+    OpenModelDriver(HttpClient httpClient, String baseUrl, LoadDataset dataset, int maxInFlight) {
+        this.httpClient = httpClient;
+        this.baseUrl = baseUrl;
+        this.dataset = dataset;
+        this.maxInFlight = maxInFlight;
+        this.inFlight = new Semaphore(maxInFlight);
+    }
+
+    /**
+     * Exécute les mélanges simultanément pendant la durée donnée puis attend les réponses en vol
+     * 
+     * @param mixes Mélanges de trafic
+     * @param duration Durée de la phase
+     * @param report Destination des mesures
+     */
+    void run(List<TrafficMix> mixes, Duration duration, LatencyReport report) throws InterruptedException {
+        long end = System.nanoTime() + duration.toNanos();
+        List<Thread> pacers = new ArrayList<>(mixes.size());
+        for (TrafficMix mix : mixes) {
+            Thread pacer = new Thread(() -> pace(mix, end, report), "load-" + mix.name());
+            pacer.start();
+            pacers.add(pacer);
+        }
+        for (Thread pacer : pacers) {
+            pacer.join();
+        }
+        // Attente des dernières réponses (bornée par le délai de réponse du client)
+        inFlight.tryAcquire(maxInFlight, 2, TimeUnit.MINUTES);
+        inFlight.release(maxInFlight);
+    }
+
+    private void pace(TrafficMix mix, long end, LatencyReport report) {
+        long intended = System.nanoTime();
+        while (intended < end) {
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+                continue;
+            }
+            send(mix.pick(), intended, report);
+            intended += mix.arrivals().nextGapNanos();
+        }
+    }
+
+    private void send(TrafficMix.Operation operation, long intended, LatencyReport report) {
+        LatencyReport.OperationStats stats = report.stats(operation);
+        report.scheduled(stats);
+        if (!inFlight.tryAcquire()) {
+            report.dropped(stats);
+            return;
+        }
+        HttpRequest request = operation.request().apply(baseUrl, dataset);
+        httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, error) -> {
+            inFlight.release();
+            if (error != null) {
+                report.failed(stats);
+            } else {
+                report.completed(stats, System.nanoTime() - intended, response.statusCode());
+            }
+        });
+    }
+}
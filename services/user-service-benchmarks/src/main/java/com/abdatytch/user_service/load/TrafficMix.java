@@ -0,0 +1,108 @@
+package com.abdatytch.user_service.load;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BiFunction;
+
+/**
+ * Mélanges de trafic : un processus d'arrivée et des opérations pondérées
+ * 
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+record TrafficMix(String name, Arrivals arrivals, List<Operation> operations) {
+
+    /**
+     * Opération HTTP tirée avec un poids relatif
+     * 
+     * @param name Nom de l'opération dans le rapport
+     * @param write Écriture (seuil de latence des écritures)
+     * @param weight Poids relatif dans le mélange
+     * @param request Construction de la requête à partir de l'URL de base et du jeu de données
+     */
+    record Operation(String name, boolean write, int weight, BiFunction<String, LoadDataset, HttpRequest> request) {}
+
+    /**
+     * @param mix directory, creates, search ou all
+     * @param rateScale Multiplicateur des débits
+     * @return mélanges à exécuter simultanément
+     */
+    static List<TrafficMix> select(String mix, double rateScale) {
+        return switch (mix) {
+            case "directory" -> List.of(directory(rateScale));
+            case "creates" -> List.of(creates(rateScale));
+            case "search" -> List.of(search(rateScale));
+            case "all" -> List.of(directory(rateScale), creates(rateScale), search(rateScale));
+            default -> throw new IllegalArgumentException("Mélange inconnu : " + mix);
+        };
+    }
+
+    /**
+     * Consultation de l'annuaire, majoritaire : fiches, pages et listes de référence
+     */
+    static TrafficMix directory(double rateScale) {
+        return new TrafficMix("directory", Arrivals.poisson(400 * rateScale), List.of(
+                new Operation("GET /api/users/{id}", false, 70,
+                        (base, data) -> get(base + "/api/users/" + data.randomUser())),
+                new Operation("GET /api/users?size=20", false, 15,
+                        (base, data) -> get(base + "/api/users?size=20&page=" + ThreadLocalRandom.current().nextInt(50))),
+                new Operation("GET /api/users/administration/{id}", false, 10,
+                        (base, data) -> get(base + "/api/users/administration/" + data.randomAdministration() + "?size=20")),
+                new Operation("GET /api/departments", false, 5,
+                        (base, data) -> get(base + "/api/departments"))));
+    }
+
+    /**
+     * Créations en rafales (imports, intégrations de lots d'agents)
+     */
+    static TrafficMix creates(double rateScale) {
+        int burst = Math.max(1, (int) Math.round(20 * rateScale));
+        return new TrafficMix("creates", Arrivals.bursts(burst, Duration.ofSeconds(2)), List.of(
+                new Operation("POST /api/users", true, 1,
+                        (base, data) -> HttpRequest.newBuilder(URI.create(base + "/api/users"))
+                                .header("Content-Type", "application/json")
+                                .POST(HttpRequest.BodyPublishers.ofString(data.nextCreateBody()))
+                                .build())));
+    }
+
+    /**
+     * Recherches par nom, filtrées ou non par administration
+     */
+    static TrafficMix search(double rateScale) {
+        return new TrafficMix("search", Arrivals.poisson(50 * rateScale), List.of(
+                new Operation("GET /api/users/search?username", false, 60,
+                        (base, data) -> get(base + "/api/users/search?size=20&username=" + lastName(data))),
+                new Operation("GET /api/users/search?username&administrationId", false, 40,
+                        (base, data) -> get(base + "/api/users/search?size=20&username=" + lastName(data)
+                                + "&administrationId=" + data.randomAdministration()))));
+    }
+
+    Operation pick() {
+        int total = 0;
+        for (Operation operation : operations) {
+            total += operation.weight();
+        }
+        int draw = ThreadLocalRandom.current().nextInt(total);
+        for (Operation operation : operations) {
+            draw -= operation.weight();
+            if (draw < 0) {
+                return operation;
+            }
+        }
+        return operations.get(operations.size() - 1);
+    }
+
+    private static String lastName(LoadDataset data) {
+        return URLEncoder.encode(data.randomLastName(), StandardCharsets.UTF_8);
+    }
+
+    private static HttpRequest get(String url) {
+        return HttpRequest.newBuilder(URI.create(url)).GET().build();
+    }
+}
@@ -0,0 +1,197 @@
+/**
+ * Cache des réponses GET de l'annuaire (utilisateurs, départements, administrations)
+ * 
+ * Les réponses 200 sont conservées par route pendant un TTL, indexées par URI,
+ * paramètres et en-tête Accept. Chaque DirectoryChangedEvent invalide les routes
+ * dont les réponses peuvent contenir la ressource modifiée (un département change
+ * aussi les utilisateurs qui portent son nom). Un compteur de génération empêche
+ * une lecture commencée avant une écriture de réinsérer une réponse périmée.
+ * 
+ * L'invalidation est locale à l'instance : une écriture reçue par une autre instance
+ * n'atteint pas ce cache, qui peut servir l'ancienne réponse jusqu'à la fin du TTL.
+ * Le TTL par défaut (5 s) est la borne de cette incohérence entre instances.
+ * 
+ * L'en-tête de requête « Cache-Control: no-cache » contourne le cache (la réponse
+ * fraîche le remplace) ; l'en-tête de réponse X-Cache indique HIT, MISS ou BYPASS.
+ * Le nombre d'entrées est borné par route. Le filtre précède le délestage adaptatif
+ * (ConcurrencyLimitFilter) : une réponse servie depuis le cache n'occupe aucune place.
+ * 
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+package com.abdatytch.user_service.cache;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import com.abdatytch.user_service.event.DirectoryChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@ConditionalOnProperty(name = "response-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class ResponseCacheFilter extends OncePerRequestFilter {
+
+    static final String CACHE_HEADER = "X-Cache";
+
+    /**
+     * Routes mises en cache
+     */
+    enum Route {
+        USERS("/api/users"),
+        DEPARTMENTS("/api/departments"),
+        ADMINISTRATIONS("/api/administrations");
+
+        private final String prefix;
+
+        Route(String prefix) {
+            this.prefix = prefix;
+        }
+
+        static Route of(String uri) {
+            for (Route route : values()) {
+                if (uri.equals(route.prefix) || uri.startsWith(route.prefix + "/")) {
+                    return route;
+                }
+            }
+            return null;
+        }
+
+        // Routes dont les réponses peuvent contenir la ressource modifiée
+        static Set<Route> affectedBy(DirectoryChangedEvent.Resource resource) {
+            return switch (resource) {
+                case USER -> EnumSet.of(USERS);
+                case DEPARTMENT -> EnumSet.of(USERS, DEPARTMENTS);
+                case ADMINISTRATION -> EnumSet.allOf(Route.class);
+            };
+        }
+    }
+
+    private record Entry(byte[] body, String contentType, long expiresAt) {}
+
+    private static final class RouteCache {
+        final Map<String, Entry> entries = new ConcurrentHashMap<>();
+        final AtomicLong generation = new AtomicLong();
+        Counter hits;
+        Counter misses;
+        Counter bypasses;
+    }
+
+    private final Map<Route, RouteCache> caches = new EnumMap<>(Route.class);
+    private final long ttlNanos;
+    private final int maxEntries;
+
+    public ResponseCacheFilter(MeterRegistry meterRegistry,
+                               @Value("${response-cache.ttl:5s}") Duration ttl,
+                               @Value("${response-cache.max-entries:10000}") int maxEntries) {
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+        for (Route route : Route.values()) {
+            RouteCache cache = new RouteCache();
+            String tag = route.name().toLowerCase();
+            cache.hits = meterRegistry.counter("directory.response.cache", "route", tag, "result", "hit");
+            cache.misses = meterRegistry.counter("directory.response.cache", "route", tag, "result", "miss");
+            cache.bypasses = meterRegistry.counter("directory.response.cache", "route", tag, "result", "bypass");
+            Gauge.builder("directory.response.cache.size", cache.entries, Map::size)
+                    .tag("route", tag)
+                    .register(meterRegistry);
+            caches.put(route, cache);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"GET".equals(request.getMethod()) || Route.of(request.getRequestURI()) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RouteCache cache = caches.get(Route.of(request.getRequestURI()));
+        String key = key(request);
+        boolean bypass = "no-cache".equalsIgnoreCase(request.getHeader(HttpHeaders.CACHE_CONTROL));
+
+        if (!bypass) {
+            Entry entry = cache.entries.get(key);
+            if (entry != null && entry.expiresAt() - System.nanoTime() > 0) {
+                cache.hits.increment();
+                response.setHeader(CACHE_HEADER, "HIT");
+                response.setContentType(entry.contentType());
+                response.setContentLength(entry.body().length);
+                response.getOutputStream().write(entry.body());
+                return;
+            }
+        }
+
+        (bypass ? cache.bypasses : cache.misses).increment();
+        response.setHeader(CACHE_HEADER, bypass ? "BYPASS" : "MISS");
+        long generation = cache.generation.get();
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        try {
+            chain.doFilter(request, wrapper);
+            // Une réponse périmée (StaleWhileRevalidateCache) n'est pas mise en cache
+            if (wrapper.getStatus() == HttpServletResponse.SC_OK
+                    && wrapper.getHeader(StaleWhileRevalidateCache.STALE_HEADER) == null) {
+                store(cache, key, generation, wrapper.getContentAsByteArray(), wrapper.getContentType());
+            }
+        } finally {
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    /**
+     * Invalide les routes concernées une fois la modification validée
+     * 
+     * @param event Modification de l'annuaire
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDirectoryChanged(DirectoryChangedEvent event) {
+        for (Route route : Route.affectedBy(event.resource())) {
+            RouteCache cache = caches.get(route);
+            cache.generation.incrementAndGet();
+            cache.entries.clear();
+        }
+    }
+
+    private void store(RouteCache cache, String key, long generation, byte[] body, String contentType) {
+        if (cache.entries.size() >= maxEntries) {
+            long now = System.nanoTime();
+            cache.entries.values().removeIf(entry -> entry.expiresAt() - now <= 0);
+            if (cache.entries.size() >= maxEntries) {
+                return;
+            }
+        }
+        cache.entries.put(key, new Entry(body, contentType, System.nanoTime() + ttlNanos));
+        // Une écriture validée pendant la lecture : la réponse peut être périmée
+        if (cache.generation.get() != generation) {
+            cache.entries.remove(key);
+        }
+    }
+
+    private static String key(HttpServletRequest request) {
+        String query = request.getQueryString();
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        return request.getRequestURI() + (query == null ? "" : "?" + query) + "|" + (accept == null ? "" : accept);
+    }
+}
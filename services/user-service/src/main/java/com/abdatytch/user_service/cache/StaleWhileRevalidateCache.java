@@ -0,0 +1,246 @@
+/**
+ * Dernier résultat valide par clé, servi périmé quand la lecture échoue ou tarde
+ * 
+ * La lecture s'exécute sur le thread appelant. Si elle réussit, son résultat est renvoyé
+ * et mémorisé. Si elle échoue, le dernier résultat valide est renvoyé avec son âge ; sans
+ * résultat précédent, l'erreur de lecture est propagée.
+ * 
+ * Une lecture en échec ou plus longue que le délai de la région fait passer la région en
+ * mode dégradé : les requêtes qui ont une valeur à servir la reçoivent aussitôt, périmée,
+ * et un seul rafraîchissement par clé est lancé sur l'exécuteur dédié. Un rafraîchissement
+ * réussi dans le délai rétablit la lecture sur le thread appelant. L'exécuteur ne porte
+ * que ces rafraîchissements : saturé, il les ignore et la valeur précédente reste servie.
+ * 
+ * Chaque région est bornée (LRU). Une modification d'utilisateur retire sa valeur,
+ * pour ne jamais resservir un utilisateur supprimé ; une modification de département ou
+ * d'administration vide les utilisateurs, dont la fiche en reprend le nom. Les listes
+ * sont remplacées à la lecture réussie suivante.
+ * 
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+package com.abdatytch.user_service.cache;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import com.abdatytch.user_service.event.DirectoryChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class StaleWhileRevalidateCache {
+
+    /**
+     * En-tête de réponse portant l'âge (secondes) d'un résultat périmé
+     */
+    public static final String STALE_HEADER = "X-Stale-Age";
+
+    public static final String USER = "user";
+    public static final String DEPARTMENTS = "departments";
+    public static final String ADMINISTRATIONS = "administrations";
+
+    /**
+     * Résultat d'une lecture
+     * 
+     * @param value Valeur lue ou mémorisée
+     * @param staleAgeMillis Âge de la valeur si elle est périmée, -1 si elle est fraîche
+     */
+    public record Result<T>(T value, long staleAgeMillis) {
+
+        public boolean stale() {
+            return staleAgeMillis >= 0;
+        }
+
+        public long staleAgeSeconds() {
+            return TimeUnit.MILLISECONDS.toSeconds(staleAgeMillis);
+        }
+    }
+
+    private record Entry(Object value, long startedAt, long storedAt) {}
+
+    private static final class Region {
+        final long deadlineNanos;
+        final Map<Object, Entry> entries;
+        // Clés dont le rafraîchissement est en cours sur l'exécuteur
+        final Set<Object> refreshing = ConcurrentHashMap.newKeySet();
+        // Dernière lecture en échec ou hors délai : servir la valeur précédente sans attendre
+        volatile boolean degraded;
+        // Lectures commencées avant cet instant : ne pas mémoriser (invalidation en cours)
+        long invalidatedAt;
+        Counter fresh;
+        Counter stale;
+        Counter failed;
+        DistributionSummary staleAge;
+
+        Region(Duration deadline, int maxEntries) {
+            this.deadlineNanos = deadline.toNanos();
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Object, Entry> eldest) {
+                    return size() > maxEntries;
+                }
+            };
+        }
+
+        synchronized Entry get(Object key) {
+            return entries.get(key);
+        }
+
+        synchronized void store(Object key, Object value, long startedAt) {
+            if (startedAt < invalidatedAt) {
+                return;
+            }
+            Entry current = entries.get(key);
+            if (current != null && current.startedAt() > startedAt) {
+                return;
+            }
+            if (value == null) {
+                entries.remove(key);
+            } else {
+                entries.put(key, new Entry(value, startedAt, System.currentTimeMillis()));
+            }
+        }
+
+        synchronized void invalidate(Object key) {
+            invalidatedAt = System.currentTimeMillis();
+            if (key == null) {
+                entries.clear();
+            } else {
+                entries.remove(key);
+            }
+        }
+    }
+
+    private final Map<String, Region> regions = new HashMap<>();
+    private final Executor executor;
+
+    public StaleWhileRevalidateCache(@Qualifier("staleRefreshExecutor") Executor executor,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${stale-cache.user.deadline:300ms}") Duration userDeadline,
+                                     @Value("${stale-cache.user.max-entries:10000}") int userMaxEntries,
+                                     @Value("${stale-cache.lists.deadline:500ms}") Duration listDeadline) {
+        this.executor = executor;
+        register(USER, new Region(userDeadline, userMaxEntries), meterRegistry);
+        register(DEPARTMENTS, new Region(listDeadline, 1), meterRegistry);
+        register(ADMINISTRATIONS, new Region(listDeadline, 1), meterRegistry);
+    }
+
+    private void register(String name, Region region, MeterRegistry meterRegistry) {
+        region.fresh = meterRegistry.counter("stale.cache.requests", "cache", name, "result", "fresh");
+        region.stale = meterRegistry.counter("stale.cache.requests", "cache", name, "result", "stale");
+        region.failed = meterRegistry.counter("stale.cache.requests", "cache", name, "result", "failed");
+        region.staleAge = DistributionSummary.builder("stale.cache.age")
+                .baseUnit("seconds")
+                .tag("cache", name)
+                .register(meterRegistry);
+        regions.put(name, region);
+    }
+
+    /**
+     * Lit la valeur unique d'une région (listes complètes)
+     * 
+     * @param name Région (DEPARTMENTS, ADMINISTRATIONS)
+     * @param loader Lecture de la valeur
+     * @return Valeur fraîche ou périmée
+     */
+    public <T> Result<T> get(String name, Supplier<T> loader) {
+        return get(name, name, loader);
+    }
+
+    /**
+     * Lit une valeur, ou sert la dernière valeur valide si la lecture échoue ou si la région est dégradée
+     * 
+     * @param name Région (USER, DEPARTMENTS, ADMINISTRATIONS)
+     * @param key Clé dans la région
+     * @param loader Lecture de la valeur (null : absente, rien n'est mémorisé)
+     * @return Valeur fraîche ou périmée
+     */
+    public <T> Result<T> get(String name, Object key, Supplier<T> loader) {
+        Region region = regions.get(name);
+        Entry last = region.get(key);
+        if (last != null && region.degraded) {
+            refresh(region, key, loader);
+            return stale(region, last);
+        }
+
+        long startedAt = System.currentTimeMillis();
+        long start = System.nanoTime();
+        T value;
+        try {
+            value = loader.get();
+        } catch (RuntimeException e) {
+            region.degraded = true;
+            // Relue : une modification a pu retirer la valeur pendant la lecture
+            last = region.get(key);
+            if (last == null) {
+                region.failed.increment();
+                throw e;
+            }
+            return stale(region, last);
+        }
+        region.degraded = System.nanoTime() - start > region.deadlineNanos;
+        region.store(key, value, startedAt);
+        region.fresh.increment();
+        return new Result<>(value, -1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Result<T> stale(Region region, Entry last) {
+        long age = Math.max(0, System.currentTimeMillis() - last.storedAt());
+        region.stale.increment();
+        region.staleAge.record(age / 1000.0);
+        return new Result<>((T) last.value(), age);
+    }
+
+    /**
+     * Relit une clé sur l'exécuteur, au plus une fois à la fois par clé
+     */
+    private <T> void refresh(Region region, Object key, Supplier<T> loader) {
+        if (!region.refreshing.add(key)) {
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        try {
+            executor.execute(() -> {
+                try {
+                    long start = System.nanoTime();
+                    T value = loader.get();
+                    region.store(key, value, startedAt);
+                    region.degraded = System.nanoTime() - start > region.deadlineNanos;
+                } catch (RuntimeException e) {
+                    // La région reste dégradée : la requête suivante relance le rafraîchissement
+                } finally {
+                    region.refreshing.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Exécuteur saturé : la valeur précédente reste servie
+            region.refreshing.remove(key);
+        }
+    }
+
+    /**
+     * Retire les utilisateurs modifiés ou supprimés, et tous les utilisateurs quand un
+     * département ou une administration change (leur nom figure dans la fiche)
+     * 
+     * @param event Modification de l'annuaire
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDirectoryChanged(DirectoryChangedEvent event) {
+        regions.get(USER).invalidate(event.resource() == DirectoryChangedEvent.Resource.USER ? event.id() : null);
+    }
+}
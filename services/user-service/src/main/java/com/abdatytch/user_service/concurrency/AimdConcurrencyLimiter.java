@@ -0,0 +1,200 @@
+/**
+ * Limite de concurrence adaptative (AIMD guidé par la latence)
+ * 
+ * Les échantillons sont regroupés en fenêtres d'au moins « limite » requêtes ; la
+ * limite est ajustée une seule fois par fenêtre. Elle est multipliée par backoff si
+ * plus de 10 % des requêtes de la fenêtre ont échoué (5xx) ou dépassé tolerance fois
+ * la latence de référence de leur classe de route (décroissance multiplicative), et
+ * augmente de 1 si le service a été réellement sollicité (croissance additive).
+ * 
+ * La référence est propre à chaque classe de route (une lecture unitaire et une
+ * écriture hachant un mot de passe n'ont pas la même latence) : c'est la médiane
+ * des derniers échantillons de la classe, et non le minimum, pour qu'une latence
+ * ordinaire ne passe pas pour une surcharge. Les requêtes lentes n'y entrent qu'à la
+ * limite plancher, sans quoi une surcharge durable deviendrait la référence.
+ * 
+ * Sans verrou : l'admission est un CAS sur le nombre de requêtes en cours, les
+ * échantillons sont des compteurs atomiques et seul le thread qui clôt une fenêtre
+ * recalcule la limite. Les écritures ne peuvent occuper que writeShare de la limite,
+ * la réserve allant aux lectures.
+ * 
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+package com.abdatytch.user_service.concurrency;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public final class AimdConcurrencyLimiter {
+
+    // Échantillons par classe de route pour la latence de référence
+    static final int BASELINE_WINDOW = 256;
+
+    // Taille minimale d'une fenêtre d'ajustement, quelle que soit la limite
+    static final int MIN_WINDOW = 20;
+
+    // Part des requêtes lentes ou en échec au-delà de laquelle la fenêtre est en surcharge
+    private static final double OVERLOAD_SHARE = 0.1;
+
+    /**
+     * Priorité d'une requête admise sous la limite
+     */
+    public enum Priority {
+        READ,
+        WRITE
+    }
+
+    /**
+     * Latence de référence d'une classe de route : médiane des BASELINE_WINDOW derniers échantillons
+     */
+    private static final class RouteClass {
+        final AtomicLongArray samples = new AtomicLongArray(BASELINE_WINDOW);
+        final AtomicLong count = new AtomicLong();
+        volatile long baselineNanos;
+
+        void record(long rttNanos) {
+            long index = count.getAndIncrement();
+            samples.set((int) (index % BASELINE_WINDOW), rttNanos);
+            if ((index + 1) % BASELINE_WINDOW == 0) {
+                long[] copy = new long[BASELINE_WINDOW];
+                for (int i = 0; i < BASELINE_WINDOW; i++) {
+                    copy[i] = samples.get(i);
+                }
+                Arrays.sort(copy);
+                baselineNanos = copy[BASELINE_WINDOW / 2];
+            }
+        }
+    }
+
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final RouteClass[] routeClasses;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double writeShare;
+    private final double tolerance;
+    private final double backoff;
+
+    // Fenêtre d'ajustement en cours
+    private final AtomicInteger windowSamples = new AtomicInteger();
+    private final AtomicInteger windowOverloaded = new AtomicInteger();
+    private final AtomicInteger windowPeak = new AtomicInteger();
+    private final AtomicBoolean closing = new AtomicBoolean();
+
+    // Écrits par le seul thread qui clôt la fenêtre
+    private volatile double estimate;
+    private volatile int limit;
+
+    /**
+     * @param routeClasses Nombre de classes de route, chacune avec sa latence de référence
+     * @param initialLimit Limite de départ
+     * @param minLimit Limite plancher
+     * @param maxLimit Limite plafond
+     * @param writeShare Part de la limite accessible aux écritures (0 à 1)
+     * @param tolerance Latence tolérée, en multiple de la latence de référence
+     * @param backoff Facteur de réduction (0 à 1)
+     */
+    public AimdConcurrencyLimiter(int routeClasses, int initialLimit, int minLimit, int maxLimit,
+                                  double writeShare, double tolerance, double backoff) {
+        if (routeClasses < 1 || minLimit < 1 || maxLimit < minLimit || writeShare <= 0 || writeShare > 1
+                || tolerance <= 1 || backoff <= 0 || backoff >= 1) {
+            throw new IllegalArgumentException("Paramètres de limite de concurrence invalides");
+        }
+        this.routeClasses = new RouteClass[routeClasses];
+        for (int i = 0; i < routeClasses; i++) {
+            this.routeClasses[i] = new RouteClass();
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.writeShare = writeShare;
+        this.tolerance = tolerance;
+        this.backoff = backoff;
+        this.estimate = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.limit = (int) estimate;
+    }
+
+    /**
+     * Tente d'admettre une requête
+     * 
+     * @param priority Priorité de la requête
+     * @return true si la requête est admise (release devra être appelé)
+     */
+    public boolean tryAcquire(Priority priority) {
+        int current = limit;
+        int max = priority == Priority.WRITE ? Math.max(1, (int) (current * writeShare)) : current;
+        while (true) {
+            int running = inflight.get();
+            if (running >= max) {
+                return false;
+            }
+            if (inflight.compareAndSet(running, running + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Libère une requête admise et l'ajoute à la fenêtre d'ajustement
+     * 
+     * @param routeClass Classe de route de la requête (0 à routeClasses - 1)
+     * @param rttNanos Durée de traitement
+     * @param dropped true si la requête a échoué côté serveur
+     */
+    public void release(int routeClass, long rttNanos, boolean dropped) {
+        int running = inflight.getAndDecrement();
+        RouteClass route = routeClasses[routeClass];
+        long baseline = route.baselineNanos;
+        boolean slow = baseline > 0 && rttNanos > baseline * tolerance;
+        // Une latence de surcharge ne devient la référence qu'à la limite plancher : la limite ne
+        // peut plus baisser et la latence observée est la nouvelle latence ordinaire
+        if (!dropped && (!slow || limit <= minLimit)) {
+            route.record(rttNanos);
+        }
+
+        if (dropped || slow) {
+            windowOverloaded.incrementAndGet();
+        }
+        windowPeak.accumulateAndGet(running, Math::max);
+        if (windowSamples.incrementAndGet() >= Math.max(MIN_WINDOW, limit) && closing.compareAndSet(false, true)) {
+            try {
+                closeWindow();
+            } finally {
+                closing.set(false);
+            }
+        }
+    }
+
+    private void closeWindow() {
+        int samples = windowSamples.getAndSet(0);
+        int overloaded = windowOverloaded.getAndSet(0);
+        int peak = windowPeak.getAndSet(0);
+
+        double next = estimate;
+        if (overloaded > samples * OVERLOAD_SHARE) {
+            next = Math.max(minLimit, next * backoff);
+        } else if (peak * 2 >= next) {
+            // N'augmenter que si la limite est effectivement sollicitée
+            next = Math.min(maxLimit, next + 1);
+        }
+        estimate = next;
+        limit = (int) next;
+    }
+
+    /**
+     * @return Limite courante
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * @return Nombre de requêtes en cours
+     */
+    public int getInflight() {
+        return inflight.get();
+    }
+}
@@ -0,0 +1,114 @@
+/**
+ * Délestage adaptatif devant les contrôleurs de l'annuaire
+ * 
+ * Les requêtes vers /api/users, /api/departments, /api/administrations et
+ * /api/profile passent par l'AimdConcurrencyLimiter : au-delà de la limite, la
+ * réponse est 503 avec Retry-After. Les lectures (GET, HEAD) disposent de toute la
+ * limite, les écritures d'une part seulement ; l'actuator (health) n'est jamais
+ * limité. Le filtre passe après le cache des réponses : un HIT n'occupe aucune place.
+ * 
+ * Classe de route, pour la latence de référence : chemin gardé, collection ou
+ * ressource unitaire (/api/users ou /api/users/{id}), lecture ou écriture.
+ * 
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+package com.abdatytch.user_service.concurrency;
+
+import java.io.IOException;
+import java.util.List;
+import com.abdatytch.user_service.constant.Message;
+import com.abdatytch.user_service.dto.response.ErrorDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+@ConditionalOnProperty(name = "concurrency-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final List<String> GUARDED_PATHS = List.of(
+        "/api/users", "/api/departments", "/api/administrations", "/api/profile");
+
+    private final AimdConcurrencyLimiter limiter;
+    private final ObjectMapper objectMapper;
+    private final Counter rejectedReads;
+    private final Counter rejectedWrites;
+
+    public ConcurrencyLimitFilter(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                                  @Value("${concurrency-limit.initial-limit:20}") int initialLimit,
+                                  @Value("${concurrency-limit.min-limit:4}") int minLimit,
+                                  @Value("${concurrency-limit.max-limit:200}") int maxLimit,
+                                  @Value("${concurrency-limit.write-share:0.8}") double writeShare,
+                                  @Value("${concurrency-limit.tolerance:2.0}") double tolerance,
+                                  @Value("${concurrency-limit.backoff:0.9}") double backoff) {
+        this.limiter = new AimdConcurrencyLimiter(GUARDED_PATHS.size() * 4,
+                initialLimit, minLimit, maxLimit, writeShare, tolerance, backoff);
+        this.objectMapper = objectMapper;
+        this.rejectedReads = meterRegistry.counter("concurrency.limit.rejected", "priority", "read");
+        this.rejectedWrites = meterRegistry.counter("concurrency.limit.rejected", "priority", "write");
+        Gauge.builder("concurrency.limit", limiter, AimdConcurrencyLimiter::getLimit).register(meterRegistry);
+        Gauge.builder("concurrency.limit.inflight", limiter, AimdConcurrencyLimiter::getInflight).register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return guardedPath(request.getRequestURI()) < 0;
+    }
+
+    private static int guardedPath(String uri) {
+        for (int i = 0; i < GUARDED_PATHS.size(); i++) {
+            String path = GUARDED_PATHS.get(i);
+            if (uri.equals(path) || uri.startsWith(path + "/")) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int routeClass(String uri, boolean read) {
+        int path = guardedPath(uri);
+        boolean item = uri.length() > GUARDED_PATHS.get(path).length();
+        return path * 4 + (item ? 2 : 0) + (read ? 0 : 1);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        boolean read = "GET".equals(request.getMethod()) || "HEAD".equals(request.getMethod());
+        if (!limiter.tryAcquire(read ? AimdConcurrencyLimiter.Priority.READ : AimdConcurrencyLimiter.Priority.WRITE)) {
+            (read ? rejectedReads : rejectedWrites).increment();
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(), new ErrorDTO(HttpStatus.SERVICE_UNAVAILABLE.value(),
+                    Message.SERVICE_OVERLOADED, List.of("Limite de concurrence : " + limiter.getLimit())));
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean dropped = true;
+        try {
+            chain.doFilter(request, response);
+            dropped = response.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value();
+        } finally {
+            limiter.release(routeClass(request.getRequestURI(), read), System.nanoTime() - start, dropped);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.abdatytch.user_service.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Encodages binaires des réponses et requêtes de l'API
+ * 
+ * Le format est négocié par les en-têtes Accept / Content-Type :
+ * application/cbor ou application/x-jackson-smile. JSON reste le format par défaut
+ * (convertisseur placé avant ceux-ci). Les mappers binaires reprennent la
+ * configuration Jackson de Spring Boot ; les UUID y sont écrits en 16 octets bruts.
+ */
+@Configuration
+public class EncodingConfig {
+
+    /**
+     * @param builder Builder Jackson configuré par Spring Boot (un par injection)
+     * @return convertisseur application/cbor
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    /**
+     * @param builder Builder Jackson configuré par Spring Boot (un par injection)
+     * @return convertisseur application/x-jackson-smile
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
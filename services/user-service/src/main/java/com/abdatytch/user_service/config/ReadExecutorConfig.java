@@ -0,0 +1,39 @@
+package com.abdatytch.user_service.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Exécuteur des rafraîchissements du cache des derniers résultats valides
+ * 
+ * Les lectures se font sur les threads HTTP ; le pool ne relit en arrière-plan que
+ * les clés d'une région dégradée, une seule fois à la fois par clé. Il est donc
+ * petit, avec une file bornée : saturé, il rejette et la valeur précédente reste
+ * servie.
+ */
+@Configuration
+public class ReadExecutorConfig {
+
+    /**
+     * @param poolSize Nombre de threads du pool
+     * @param queueCapacity Taille de la file d'attente
+     * @param taskDecorator Propagation du contexte de trace, si le traçage est actif
+     * @return exécuteur des rafraîchissements du cache des derniers résultats valides
+     */
+    @Bean
+    public ThreadPoolTaskExecutor staleRefreshExecutor(@Value("${stale-cache.executor.pool-size:4}") int poolSize,
+                                                       @Value("${stale-cache.executor.queue-capacity:100}") int queueCapacity,
+                                                       ObjectProvider<TaskDecorator> taskDecorator) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("stale-refresh-");
+        taskDecorator.ifAvailable(executor::setTaskDecorator);
+        return executor;
+    }
+}
@@ -1,11 +1,21 @@
 package com.abdatytch.user_service.config;
 
+import com.abdatytch.user_service.monitoring.HibernateStatisticsEndpoint;
+import com.abdatytch.user_service.monitoring.jfr.JfrPasswordEncoder;
+import com.abdatytch.user_service.monitoring.jfr.JfrRecordingEndpoint;
+import com.abdatytch.user_service.monitoring.tracing.SpansEndpoint;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 
 /**
@@ -17,23 +27,54 @@ public class SecurityConfig {
 
     /**
      * Bean pour l'encodage des mots de passe
-     * Utilise BCrypt comme algorithme de hachage
+     * Utilise BCrypt comme algorithme de hachage, chaque appel étant visible
+     * dans les enregistrements JFR (événement PasswordEncode)
      *
      * @return un encodeur de mot de passe BCrypt
      */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new JfrPasswordEncoder(new BCryptPasswordEncoder());
     }
 
+    /**
+     * Compte d'exploitation défini par spring.security.user.*
+     * Le mot de passe est haché par l'encodeur du service (BCrypt) ; sans OPS_PASSWORD, Spring Boot
+     * en tire un au hasard, jamais journalisé : les endpoints d'exploitation restent alors fermés
+     *
+     * @param properties propriétés spring.security
+     * @param passwordEncoder encodeur des mots de passe
+     * @return le service de comptes en mémoire
+     */
+    @Bean
+    public UserDetailsService opsUserDetailsService(SecurityProperties properties, PasswordEncoder passwordEncoder) {
+        SecurityProperties.User ops = properties.getUser();
+        return new InMemoryUserDetailsManager(User.withUsername(ops.getName())
+                .password(passwordEncoder.encode(ops.getPassword()))
+                .roles(ops.getRoles().toArray(String[]::new))
+                .build());
+    }
+
+    /**
+     * Chaîne de filtres de sécurité
+     * Les endpoints d'exploitation (enregistrement JFR, statistiques Hibernate, traces conservées)
+     * exposent propriétés système, piles d'appels et requêtes : ils exigent le rôle OPS en HTTP Basic
+     * (compte spring.security.user.*)
+     *
+     * @param http configuration HTTP
+     * @return la chaîne de filtres
+     */
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
             .csrf(csrf -> csrf.disable())
             .authorizeHttpRequests(auth -> auth
+                .requestMatchers(EndpointRequest.to(JfrRecordingEndpoint.class,
+                        HibernateStatisticsEndpoint.class, SpansEndpoint.class)).hasRole("OPS")
                 .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-ui.html").permitAll()
                 .anyRequest().permitAll()
-            );
+            )
+            .httpBasic(Customizer.withDefaults());
         
         return http.build();
     }
@@ -0,0 +1,83 @@
+package com.abdatytch.user_service.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.UnaryOperator;
+import com.abdatytch.user_service.validation.ValidatedOnInput;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.cfg.beanvalidation.BeanValidationEventListener;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerGroup;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.jpa.boot.internal.EntityManagerFactoryBuilderImpl;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration du pipeline de validation
+ * 
+ * Les DTOs sont validés une seule fois à l'entrée des services avec le Validator
+ * partagé de Spring (jakarta.validation.Validator). Hibernate continue de valider
+ * les entités à chaque persist/update, sauf celles marquées @ValidatedOnInput dont
+ * toutes les écritures partent d'un DTO déjà validé (User).
+ */
+@Configuration
+public class ValidationConfig {
+
+    /**
+     * Retire la validation JPA au cycle de vie (pre-persist / pre-update) des seules entités @ValidatedOnInput
+     *
+     * @return personnalisation des propriétés Hibernate
+     */
+    @Bean
+    public HibernatePropertiesCustomizer skipLifecycleValidationOfValidatedOnInputEntities() {
+        return properties -> properties.put(EntityManagerFactoryBuilderImpl.INTEGRATOR_PROVIDER,
+                (IntegratorProvider) () -> List.of(new ValidatedOnInputIntegrator()));
+    }
+
+    /**
+     * Enveloppe l'écouteur Bean Validation d'Hibernate, enregistré avant les intégrateurs fournis
+     */
+    static final class ValidatedOnInputIntegrator implements Integrator {
+
+        @Override
+        public void integrate(Metadata metadata, BootstrapContext bootstrapContext,
+                              SessionFactoryImplementor sessionFactory) {
+            EventListenerRegistry registry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+            replace(registry.getEventListenerGroup(EventType.PRE_INSERT), validation ->
+                    event -> !validatedOnInput(event.getPersister()) && validation.onPreInsert(event));
+            replace(registry.getEventListenerGroup(EventType.PRE_UPDATE), validation ->
+                    event -> !validatedOnInput(event.getPersister()) && validation.onPreUpdate(event));
+        }
+
+        @Override
+        public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+            // Rien à libérer
+        }
+
+        private static boolean validatedOnInput(EntityPersister persister) {
+            return persister.getMappedClass().isAnnotationPresent(ValidatedOnInput.class);
+        }
+
+        /**
+         * Remplace l'écouteur Bean Validation du groupe, dans le même ordre que les autres écouteurs
+         * (listeners() est dépréciée mais reste en 6.1 le seul accès à la liste sans déclencher d'événement)
+         */
+        @SuppressWarnings("deprecation")
+        private static <T> void replace(EventListenerGroup<T> group, UnaryOperator<T> wrapper) {
+            List<T> listeners = new ArrayList<>();
+            group.listeners().forEach(listeners::add);
+            group.clearListeners();
+            for (T listener : listeners) {
+                group.appendListener(listener instanceof BeanValidationEventListener ? wrapper.apply(listener) : listener);
+            }
+        }
+    }
+}
@@ -18,6 +18,8 @@ public class Message {
     public static final String DEPARTMENT_DELETED_SUCCESS = "Département supprimé avec succès";
     public static final String DEPARTMENT_FOUND = "Département trouvé";
     public static final String DEPARTMENTS_FOUND = "Liste des départements récupérée avec succès";
+    public static final String USERS_BULK_MOVED_SUCCESS = "Utilisateurs déplacés avec succès";
+    public static final String USERS_BULK_ROLE_UPDATED_SUCCESS = "Rôle des utilisateurs mis à jour avec succès";
     
     // Messages de validation pour les identifiants
     public static final String USERNAME_REQUIRED = "Le nom d'utilisateur est requis";
@@ -41,16 +43,30 @@ public class Message {
     public static final String USER_UPDATE_FAILED = "Échec de la mise à jour de l'utilisateur";
     public static final String USER_DELETE_FAILED = "Échec de la suppression de l'utilisateur";
     public static final String INVALID_USER_DATA = "Données utilisateur invalides";
+    public static final String INVALID_PATCH_DOCUMENT = "Le document de modification partielle est invalide";
+    public static final String PATCH_FIELD_NOT_ALLOWED = "Ce champ ne peut pas être modifié";
+    public static final String UNKNOWN_FIELD = "Champ inconnu dans le paramètre fields";
     public static final String ADMINISTRATION_NOT_FOUND = "Administration non trouvée";
     public static final String ADMINISTRATION_ALREADY_EXISTS = "Une administration avec ce nom existe déjà";
     public static final String ADMINISTRATION_UPDATE_FAILED = "Échec de la mise à jour de l'administration";
     public static final String ADMINISTRATION_DELETE_FAILED = "Échec de la suppression de l'administration";
     public static final String INVALID_ADMINISTRATION_DATA = "Données d'administration invalides";
+    public static final String ADMINISTRATION_HAS_USERS = "Des utilisateurs sont encore rattachés à cette administration ou à ses départements";
     public static final String DEPARTMENT_NOT_FOUND = "Département non trouvé";
     public static final String DEPARTMENT_ALREADY_EXISTS = "Un département avec ce nom existe déjà";
     public static final String DEPARTMENT_UPDATE_FAILED = "Échec de la mise à jour du département";
     public static final String DEPARTMENT_DELETE_FAILED = "Échec de la suppression du département";
+    public static final String DEPARTMENT_HAS_USERS = "Des utilisateurs sont encore rattachés à ce département";
+    public static final String RESOURCE_STILL_REFERENCED = "La ressource est encore référencée par d'autres données";
+    public static final String REFERENCED_RESOURCE_NOT_FOUND = "Une ressource référencée n'existe pas";
+    public static final String RESOURCE_ALREADY_EXISTS = "Une ressource avec ces valeurs existe déjà";
+    public static final String DATA_INTEGRITY_VIOLATION = "Les données ne respectent pas les contraintes de la base";
     public static final String INVALID_DEPARTMENT_DATA = "Données de département invalides";
+    public static final String DEPARTMENT_ADMINISTRATION_MISMATCH = "Le département n'appartient pas à l'administration indiquée";
+    public static final String BULK_SELECTION_INVALID = "Fournir soit une liste d'identifiants, soit un filtre non vide";
+    public static final String SERVICE_OVERLOADED = "Service surchargé, veuillez réessayer plus tard";
+    public static final String RATE_LIMIT_EXCEEDED = "Trop de requêtes, veuillez réessayer plus tard";
+    public static final String BULK_TOO_MANY_USERS = "Une opération en masse ne peut pas viser plus de 10000 utilisateurs";
     
     // Messages de validation pour l'administration
     public static final String ADMINISTRATION_NAME_INVALID = "Le nom de l'administration ne peut pas être null";
@@ -10,6 +10,7 @@
  */
 package com.abdatytch.user_service.controller;
 
+import com.abdatytch.user_service.cache.StaleWhileRevalidateCache;
 import com.abdatytch.user_service.dto.request.AdministrationRequestDTO;
 import com.abdatytch.user_service.dto.response.AdministrationResponseDTO;
 import com.abdatytch.user_service.service.AdministrationService;
@@ -40,13 +41,20 @@ public class AdministrationController {
      */
     private final AdministrationService administrationService;
 
+    /**
+     * Dernier résultat valide, servi si la lecture échoue ou dépasse son délai
+     */
+    private final StaleWhileRevalidateCache staleCache;
+
     /**
      * Constructeur avec injection de dépendance
      * 
      * @param administrationService Service métier pour la gestion des administrations
+     * @param staleCache Cache des derniers résultats valides
      */
-    public AdministrationController(AdministrationService administrationService) {
+    public AdministrationController(AdministrationService administrationService, StaleWhileRevalidateCache staleCache) {
         this.administrationService = administrationService;
+        this.staleCache = staleCache;
     }
 
     /**
@@ -149,8 +157,13 @@ public class AdministrationController {
                 })
     @GetMapping
     public ResponseEntity<List<AdministrationResponseDTO>> getAllAdministrations() {
-        List<AdministrationResponseDTO> administrations = administrationService.getAllAdministrations();
-        return ResponseEntity.ok(administrations);
+        StaleWhileRevalidateCache.Result<List<AdministrationResponseDTO>> administrations = staleCache.get(
+            StaleWhileRevalidateCache.ADMINISTRATIONS, administrationService::getAllAdministrations);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (administrations.stale()) {
+            response.header(StaleWhileRevalidateCache.STALE_HEADER, Long.toString(administrations.staleAgeSeconds()));
+        }
+        return response.body(administrations.value());
     }
 
     /**
@@ -10,6 +10,7 @@
  */
 package com.abdatytch.user_service.controller;
 
+import com.abdatytch.user_service.cache.StaleWhileRevalidateCache;
 import java.util.UUID;
 import com.abdatytch.user_service.dto.request.DepartmentRequestDTO;
 import com.abdatytch.user_service.dto.response.DepartmentResponseDTO;
@@ -39,14 +40,21 @@ public class DepartmentController {
      */
     private final DepartmentService departmentService;
 
+    /**
+     * Dernier résultat valide, servi si la lecture échoue ou dépasse son délai
+     */
+    private final StaleWhileRevalidateCache staleCache;
+
     /**
      * Constructeur avec injection de dépendance
      * 
      * @param departmentService Service métier pour la gestion des départements
+     * @param staleCache Cache des derniers résultats valides
      */
 
-    public DepartmentController(DepartmentService departmentService) {
+    public DepartmentController(DepartmentService departmentService, StaleWhileRevalidateCache staleCache) {
         this.departmentService = departmentService;
+        this.staleCache = staleCache;
     }
 
     /**
@@ -149,8 +157,13 @@ public class DepartmentController {
                 })
     @GetMapping
     public ResponseEntity<List<DepartmentResponseDTO>> getAllDepartments() {
-        List<DepartmentResponseDTO> departments = departmentService.getAllDepartments();
-        return ResponseEntity.ok(departments);
+        StaleWhileRevalidateCache.Result<List<DepartmentResponseDTO>> departments = staleCache.get(
+            StaleWhileRevalidateCache.DEPARTMENTS, departmentService::getAllDepartments);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (departments.stale()) {
+            response.header(StaleWhileRevalidateCache.STALE_HEADER, Long.toString(departments.staleAgeSeconds()));
+        }
+        return response.body(departments.value());
     }
 
     /**
@@ -0,0 +1,64 @@
+/**
+ * Contrôleur REST du profil agrégé
+ * 
+ * Ce contrôleur renvoie en une requête un utilisateur, son département et son
+ * administration, à la place de trois appels successifs du client.
+ * 
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+package com.abdatytch.user_service.controller;
+
+import com.abdatytch.user_service.dto.response.ErrorDTO;
+import com.abdatytch.user_service.dto.response.ProfileResponseDTO;
+import com.abdatytch.user_service.service.ProfileService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.UUID;
+
+@Tag(name = "Profils", description = "Profil agrégé d'un utilisateur")
+@RestController
+@RequestMapping("/api/profile")
+public class ProfileController {
+
+    /**
+     * Service d'agrégation des profils
+     */
+    private final ProfileService profileService;
+
+    /**
+     * Constructeur avec injection de dépendance
+     * 
+     * @param profileService Service d'agrégation des profils
+     */
+    public ProfileController(ProfileService profileService) {
+        this.profileService = profileService;
+    }
+
+    /**
+     * Récupère le profil agrégé d'un utilisateur
+     * 
+     * @param id Identifiant de l'utilisateur
+     * @return Utilisateur, département et administration
+     */
+    @Operation(summary = "Profil agrégé d'un utilisateur", 
+                description = "Récupère l'utilisateur, son département et son administration tels qu'ils sont en base",
+                responses = {
+                    @ApiResponse(responseCode = "200", 
+                                description = "Profil récupéré",
+                                content = @Content(schema = @Schema(implementation = ProfileResponseDTO.class))),
+                    @ApiResponse(responseCode = "404", 
+                                description = "Utilisateur non trouvé",
+                                content = @Content(schema = @Schema(implementation = ErrorDTO.class)))
+                })
+    @GetMapping("/{id}")
+    public ResponseEntity<ProfileResponseDTO> getProfile(@PathVariable UUID id) {
+        return ResponseEntity.ok(profileService.getProfile(id));
+    }
+}
@@ -14,19 +14,24 @@ import java.util.UUID;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.validation.annotation.Validated;
-import org.springframework.web.server.ResponseStatusException;
+import com.abdatytch.user_service.cache.StaleWhileRevalidateCache;
+import com.abdatytch.user_service.dto.request.UserBulkMoveRequestDTO;
+import com.abdatytch.user_service.dto.request.UserBulkRoleRequestDTO;
 import com.abdatytch.user_service.dto.request.UserRequestDTO;
+import com.abdatytch.user_service.dto.response.BulkUpdateResponseDTO;
+import com.abdatytch.user_service.dto.response.PageEnvelope;
 import com.abdatytch.user_service.dto.response.UserResponseDTO;
 import com.abdatytch.user_service.dto.response.ErrorDTO;
 import com.abdatytch.user_service.dto.CredentialsUpdateDTO;
+import com.abdatytch.user_service.serialization.UserResponseWriter;
 import com.abdatytch.user_service.service.UserService;
 import com.abdatytch.user_service.constant.Message;
+import com.fasterxml.jackson.databind.JsonNode;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -46,19 +51,28 @@ public class UserController {
      */
     private final UserService userService;
 
+    /**
+     * Dernier résultat valide, servi si la lecture échoue ou dépasse son délai
+     */
+    private final StaleWhileRevalidateCache staleCache;
+
     /**
      * Constructeur avec injection de dépendance
      * 
      * @param userService Service métier pour la gestion des utilisateurs
+     * @param staleCache Cache des derniers résultats valides
      */
     @Autowired
-    public UserController(UserService userService) {
+    public UserController(UserService userService, StaleWhileRevalidateCache staleCache) {
         this.userService = userService;
+        this.staleCache = staleCache;
     }
 
     /**
      * Création d'un nouvel utilisateur
      * 
+     * La validation du DTO est faite une seule fois par le service (pas de @Valid ici).
+     * 
      * @param userRequestDTO Détails du nouvel utilisateur
      * @return Représentation du nouvel utilisateur créé
      */
@@ -76,15 +90,11 @@ public class UserController {
                                 content = @Content(schema = @Schema(implementation = ErrorDTO.class)))
                 })
     @PostMapping
-    public ResponseEntity<?> createUser(@Valid @RequestBody UserRequestDTO userRequestDTO) {
-        try {
-            UserResponseDTO userResponseDTO = userService.createUser(userRequestDTO);
-            return ResponseEntity.status(HttpStatus.CREATED)
-                    .header("X-Message", Message.USER_CREATED_SUCCESS)
-                    .body(userResponseDTO);
-        } catch (ResponseStatusException e) {
-            throw e;
-        }
+    public ResponseEntity<?> createUser(@RequestBody UserRequestDTO userRequestDTO) {
+        UserResponseDTO userResponseDTO = userService.createUser(userRequestDTO);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .header("X-Message", Message.USER_CREATED_SUCCESS)
+                .body(userResponseDTO);
     }
 
     /**
@@ -118,6 +128,85 @@ public class UserController {
                 .body(updatedUser);
     }
 
+    /**
+     * Modification partielle d'un utilisateur (JSON Merge Patch)
+     * 
+     * @param id Identifiant de l'utilisateur à modifier
+     * @param patch Champs à modifier uniquement
+     * @return Représentation de l'utilisateur mis à jour
+     */
+    @Operation(summary = "Modifier partiellement un utilisateur", 
+                description = "Applique un document JSON Merge Patch : seuls les champs fournis sont validés et mis à jour",
+                responses = {
+                    @ApiResponse(responseCode = "200", 
+                                description = "Utilisateur mis à jour avec succès",
+                                content = @Content(schema = @Schema(implementation = UserResponseDTO.class))),
+                    @ApiResponse(responseCode = "400", 
+                                description = "Document de modification invalide ou valeur déjà utilisée",
+                                content = @Content(schema = @Schema(implementation = ErrorDTO.class))),
+                    @ApiResponse(responseCode = "404", 
+                                description = "Utilisateur, administration ou département non trouvé",
+                                content = @Content(schema = @Schema(implementation = ErrorDTO.class)))
+                })
+    @PatchMapping(value = "/{id}", consumes = {"application/merge-patch+json", "application/json"})
+    public ResponseEntity<UserResponseDTO> patchUser(@PathVariable UUID id, @RequestBody JsonNode patch) {
+        UserResponseDTO updatedUser = userService.patchUser(id, patch);
+        return ResponseEntity.ok()
+                .header("X-Message", Message.USER_UPDATED_SUCCESS)
+                .body(updatedUser);
+    }
+
+    /**
+     * Déplacement en masse d'utilisateurs vers un département
+     * 
+     * @param request Sélection (identifiants ou filtre) et destination
+     * @return Nombre d'utilisateurs demandés et modifiés
+     */
+    @Operation(summary = "Déplacer des utilisateurs en masse", 
+                description = "Réaffecte des utilisateurs (par identifiants ou par filtre) à un département et à son administration",
+                responses = {
+                    @ApiResponse(responseCode = "200", 
+                                description = "Utilisateurs déplacés avec succès",
+                                content = @Content(schema = @Schema(implementation = BulkUpdateResponseDTO.class))),
+                    @ApiResponse(responseCode = "400", 
+                                description = "Sélection invalide ou département hors de l'administration indiquée",
+                                content = @Content(schema = @Schema(implementation = ErrorDTO.class))),
+                    @ApiResponse(responseCode = "404", 
+                                description = "Département ou administration de destination non trouvé",
+                                content = @Content(schema = @Schema(implementation = ErrorDTO.class)))
+                })
+    @PostMapping("/bulk-move")
+    public ResponseEntity<BulkUpdateResponseDTO> bulkMoveUsers(@Valid @RequestBody UserBulkMoveRequestDTO request) {
+        BulkUpdateResponseDTO result = userService.bulkMoveUsers(request);
+        return ResponseEntity.ok()
+                .header("X-Message", Message.USERS_BULK_MOVED_SUCCESS)
+                .body(result);
+    }
+
+    /**
+     * Changement de rôle en masse
+     * 
+     * @param request Sélection (identifiants ou filtre) et nouveau rôle
+     * @return Nombre d'utilisateurs demandés et modifiés
+     */
+    @Operation(summary = "Changer le rôle d'utilisateurs en masse", 
+                description = "Attribue un rôle à des utilisateurs sélectionnés par identifiants ou par filtre",
+                responses = {
+                    @ApiResponse(responseCode = "200", 
+                                description = "Rôle des utilisateurs mis à jour avec succès",
+                                content = @Content(schema = @Schema(implementation = BulkUpdateResponseDTO.class))),
+                    @ApiResponse(responseCode = "400", 
+                                description = "Sélection ou rôle invalide",
+                                content = @Content(schema = @Schema(implementation = ErrorDTO.class)))
+                })
+    @PostMapping("/bulk-role")
+    public ResponseEntity<BulkUpdateResponseDTO> bulkChangeRole(@Valid @RequestBody UserBulkRoleRequestDTO request) {
+        BulkUpdateResponseDTO result = userService.bulkChangeRole(request);
+        return ResponseEntity.ok()
+                .header("X-Message", Message.USERS_BULK_ROLE_UPDATED_SUCCESS)
+                .body(result);
+    }
+
     /**
      * Suppression d'un utilisateur
      * 
@@ -148,6 +237,7 @@ public class UserController {
      * 
      * @param page Numéro de page (0-indexé)
      * @param size Taille de la page
+     * @param fields Champs à retourner, séparés par des virgules (optionnel)
      * @return Liste paginée des utilisateurs
      */
     @Operation(summary = "Récupérer tous les utilisateurs", 
@@ -155,18 +245,19 @@ public class UserController {
                 responses = {
                     @ApiResponse(responseCode = "200", 
                                 description = "Liste des utilisateurs récupérée avec succès",
-                                content = @Content(schema = @Schema(implementation = Page.class))),
+                                content = @Content(schema = @Schema(implementation = PageEnvelope.class))),
                     @ApiResponse(responseCode = "500", 
                                 description = "Erreur serveur lors de la récupération des utilisateurs",
                                 content = @Content(schema = @Schema(implementation = String.class)))
                 })
     @GetMapping
-    public ResponseEntity<Page<UserResponseDTO>> getAllUsers(
+    public ResponseEntity<PageEnvelope<UserResponseDTO>> getAllUsers(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String fields) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<UserResponseDTO> users = userService.getAllUsers(pageable);
-        return ResponseEntity.ok(users);
+        PageEnvelope<UserResponseDTO> users = userService.getAllUsers(pageable);
+        return ResponseEntity.ok(users.withWriter(UserResponseWriter.forFields(fields)));
     }
 
     /**
@@ -190,11 +281,16 @@ public class UserController {
                 })
     @GetMapping("/{id}")
     public ResponseEntity<UserResponseDTO> getUserById(@PathVariable UUID id) {
-        UserResponseDTO user = userService.getUserById(id);
-        if (user == null) {
+        StaleWhileRevalidateCache.Result<UserResponseDTO> user = staleCache.get(
+            StaleWhileRevalidateCache.USER, id, () -> userService.getUserById(id));
+        if (user.value() == null) {
             return ResponseEntity.notFound().build();
         }
-        return ResponseEntity.ok(user);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (user.stale()) {
+            response.header(StaleWhileRevalidateCache.STALE_HEADER, Long.toString(user.staleAgeSeconds()));
+        }
+        return response.body(user.value());
     }
 
     /**
@@ -236,6 +332,7 @@ public class UserController {
      * @param administrationId Identifiant de l'administration
      * @param page Numéro de page (0-indexé)
      * @param size Taille de la page
+     * @param fields Champs à retourner, séparés par des virgules (optionnel)
      * @return Liste paginée des utilisateurs de l'administration
      */
     @Operation(summary = "Liste des utilisateurs d'une administration", 
@@ -243,7 +340,7 @@ public class UserController {
                 responses = {
                     @ApiResponse(responseCode = "200", 
                                 description = "Liste des utilisateurs de l'administration récupérée avec succès",
-                                content = @Content(schema = @Schema(implementation = Page.class))),
+                                content = @Content(schema = @Schema(implementation = PageEnvelope.class))),
                     @ApiResponse(responseCode = "404", 
                                 description = "Administration non trouvée",
                                 content = @Content(schema = @Schema(implementation = String.class))),
@@ -252,13 +349,14 @@ public class UserController {
                                 content = @Content(schema = @Schema(implementation = String.class)))
                 })
     @GetMapping("/administration/{administrationId}")
-    public ResponseEntity<Page<UserResponseDTO>> getUsersByAdministration(
+    public ResponseEntity<PageEnvelope<UserResponseDTO>> getUsersByAdministration(
             @PathVariable UUID administrationId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String fields) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<UserResponseDTO> users = userService.getUsersByAdministration(administrationId, pageable);
-        return ResponseEntity.ok(users);
+        PageEnvelope<UserResponseDTO> users = userService.getUsersByAdministration(administrationId, pageable);
+        return ResponseEntity.ok(users.withWriter(UserResponseWriter.forFields(fields)));
     }
 
     /**
@@ -267,6 +365,7 @@ public class UserController {
      * @param departmentId Identifiant du département
      * @param page Numéro de page
      * @param size Taille de la page
+     * @param fields Champs à retourner, séparés par des virgules (optionnel)
      * @return Page d'utilisateurs
      */
     @Operation(summary = "Liste des utilisateurs d'un département", 
@@ -274,7 +373,7 @@ public class UserController {
                 responses = {
                     @ApiResponse(responseCode = "200", 
                                 description = "Liste des utilisateurs du département récupérée avec succès",
-                                content = @Content(schema = @Schema(implementation = Page.class))),
+                                content = @Content(schema = @Schema(implementation = PageEnvelope.class))),
                     @ApiResponse(responseCode = "404", 
                                 description = "Département non trouvé",
                                 content = @Content(schema = @Schema(implementation = String.class))),
@@ -283,13 +382,14 @@ public class UserController {
                                 content = @Content(schema = @Schema(implementation = String.class)))
                 })
     @GetMapping("/department/{departmentId}")
-    public ResponseEntity<Page<UserResponseDTO>> getUsersByDepartment(
+    public ResponseEntity<PageEnvelope<UserResponseDTO>> getUsersByDepartment(
             @PathVariable UUID departmentId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String fields) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<UserResponseDTO> users = userService.getUsersByDepartment(departmentId, pageable);
-        return ResponseEntity.ok(users);
+        PageEnvelope<UserResponseDTO> users = userService.getUsersByDepartment(departmentId, pageable);
+        return ResponseEntity.ok(users.withWriter(UserResponseWriter.forFields(fields)));
     }
 
     /**
@@ -301,6 +401,7 @@ public class UserController {
      * @param role Rôle de l'utilisateur (optionnel)
      * @param page Numéro de page
      * @param size Taille de la page
+     * @param fields Champs à retourner, séparés par des virgules (optionnel)
      * @return Page d'utilisateurs correspondant aux critères
      */
     @Operation(summary = "Recherche avancée d'utilisateurs", 
@@ -308,7 +409,7 @@ public class UserController {
                 responses = {
                     @ApiResponse(responseCode = "200", 
                                 description = "Résultats de la recherche d'utilisateurs",
-                                content = @Content(schema = @Schema(implementation = Page.class))),
+                                content = @Content(schema = @Schema(implementation = PageEnvelope.class))),
                     @ApiResponse(responseCode = "400", 
                                 description = "Paramètres de recherche invalides",
                                 content = @Content(schema = @Schema(implementation = String.class))),
@@ -317,15 +418,16 @@ public class UserController {
                                 content = @Content(schema = @Schema(implementation = String.class)))
                 })
     @GetMapping("/search")
-    public ResponseEntity<Page<UserResponseDTO>> searchUsers(
+    public ResponseEntity<PageEnvelope<UserResponseDTO>> searchUsers(
             @RequestParam(required = false) String username,
             @RequestParam(required = false) UUID administrationId,
             @RequestParam(required = false) UUID departmentId,
             @RequestParam(required = false) String role,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String fields) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<UserResponseDTO> users = userService.searchUsers(username, administrationId, departmentId, role, pageable);
-        return ResponseEntity.ok(users);
+        PageEnvelope<UserResponseDTO> users = userService.searchUsers(username, administrationId, departmentId, role, pageable);
+        return ResponseEntity.ok(users.withWriter(UserResponseWriter.forFields(fields)));
     }
 }
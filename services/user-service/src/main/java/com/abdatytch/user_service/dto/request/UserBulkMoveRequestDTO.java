@@ -0,0 +1,55 @@
+/**
+ * DTO de requête pour le déplacement en masse d'utilisateurs vers un département.
+ * Les utilisateurs sont sélectionnés soit par identifiants, soit par filtre.
+ * 
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+package com.abdatytch.user_service.dto.request;
+
+import java.util.List;
+import java.util.UUID;
+import com.abdatytch.user_service.constant.Message;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public class UserBulkMoveRequestDTO {
+
+    @Schema(description = "Identifiants des utilisateurs à déplacer (exclusif avec filter)")
+    @Size(max = 10000, message = Message.BULK_TOO_MANY_USERS)
+    private List<UUID> userIds;
+
+    @Schema(description = "Filtre de sélection des utilisateurs (exclusif avec userIds)")
+    @Valid
+    private UserFilterDTO filter;
+
+    @Schema(description = "Département de destination")
+    @NotNull(message = Message.DEPARTMENT_ID_REQUIRED)
+    private UUID targetDepartmentId;
+
+    @Schema(description = "Administration de destination (par défaut celle du département)")
+    private UUID targetAdministrationId;
+
+    // Constructeur sans arguments
+    public UserBulkMoveRequestDTO() {}
+
+    // Getters et Setters
+    public List<UUID> getUserIds() {return userIds;}
+
+    public void setUserIds(List<UUID> userIds) {this.userIds = userIds;}
+
+    public UserFilterDTO getFilter() {return filter;}
+
+    public void setFilter(UserFilterDTO filter) {this.filter = filter;}
+
+    public UUID getTargetDepartmentId() {return targetDepartmentId;}
+
+    public void setTargetDepartmentId(UUID targetDepartmentId) {this.targetDepartmentId = targetDepartmentId;}
+
+    public UUID getTargetAdministrationId() {return targetAdministrationId;}
+
+    public void setTargetAdministrationId(UUID targetAdministrationId) {this.targetAdministrationId = targetAdministrationId;}
+}
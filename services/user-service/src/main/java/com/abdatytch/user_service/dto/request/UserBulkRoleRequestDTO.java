@@ -0,0 +1,49 @@
+/**
+ * DTO de requête pour le changement de rôle en masse.
+ * Les utilisateurs sont sélectionnés soit par identifiants, soit par filtre.
+ * 
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+package com.abdatytch.user_service.dto.request;
+
+import java.util.List;
+import java.util.UUID;
+import com.abdatytch.user_service.constant.Message;
+import com.abdatytch.user_service.model.UserRole;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public class UserBulkRoleRequestDTO {
+
+    @Schema(description = "Identifiants des utilisateurs concernés (exclusif avec filter)")
+    @Size(max = 10000, message = Message.BULK_TOO_MANY_USERS)
+    private List<UUID> userIds;
+
+    @Schema(description = "Filtre de sélection des utilisateurs (exclusif avec userIds)")
+    @Valid
+    private UserFilterDTO filter;
+
+    @Schema(description = "Nouveau rôle", example = "MANAGER")
+    @NotNull(message = Message.ROLE_REQUIRED)
+    private UserRole role;
+
+    // Constructeur sans arguments
+    public UserBulkRoleRequestDTO() {}
+
+    // Getters et Setters
+    public List<UUID> getUserIds() {return userIds;}
+
+    public void setUserIds(List<UUID> userIds) {this.userIds = userIds;}
+
+    public UserFilterDTO getFilter() {return filter;}
+
+    public void setFilter(UserFilterDTO filter) {this.filter = filter;}
+
+    public UserRole getRole() {return role;}
+
+    public void setRole(UserRole role) {this.role = role;}
+}
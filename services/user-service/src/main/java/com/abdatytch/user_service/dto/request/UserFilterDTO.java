@@ -0,0 +1,48 @@
+/**
+ * Filtre de sélection d'utilisateurs pour les opérations en masse.
+ * Les critères fournis sont combinés (ET) ; au moins un critère est requis.
+ * 
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+package com.abdatytch.user_service.dto.request;
+
+import java.util.UUID;
+import com.abdatytch.user_service.model.UserRole;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public class UserFilterDTO {
+
+    @Schema(description = "Administration actuelle des utilisateurs")
+    private UUID administrationId;
+
+    @Schema(description = "Département actuel des utilisateurs")
+    private UUID departmentId;
+
+    @Schema(description = "Rôle actuel des utilisateurs", example = "USER")
+    private UserRole role;
+
+    // Constructeur sans arguments
+    public UserFilterDTO() {}
+
+    /**
+     * @return true si aucun critère n'est renseigné
+     */
+    public boolean isEmpty() {
+        return administrationId == null && departmentId == null && role == null;
+    }
+
+    // Getters et Setters
+    public UUID getAdministrationId() {return administrationId;}
+
+    public void setAdministrationId(UUID administrationId) {this.administrationId = administrationId;}
+
+    public UUID getDepartmentId() {return departmentId;}
+
+    public void setDepartmentId(UUID departmentId) {this.departmentId = departmentId;}
+
+    public UserRole getRole() {return role;}
+
+    public void setRole(UserRole role) {this.role = role;}
+}
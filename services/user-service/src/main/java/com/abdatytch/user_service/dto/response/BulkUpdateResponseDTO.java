@@ -0,0 +1,37 @@
+/**
+ * DTO de réponse des opérations en masse sur les utilisateurs
+ * 
+ * Ce DTO indique le nombre d'utilisateurs demandés et réellement modifiés.
+ * 
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+package com.abdatytch.user_service.dto.response;
+
+public class BulkUpdateResponseDTO {
+
+    // Nombre d'utilisateurs demandés (identifiants distincts, ou lignes trouvées par le filtre)
+    private int requested;
+
+    // Nombre de lignes effectivement mises à jour
+    private int affected;
+
+    // Constructeur sans arguments
+    public BulkUpdateResponseDTO() {}
+
+    // Constructeur avec tous les arguments
+    public BulkUpdateResponseDTO(int requested, int affected) {
+        this.requested = requested;
+        this.affected = affected;
+    }
+
+    // Getters et Setters
+    public int getRequested() {return requested;}
+
+    public void setRequested(int requested) {this.requested = requested;}
+
+    public int getAffected() {return affected;}
+
+    public void setAffected(int affected) {this.affected = affected;}
+}
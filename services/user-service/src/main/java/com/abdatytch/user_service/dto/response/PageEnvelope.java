@@ -0,0 +1,106 @@
+/**
+ * Enveloppe de page compacte et stable pour les listes paginées
+ * 
+ * Remplace la sérialisation réflexive de PageImpl (pageable, sort, etc. répétés à
+ * chaque réponse) par quatre métadonnées. Le contenu est parcouru paresseusement
+ * pendant l'écriture : chaque élément source est converti puis écrit directement
+ * dans le générateur JSON, sans liste intermédiaire de DTOs.
+ * 
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+package com.abdatytch.user_service.dto.response;
+
+import java.io.IOException;
+import java.util.function.Function;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import org.springframework.data.domain.Page;
+
+public class PageEnvelope<T> implements JsonSerializable {
+
+    /**
+     * Écriture d'un élément dans le générateur (projection, format compact)
+     */
+    @FunctionalInterface
+    public interface ElementWriter<T> {
+        void write(T element, JsonGenerator generator) throws IOException;
+    }
+
+    private final Iterable<T> content;
+    private final int page;
+    private final int size;
+    private final long totalElements;
+    private final int totalPages;
+    private final ElementWriter<? super T> writer;
+
+    private PageEnvelope(Iterable<T> content, int page, int size, long totalElements, int totalPages,
+                         ElementWriter<? super T> writer) {
+        this.content = content;
+        this.page = page;
+        this.size = size;
+        this.totalElements = totalElements;
+        this.totalPages = totalPages;
+        this.writer = writer;
+    }
+
+    /**
+     * Construit une enveloppe dont le contenu est converti à la volée
+     * 
+     * @param source Page d'éléments source (ex. entités)
+     * @param mapper Conversion d'un élément source
+     * @return Enveloppe paresseuse
+     */
+    public static <S, T> PageEnvelope<T> of(Page<S> source, Function<? super S, ? extends T> mapper) {
+        Iterable<T> content = () -> source.stream().<T>map(mapper).iterator();
+        return new PageEnvelope<>(content, source.getNumber(), source.getSize(),
+                source.getTotalElements(), source.getTotalPages(), null);
+    }
+
+    /**
+     * @param writer Écriture spécifique des éléments (ex. projection de champs)
+     * @return Nouvelle enveloppe sur le même contenu
+     */
+    public PageEnvelope<T> withWriter(ElementWriter<? super T> writer) {
+        return new PageEnvelope<>(content, page, size, totalElements, totalPages, writer);
+    }
+
+    @Override
+    public void serialize(JsonGenerator generator, SerializerProvider serializers) throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName("content");
+        generator.writeStartArray();
+        for (T element : content) {
+            if (writer != null) {
+                writer.write(element, generator);
+            } else {
+                serializers.defaultSerializeValue(element, generator);
+            }
+        }
+        generator.writeEndArray();
+        generator.writeNumberField("page", page);
+        generator.writeNumberField("size", size);
+        generator.writeNumberField("totalElements", totalElements);
+        generator.writeNumberField("totalPages", totalPages);
+        generator.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator generator, SerializerProvider serializers, TypeSerializer typeSer) throws IOException {
+        serialize(generator, serializers);
+    }
+
+    // Getters (usage programmatique et documentation OpenAPI)
+    public Iterable<T> getContent() {return content;}
+
+    public int getPage() {return page;}
+
+    public int getSize() {return size;}
+
+    public long getTotalElements() {return totalElements;}
+
+    public int getTotalPages() {return totalPages;}
+}
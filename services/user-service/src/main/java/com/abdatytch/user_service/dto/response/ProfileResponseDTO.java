@@ -0,0 +1,42 @@
+/**
+ * DTO de réponse du profil agrégé d'un utilisateur
+ * 
+ * Ce DTO regroupe l'utilisateur, son département et son administration (nuls si
+ * l'utilisateur n'y est pas rattaché).
+ * 
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+package com.abdatytch.user_service.dto.response;
+
+public class ProfileResponseDTO {
+
+    private UserResponseDTO user;
+    private DepartmentResponseDTO department;
+    private AdministrationResponseDTO administration;
+
+    // Constructeur sans arguments
+    public ProfileResponseDTO() {}
+
+    // Constructeur avec tous les arguments
+    public ProfileResponseDTO(UserResponseDTO user, DepartmentResponseDTO department,
+                              AdministrationResponseDTO administration) {
+        this.user = user;
+        this.department = department;
+        this.administration = administration;
+    }
+
+    // Getters et Setters
+    public UserResponseDTO getUser() {return user;}
+
+    public void setUser(UserResponseDTO user) {this.user = user;}
+
+    public DepartmentResponseDTO getDepartment() {return department;}
+
+    public void setDepartment(DepartmentResponseDTO department) {this.department = department;}
+
+    public AdministrationResponseDTO getAdministration() {return administration;}
+
+    public void setAdministration(AdministrationResponseDTO administration) {this.administration = administration;}
+}
@@ -0,0 +1,28 @@
+/**
+ * Notification de modification de l'annuaire (utilisateurs, départements, administrations)
+ * 
+ * Publiée par les services après chaque écriture ; les abonnés (caches de réponses,
+ * etc.) la reçoivent après le commit de la transaction.
+ * 
+ * @param resource Type de ressource modifiée
+ * @param id Identifiant de la ressource, null pour une modification en masse
+ * 
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+package com.abdatytch.user_service.event;
+
+import java.util.UUID;
+
+public record DirectoryChangedEvent(Resource resource, UUID id) {
+
+    /**
+     * Ressources de l'annuaire
+     */
+    public enum Resource {
+        USER,
+        DEPARTMENT,
+        ADMINISTRATION
+    }
+}
@@ -0,0 +1,42 @@
+package com.abdatytch.user_service.exception;
+
+import com.abdatytch.user_service.constant.Message;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Erreurs métier pré-allouées pour les messages constants de {@link Message}
+ * 
+ * Lever l'une de ces instances n'alloue rien : ApiException est sans pile d'appels
+ * et immuable. Les erreurs dont le message ou les détails varient sont construites
+ * avec {@code new ApiException(...)}.
+ * 
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public final class ApiErrors {
+
+    // Ressources non trouvées
+    public static final ApiException USER_NOT_FOUND = new ApiException(HttpStatus.NOT_FOUND, Message.USER_NOT_FOUND);
+    public static final ApiException ADMINISTRATION_NOT_FOUND = new ApiException(HttpStatus.NOT_FOUND, Message.ADMINISTRATION_NOT_FOUND);
+    public static final ApiException DEPARTMENT_NOT_FOUND = new ApiException(HttpStatus.NOT_FOUND, Message.DEPARTMENT_NOT_FOUND);
+
+    // Doublons
+    public static final ApiException USER_ALREADY_EXISTS = new ApiException(HttpStatus.BAD_REQUEST, Message.USER_ALREADY_EXISTS);
+    public static final ApiException DUPLICATE_EMAIL = new ApiException(HttpStatus.BAD_REQUEST, Message.DUPLICATE_EMAIL);
+    public static final ApiException DUPLICATE_PHONE_NUMBER = new ApiException(HttpStatus.BAD_REQUEST, Message.DUPLICATE_PHONE_NUMBER);
+    public static final ApiException DUPLICATE_MATRICULE = new ApiException(HttpStatus.BAD_REQUEST, Message.DUPLICATE_MATRICULE);
+    public static final ApiException DEPARTMENT_ALREADY_EXISTS = new ApiException(HttpStatus.BAD_REQUEST, Message.DEPARTMENT_ALREADY_EXISTS);
+
+    // Données invalides
+    public static final ApiException USERNAME_TOO_SHORT = new ApiException(HttpStatus.BAD_REQUEST, Message.USERNAME_TOO_SHORT);
+    public static final ApiException USERNAME_TOO_LONG = new ApiException(HttpStatus.BAD_REQUEST, Message.USERNAME_TOO_LONG);
+    public static final ApiException INVALID_PATCH_DOCUMENT = new ApiException(HttpStatus.BAD_REQUEST, Message.INVALID_PATCH_DOCUMENT);
+    public static final ApiException ADMINISTRATION_ID_REQUIRED = new ApiException(HttpStatus.BAD_REQUEST, Message.ADMINISTRATION_ID_REQUIRED);
+    public static final ApiException DEPARTMENT_ADMINISTRATION_MISMATCH = new ApiException(HttpStatus.BAD_REQUEST, Message.DEPARTMENT_ADMINISTRATION_MISMATCH);
+    public static final ApiException BULK_SELECTION_INVALID = new ApiException(HttpStatus.BAD_REQUEST, Message.BULK_SELECTION_INVALID);
+
+    private ApiErrors() {
+        throw new IllegalStateException("Cette classe est une classe utilitaire et ne peut pas être instanciée");
+    }
+}
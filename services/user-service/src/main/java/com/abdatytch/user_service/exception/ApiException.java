@@ -8,11 +8,18 @@ import org.springframework.http.HttpStatus;
  * Cette classe permet de standardiser la gestion des erreurs
  * en fournissant un code HTTP et des détails de l'erreur.
  * 
+ * Les erreurs métier attendues (doublon, non trouvé, validation) ne portent pas de
+ * pile d'appels : sa capture est le coût dominant de la construction d'une exception
+ * et elle n'apporte rien au diagnostic. Sans pile, sans cause ni exceptions supprimées,
+ * une instance est immuable et peut être partagée (voir {@link ApiErrors}).
+ * 
  * @author Makan Sissoko
  * @version 1.0
  * @since 2025-06-14
  */
 public class ApiException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
     private final HttpStatus status;
     private final String message;
     private final String[] details;
@@ -25,7 +32,7 @@ public class ApiException extends RuntimeException {
      * @param details Détails de l'erreur
      */
     public ApiException(HttpStatus status, String message, String... details) {
-        super(message);
+        super(message, null, false, false);
         this.status = status;
         this.message = message;
         this.details = details;
@@ -35,5 +42,5 @@ public class ApiException extends RuntimeException {
 
     public String getMessage() {return message;}
 
-    public String[] getDetails() {return details;}
+    public String[] getDetails() {return details.clone();}
 }
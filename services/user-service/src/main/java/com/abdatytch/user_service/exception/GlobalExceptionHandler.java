@@ -1,13 +1,19 @@
 package com.abdatytch.user_service.exception;
 
 import com.abdatytch.user_service.dto.response.ErrorDTO;
+import com.abdatytch.user_service.constant.Message;
 import jakarta.validation.ConstraintViolationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.sql.SQLException;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -17,7 +23,8 @@ import java.util.stream.Collectors;
  * Ce gestionnaire centralise la gestion des erreurs pour :
  * - Validation des DTOs (ConstraintViolationException)
  * - Validation des formulaires (MethodArgumentNotValidException)
- * - Exceptions personnalisées (ApiException)
+ * - Exceptions personnalisées (ApiException, sans pile d'appels, voir ApiErrors)
+ * - ResponseStatusException (statut HTTP conservé)
  * - Exceptions non gérées
  * 
  * @author Makan Sissoko
@@ -27,6 +34,56 @@ import java.util.stream.Collectors;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+
+    /**
+     * Nature d'une violation d'intégrité, d'après le code SQLState (H2, PostgreSQL)
+     * ou le code d'erreur MySQL (SQLState 23000 commun à toutes les contraintes)
+     */
+    private enum IntegrityViolation {
+        // Ligne supprimée encore référencée par une clé étrangère
+        STILL_REFERENCED(HttpStatus.CONFLICT, Message.RESOURCE_STILL_REFERENCED),
+        // Clé étrangère vers une ligne absente
+        MISSING_REFERENCE(HttpStatus.CONFLICT, Message.REFERENCED_RESOURCE_NOT_FOUND),
+        // Contrainte d'unicité
+        DUPLICATE(HttpStatus.CONFLICT, Message.RESOURCE_ALREADY_EXISTS),
+        // Non-nullité, contrôle, taille
+        OTHER(HttpStatus.BAD_REQUEST, Message.DATA_INTEGRITY_VIOLATION);
+
+        final HttpStatus status;
+        final String message;
+
+        IntegrityViolation(HttpStatus status, String message) {
+            this.status = status;
+            this.message = message;
+        }
+
+        static IntegrityViolation of(SQLException sqlException) {
+            if (sqlException == null) {
+                return OTHER;
+            }
+            IntegrityViolation mysql = switch (sqlException.getErrorCode()) {
+                case 1217, 1451 -> STILL_REFERENCED;
+                case 1216, 1452 -> MISSING_REFERENCE;
+                case 1062, 1586 -> DUPLICATE;
+                default -> null;
+            };
+            if (mysql != null) {
+                return mysql;
+            }
+            String sqlState = sqlException.getSQLState();
+            if (sqlState == null) {
+                return OTHER;
+            }
+            return switch (sqlState) {
+                case "23503" -> STILL_REFERENCED;
+                case "23506" -> MISSING_REFERENCE;
+                case "23505" -> DUPLICATE;
+                default -> OTHER;
+            };
+        }
+    }
+
     /**
      * Gestion des erreurs de validation des DTOs
      * @param ex Exception de validation
@@ -86,6 +143,52 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(ex.getStatus()).body(errorDTO);
     }
 
+    /**
+     * Gestion des ResponseStatusException levées par le framework
+     * @param ex Exception portant un statut HTTP
+     * @return Response avec message d'erreur formaté
+     */
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<ErrorDTO> handleResponseStatusException(ResponseStatusException ex) {
+        ErrorDTO errorDTO = new ErrorDTO(
+            ex.getStatusCode().value(),
+            ex.getReason(),
+            List.of()
+        );
+        
+        return ResponseEntity.status(ex.getStatusCode()).body(errorDTO);
+    }
+
+    /**
+     * Gestion des violations d'intégrité, selon la contrainte violée
+     * (clé étrangère, unicité, autre). Le message du pilote, qui cite tables,
+     * colonnes et valeurs, est journalisé mais jamais renvoyé au client.
+     * @param ex Exception d'intégrité
+     * @return Response avec message d'erreur formaté
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErrorDTO> handleDataIntegrityViolationException(DataIntegrityViolationException ex) {
+        IntegrityViolation violation = IntegrityViolation.of(sqlException(ex));
+        logger.warn("Violation d'intégrité ({}) : {}", violation, ex.getMostSpecificCause().getMessage());
+
+        ErrorDTO errorDTO = new ErrorDTO(
+            violation.status.value(),
+            violation.message,
+            List.of()
+        );
+        
+        return ResponseEntity.status(violation.status).body(errorDTO);
+    }
+
+    private static SQLException sqlException(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException) {
+                return sqlException;
+            }
+        }
+        return null;
+    }
+
     /**
      * Gestion des exceptions non gérées
      * @param ex Exception non gérée
@@ -0,0 +1,107 @@
+/**
+ * Cycle de vie du serveur gRPC interne
+ * 
+ * Le serveur écoute sur son propre port (grpc.server.port, 0 pour un port libre),
+ * distinct du port HTTP. Il démarre une fois le contexte prêt et s'arrête avant
+ * la fermeture des beans dont il dépend, en laissant aux appels en cours un délai
+ * de grâce.
+ * 
+ * Le port est en clair et hors de Spring Security : il n'écoute que sur l'adresse
+ * grpc.server.address (boucle locale par défaut, sinon une interface du réseau
+ * interne) et, si grpc.server.token est défini, chaque appel doit présenter ce jeton
+ * partagé (SharedTokenInterceptor).
+ * 
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+package com.abdatytch.user_service.grpc;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+@Component
+public class GrpcServerLifecycle implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(GrpcServerLifecycle.class);
+    private static final long SHUTDOWN_GRACE_SECONDS = 5;
+
+    private final UserDirectoryGrpcService userDirectoryService;
+    private final String address;
+    private final int port;
+    private final String token;
+    private volatile Server server;
+
+    /**
+     * @param userDirectoryService Service exposé
+     * @param address Adresse d'écoute (interface interne, jamais une adresse publique)
+     * @param port Port d'écoute
+     * @param token Jeton partagé exigé des appelants (vide : aucun)
+     */
+    public GrpcServerLifecycle(UserDirectoryGrpcService userDirectoryService,
+                               @Value("${grpc.server.address:127.0.0.1}") String address,
+                               @Value("${grpc.server.port:9095}") int port,
+                               @Value("${grpc.server.token:}") String token) {
+        this.userDirectoryService = userDirectoryService;
+        this.address = address;
+        this.port = port;
+        this.token = token;
+    }
+
+    @Override
+    public void start() {
+        try {
+            server = NettyServerBuilder.forAddress(new InetSocketAddress(address, port))
+                    .addService(token.isEmpty()
+                            ? userDirectoryService.bindService()
+                            : ServerInterceptors.intercept(userDirectoryService, new SharedTokenInterceptor(token)))
+                    .build()
+                    .start();
+            logger.info("Serveur gRPC démarré sur {}:{}{}", address, server.getPort(),
+                    token.isEmpty() ? " sans jeton" : "");
+        } catch (IOException e) {
+            throw new UncheckedIOException("Impossible de démarrer le serveur gRPC sur " + address + ":" + port, e);
+        }
+    }
+
+    @Override
+    public void stop() {
+        Server running = server;
+        if (running == null) {
+            return;
+        }
+        running.shutdown();
+        try {
+            if (!running.awaitTermination(SHUTDOWN_GRACE_SECONDS, TimeUnit.SECONDS)) {
+                running.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            running.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        server = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    /**
+     * @return Port effectif d'écoute (utile avec grpc.server.port=0), -1 si arrêté
+     */
+    public int getPort() {
+        Server running = server;
+        return running == null ? -1 : running.getPort();
+    }
+}
@@ -0,0 +1,48 @@
+/**
+ * Contrôle d'accès du serveur gRPC interne par jeton partagé
+ * 
+ * Le port gRPC n'est pas couvert par Spring Security : chaque appel doit porter
+ * l'en-tête authorization: Bearer <grpc.server.token>, faute de quoi il est refusé
+ * avec UNAUTHENTICATED avant d'atteindre le service. La comparaison se fait en temps
+ * constant.
+ * 
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+package com.abdatytch.user_service.grpc;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+
+public final class SharedTokenInterceptor implements ServerInterceptor {
+
+    static final Metadata.Key<String> AUTHORIZATION =
+            Metadata.Key.of("authorization", Metadata.ASCII_STRING_MARSHALLER);
+
+    private final byte[] expected;
+
+    /**
+     * @param token Jeton partagé attendu des appelants
+     */
+    public SharedTokenInterceptor(String token) {
+        this.expected = ("Bearer " + token).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public <Q, R> ServerCall.Listener<Q> interceptCall(ServerCall<Q, R> call, Metadata headers,
+                                                       ServerCallHandler<Q, R> next) {
+        String authorization = headers.get(AUTHORIZATION);
+        if (authorization == null
+                || !MessageDigest.isEqual(expected, authorization.getBytes(StandardCharsets.UTF_8))) {
+            call.close(Status.UNAUTHENTICATED.withDescription("Jeton d'accès absent ou invalide"), new Metadata());
+            return new ServerCall.Listener<>() {};
+        }
+        return next.startCall(call, headers);
+    }
+}
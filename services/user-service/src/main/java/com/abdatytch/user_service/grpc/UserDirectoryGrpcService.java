@@ -0,0 +1,175 @@
+/**
+ * Implémentation gRPC de l'annuaire interne des utilisateurs
+ * 
+ * Expose en lecture seule les utilisateurs aux autres services (GetUser,
+ * BatchGetUsers, ListDepartmentMembers) en s'appuyant sur UserService et
+ * DepartmentService. Les réponses en flux sont émises par lots au fur et à mesure
+ * des requêtes en base et s'interrompent si le client annule l'appel. Une erreur
+ * inattendue est journalisée et rendue comme INTERNAL avec une description fixe.
+ * 
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+package com.abdatytch.user_service.grpc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import com.abdatytch.user_service.dto.response.PageEnvelope;
+import com.abdatytch.user_service.dto.response.UserResponseDTO;
+import com.abdatytch.user_service.exception.ApiException;
+import com.abdatytch.user_service.grpc.v1.BatchGetUsersRequest;
+import com.abdatytch.user_service.grpc.v1.GetUserRequest;
+import com.abdatytch.user_service.grpc.v1.ListDepartmentMembersRequest;
+import com.abdatytch.user_service.grpc.v1.Role;
+import com.abdatytch.user_service.grpc.v1.User;
+import com.abdatytch.user_service.grpc.v1.UserDirectoryGrpc;
+import com.abdatytch.user_service.serialization.UuidBytes;
+import com.abdatytch.user_service.service.DepartmentService;
+import com.abdatytch.user_service.service.UserService;
+import com.google.protobuf.ByteString;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+@Component
+public class UserDirectoryGrpcService extends UserDirectoryGrpc.UserDirectoryImplBase {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserDirectoryGrpcService.class);
+
+    private static final int BATCH_CHUNK_SIZE = 500;
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 500;
+
+    private final UserService userService;
+    private final DepartmentService departmentService;
+
+    public UserDirectoryGrpcService(UserService userService, DepartmentService departmentService) {
+        this.userService = userService;
+        this.departmentService = departmentService;
+    }
+
+    @Override
+    public void getUser(GetUserRequest request, StreamObserver<User> responseObserver) {
+        try {
+            UserResponseDTO user = userService.getUserById(toUuid(request.getId(), "id"));
+            if (user == null) {
+                throw Status.NOT_FOUND.withDescription("Utilisateur non trouvé").asRuntimeException();
+            }
+            responseObserver.onNext(toMessage(user));
+            responseObserver.onCompleted();
+        } catch (RuntimeException e) {
+            responseObserver.onError(toStatusException(e));
+        }
+    }
+
+    @Override
+    public void batchGetUsers(BatchGetUsersRequest request, StreamObserver<User> responseObserver) {
+        ServerCallStreamObserver<User> call = (ServerCallStreamObserver<User>) responseObserver;
+        try {
+            List<UUID> ids = new ArrayList<>(request.getIdsCount());
+            for (ByteString id : request.getIdsList()) {
+                ids.add(toUuid(id, "ids"));
+            }
+            for (int from = 0; from < ids.size() && !call.isCancelled(); from += BATCH_CHUNK_SIZE) {
+                List<UUID> chunk = ids.subList(from, Math.min(from + BATCH_CHUNK_SIZE, ids.size()));
+                for (UserResponseDTO user : userService.getUsersByIds(chunk)) {
+                    call.onNext(toMessage(user));
+                }
+            }
+            call.onCompleted();
+        } catch (RuntimeException e) {
+            call.onError(toStatusException(e));
+        }
+    }
+
+    @Override
+    public void listDepartmentMembers(ListDepartmentMembersRequest request, StreamObserver<User> responseObserver) {
+        ServerCallStreamObserver<User> call = (ServerCallStreamObserver<User>) responseObserver;
+        try {
+            UUID departmentId = toUuid(request.getDepartmentId(), "department_id");
+            if (departmentService.getDepartmentById(departmentId) == null) {
+                throw Status.NOT_FOUND.withDescription("Département non trouvé").asRuntimeException();
+            }
+            int pageSize = request.getPageSize() <= 0 ? DEFAULT_PAGE_SIZE : Math.min(request.getPageSize(), MAX_PAGE_SIZE);
+            int page = 0;
+            int totalPages;
+            do {
+                PageEnvelope<UserResponseDTO> members = userService.getUsersByDepartment(departmentId,
+                        PageRequest.of(page, pageSize, Sort.by("id")));
+                for (UserResponseDTO user : members.getContent()) {
+                    call.onNext(toMessage(user));
+                }
+                totalPages = members.getTotalPages();
+                page++;
+            } while (page < totalPages && !call.isCancelled());
+            call.onCompleted();
+        } catch (RuntimeException e) {
+            call.onError(toStatusException(e));
+        }
+    }
+
+    private static UUID toUuid(ByteString bytes, String field) {
+        if (bytes.size() != UuidBytes.LENGTH) {
+            throw Status.INVALID_ARGUMENT
+                    .withDescription(field + " : UUID attendu sur 16 octets")
+                    .asRuntimeException();
+        }
+        return UuidBytes.fromBytes(bytes.toByteArray());
+    }
+
+    private static User toMessage(UserResponseDTO dto) {
+        User.Builder builder = User.newBuilder()
+                .setId(toByteString(dto.getId()))
+                .setRole(toRole(dto));
+        if (dto.getUsername() != null) builder.setUsername(dto.getUsername());
+        if (dto.getFirstName() != null) builder.setFirstName(dto.getFirstName());
+        if (dto.getLastName() != null) builder.setLastName(dto.getLastName());
+        if (dto.getAdministrationId() != null) builder.setAdministrationId(toByteString(dto.getAdministrationId()));
+        if (dto.getAdministrationName() != null) builder.setAdministrationName(dto.getAdministrationName());
+        if (dto.getDepartmentId() != null) builder.setDepartmentId(toByteString(dto.getDepartmentId()));
+        if (dto.getDepartmentName() != null) builder.setDepartmentName(dto.getDepartmentName());
+        return builder.build();
+    }
+
+    private static ByteString toByteString(UUID uuid) {
+        return ByteString.copyFrom(UuidBytes.toBytes(uuid));
+    }
+
+    private static Role toRole(UserResponseDTO dto) {
+        if (dto.getRole() == null) {
+            return Role.ROLE_UNSPECIFIED;
+        }
+        return switch (dto.getRole()) {
+            case ADMIN -> Role.ROLE_ADMIN;
+            case MANAGER -> Role.ROLE_MANAGER;
+            case USER -> Role.ROLE_USER;
+        };
+    }
+
+    // Erreurs métier (ApiException) traduites en statuts gRPC équivalents ; les autres
+    // erreurs sont journalisées, leur message (SQL, noms de tables...) n'est pas renvoyé
+    private static StatusRuntimeException toStatusException(RuntimeException e) {
+        if (e instanceof StatusRuntimeException statusException) {
+            return statusException;
+        }
+        if (e instanceof ApiException apiException) {
+            Status status = switch (apiException.getStatus()) {
+                case BAD_REQUEST -> Status.INVALID_ARGUMENT;
+                case NOT_FOUND -> Status.NOT_FOUND;
+                case CONFLICT -> Status.ALREADY_EXISTS;
+                default -> Status.INTERNAL;
+            };
+            return status.withDescription(apiException.getMessage()).asRuntimeException();
+        }
+        logger.error("Erreur inattendue dans l'annuaire gRPC", e);
+        return Status.INTERNAL.withDescription("Erreur interne").asRuntimeException();
+    }
+}
@@ -22,11 +22,15 @@ import jakarta.validation.constraints.Past;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Email;
 import com.abdatytch.user_service.constant.Message;
+import com.abdatytch.user_service.validation.ValidatedOnInput;
+import org.hibernate.annotations.DynamicUpdate;
 
 
 
 @Entity
 @Table(name = "users")
+@DynamicUpdate
+@ValidatedOnInput
 @Schema(description = "Utilisateur du système")
 public class User {
 
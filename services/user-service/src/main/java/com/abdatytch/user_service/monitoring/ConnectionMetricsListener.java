@@ -0,0 +1,112 @@
+/**
+ * Temps d'acquisition et de détention des connexions JDBC par endpoint
+ * 
+ * Branché sur le proxy de la DataSource : l'acquisition est la durée de getConnection(),
+ * la détention court de l'obtention de la connexion à son close(). L'étiquette endpoint
+ * est la route Spring MVC de la requête en cours (« GET /api/users/{id} ») ou « background »
+ * hors requête HTTP (gRPC, pools d'exécution, tâches).
+ * 
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+package com.abdatytch.user_service.monitoring;
+
+import java.sql.Connection;
+import java.util.ArrayDeque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+public class ConnectionMetricsListener implements MethodExecutionListener {
+
+    static final String BACKGROUND = "background";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> acquireTimers = new ConcurrentHashMap<>();
+    private final Map<String, Timer> holdTimers = new ConcurrentHashMap<>();
+
+    // Début de l'acquisition en cours, puis instants d'obtention des connexions ouvertes du thread (pile LIFO)
+    private final ThreadLocal<long[]> acquireStart = ThreadLocal.withInitial(() -> new long[1]);
+    private final ThreadLocal<ArrayDeque<Long>> held = ThreadLocal.withInitial(ArrayDeque::new);
+
+    public ConnectionMetricsListener(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext context) {
+        if (isGetConnection(context)) {
+            acquireStart.get()[0] = System.nanoTime();
+        }
+    }
+
+    @Override
+    public void afterMethod(MethodExecutionContext context) {
+        long now = System.nanoTime();
+        if (isGetConnection(context)) {
+            timer(acquireTimers, "jdbc.connection.acquire", endpoint())
+                    .record(now - acquireStart.get()[0], TimeUnit.NANOSECONDS);
+            if (context.getThrown() == null) {
+                held.get().push(now);
+            }
+        } else if (context.getTarget() instanceof Connection && "close".equals(context.getMethod().getName())) {
+            Long obtained = held.get().poll();
+            if (obtained != null) {
+                timer(holdTimers, "jdbc.connection.hold", endpoint()).record(now - obtained, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    /**
+     * @return statistiques d'acquisition et de détention par endpoint, pour l'endpoint actuator
+     */
+    public Map<String, Map<String, Object>> snapshot() {
+        Map<String, Map<String, Object>> endpoints = new TreeMap<>();
+        acquireTimers.forEach((endpoint, timer) -> endpoints.computeIfAbsent(endpoint, e -> new LinkedHashMap<>())
+                .put("acquire", summary(timer)));
+        holdTimers.forEach((endpoint, timer) -> endpoints.computeIfAbsent(endpoint, e -> new LinkedHashMap<>())
+                .put("hold", summary(timer)));
+        return endpoints;
+    }
+
+    private static Map<String, Object> summary(Timer timer) {
+        return Map.of(
+                "count", timer.count(),
+                "meanMs", timer.mean(TimeUnit.MILLISECONDS),
+                "maxMs", timer.max(TimeUnit.MILLISECONDS),
+                "totalMs", timer.totalTime(TimeUnit.MILLISECONDS));
+    }
+
+    private Timer timer(Map<String, Timer> timers, String name, String endpoint) {
+        return timers.computeIfAbsent(endpoint, e -> Timer.builder(name)
+                .tag("endpoint", e)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    private static boolean isGetConnection(MethodExecutionContext context) {
+        return context.getTarget() instanceof DataSource && "getConnection".equals(context.getMethod().getName());
+    }
+
+    // Route résolue par Spring MVC : nombre de valeurs borné, contrairement à l'URI
+    static String endpoint() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servlet) {
+            Object pattern = servlet.getRequest().getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            return servlet.getRequest().getMethod() + " " + (pattern != null ? pattern : "UNKNOWN");
+        }
+        return BACKGROUND;
+    }
+}
@@ -0,0 +1,83 @@
+/**
+ * Endpoint actuator des statistiques de persistance (/actuator/hibernate)
+ * 
+ * Vue instantanée des statistiques Hibernate (par entité, requêtes, cache de second niveau)
+ * et de l'acquisition / détention des connexions JDBC par endpoint. DELETE remet les
+ * statistiques Hibernate à zéro pour mesurer un scénario isolé.
+ * 
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+package com.abdatytch.user_service.monitoring;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+@Component
+@Endpoint(id = "hibernate")
+public class HibernateStatisticsEndpoint {
+
+    private final Statistics statistics;
+    private final ObjectProvider<ConnectionMetricsListener> connectionMetrics;
+
+    public HibernateStatisticsEndpoint(HibernateStatisticsMetrics metrics,
+                                       ObjectProvider<ConnectionMetricsListener> connectionMetrics) {
+        this.statistics = metrics.getStatistics();
+        this.connectionMetrics = connectionMetrics;
+    }
+
+    @ReadOperation
+    public Map<String, Object> statistics() {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("enabled", statistics.isStatisticsEnabled());
+        body.put("sessionsOpened", statistics.getSessionOpenCount());
+        body.put("connectionsObtained", statistics.getConnectCount());
+        body.put("transactions", statistics.getTransactionCount());
+        body.put("statementsPrepared", statistics.getPrepareStatementCount());
+
+        Map<String, Object> queries = new LinkedHashMap<>();
+        queries.put("executions", statistics.getQueryExecutionCount());
+        queries.put("maxTimeMs", statistics.getQueryExecutionMaxTime());
+        queries.put("slowest", statistics.getQueryExecutionMaxTimeQueryString());
+        body.put("queries", queries);
+
+        Map<String, Object> entities = new TreeMap<>();
+        for (String entity : statistics.getEntityNames()) {
+            EntityStatistics stats = statistics.getEntityStatistics(entity);
+            entities.put(entity.substring(entity.lastIndexOf('.') + 1), Map.of(
+                    "loads", stats.getLoadCount(),
+                    "fetches", stats.getFetchCount(),
+                    "inserts", stats.getInsertCount(),
+                    "updates", stats.getUpdateCount(),
+                    "deletes", stats.getDeleteCount()));
+        }
+        body.put("entities", entities);
+        body.put("collectionFetches", statistics.getCollectionFetchCount());
+
+        Map<String, Object> secondLevel = new LinkedHashMap<>();
+        secondLevel.put("hits", statistics.getSecondLevelCacheHitCount());
+        secondLevel.put("misses", statistics.getSecondLevelCacheMissCount());
+        secondLevel.put("hitRatio", HibernateStatisticsMetrics.secondLevelHitRatio(statistics));
+        body.put("secondLevelCache", secondLevel);
+
+        ConnectionMetricsListener connections = connectionMetrics.getIfAvailable();
+        if (connections != null) {
+            body.put("connections", connections.snapshot());
+        }
+        return body;
+    }
+
+    @DeleteOperation
+    public void reset() {
+        statistics.clear();
+    }
+}
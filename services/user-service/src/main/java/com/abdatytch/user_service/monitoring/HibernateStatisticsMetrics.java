@@ -0,0 +1,78 @@
+/**
+ * Export Micrometer des statistiques Hibernate
+ * 
+ * Chargements et récupérations par entité, exécutions de requêtes, requêtes préparées,
+ * sessions et cache de second niveau (succès, échecs, taux de succès). Les compteurs
+ * sont lus à la collecte, sans coût sur le chemin des requêtes au-delà de celui de
+ * hibernate.generate_statistics.
+ * 
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+package com.abdatytch.user_service.monitoring;
+
+import java.util.function.ToDoubleFunction;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+@Component
+public class HibernateStatisticsMetrics implements MeterBinder {
+
+    private final Statistics statistics;
+
+    public HibernateStatisticsMetrics(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    /**
+     * @return statistiques de la SessionFactory, partagées avec l'endpoint actuator
+     */
+    public Statistics getStatistics() {return statistics;}
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String entity : statistics.getEntityNames()) {
+            String name = entity.substring(entity.lastIndexOf('.') + 1);
+            counter(registry, "hibernate.entity.loads", "Entités chargées", name,
+                    s -> s.getEntityStatistics(entity).getLoadCount());
+            counter(registry, "hibernate.entity.fetches", "Entités récupérées par sélection secondaire", name,
+                    s -> s.getEntityStatistics(entity).getFetchCount());
+        }
+        counter(registry, "hibernate.query.executions", "Requêtes HQL/SQL exécutées", null, Statistics::getQueryExecutionCount);
+        counter(registry, "hibernate.statements.prepared", "Requêtes JDBC préparées", null, Statistics::getPrepareStatementCount);
+        counter(registry, "hibernate.sessions.opened", "Sessions ouvertes", null, Statistics::getSessionOpenCount);
+        counter(registry, "hibernate.collection.fetches", "Collections récupérées", null, Statistics::getCollectionFetchCount);
+        FunctionCounter.builder("hibernate.second.level.cache.requests", statistics, Statistics::getSecondLevelCacheHitCount)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("hibernate.second.level.cache.requests", statistics, Statistics::getSecondLevelCacheMissCount)
+                .tag("result", "miss")
+                .register(registry);
+        Gauge.builder("hibernate.second.level.cache.hit.ratio", statistics, HibernateStatisticsMetrics::secondLevelHitRatio)
+                .description("Taux de succès du cache de second niveau")
+                .register(registry);
+    }
+
+    static double secondLevelHitRatio(Statistics statistics) {
+        long hits = statistics.getSecondLevelCacheHitCount();
+        long requests = hits + statistics.getSecondLevelCacheMissCount();
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+
+    private void counter(MeterRegistry registry, String name, String description, String entity,
+                         ToDoubleFunction<Statistics> count) {
+        FunctionCounter.Builder<Statistics> builder = FunctionCounter.builder(name, statistics, count)
+                .description(description);
+        if (entity != null) {
+            builder.tag("entity", entity);
+        }
+        builder.register(registry);
+    }
+}
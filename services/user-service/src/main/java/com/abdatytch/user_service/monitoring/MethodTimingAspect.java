@@ -0,0 +1,169 @@
+/**
+ * Mesure de latence des méthodes de service et de repository
+ * 
+ * Chaque appel public d'un service (UserService, DepartmentService, AdministrationService,
+ * ProfileService) ou d'un repository alimente le Timer directory.method, étiqueté par couche,
+ * composant, méthode et résultat (ok, not_found, duplicate, validation, error). Les timers
+ * publient un histogramme de percentiles et les seuils SLO configurés ; chacun n'est
+ * enregistré qu'au premier appel qui produit son résultat.
+ * 
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+package com.abdatytch.user_service.monitoring;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import com.abdatytch.user_service.exception.ApiException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.validation.ConstraintViolationException;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+@Aspect
+@Component
+@ConditionalOnProperty(name = "method-metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class MethodTimingAspect {
+
+    private static final String BASE_PACKAGE = "com.abdatytch.user_service";
+
+    /**
+     * Résultat d'un appel, valeur de l'étiquette outcome
+     */
+    enum Outcome {
+        OK, NOT_FOUND, DUPLICATE, VALIDATION, ERROR;
+
+        final String tag = name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Clé d'un jeu de timers : classe du proxy (le composant) et méthode appelée
+     */
+    private record Key(Class<?> type, Method method) {}
+
+    /**
+     * Timers d'une méthode, un par résultat, enregistrés au premier usage
+     */
+    private final class MethodTimers {
+        final String layer;
+        final String component;
+        final String method;
+        final AtomicReferenceArray<Timer> byOutcome = new AtomicReferenceArray<>(Outcome.values().length);
+
+        MethodTimers(String layer, String component, String method) {
+            this.layer = layer;
+            this.component = component;
+            this.method = method;
+        }
+
+        Timer get(Outcome outcome) {
+            Timer timer = byOutcome.get(outcome.ordinal());
+            if (timer == null) {
+                // Le registre renvoie le même Timer si deux threads l'enregistrent en même temps
+                timer = register(layer, component, method, outcome);
+                byOutcome.set(outcome.ordinal(), timer);
+            }
+            return timer;
+        }
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final Duration[] slo;
+    private final Map<Key, MethodTimers> timers = new ConcurrentHashMap<>();
+
+    /**
+     * @param meterRegistry Registre Micrometer
+     * @param slo Seuils SLO publiés comme buckets de l'histogramme
+     */
+    public MethodTimingAspect(MeterRegistry meterRegistry,
+                              @Value("${method-metrics.slo:10ms,50ms,100ms,250ms,500ms,1s}") Duration[] slo) {
+        this.meterRegistry = meterRegistry;
+        this.slo = slo;
+    }
+
+    @Around("execution(public * com.abdatytch.user_service.service.*Service+.*(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, "service");
+    }
+
+    @Around("execution(public * com.abdatytch.user_service.repository..*+.*(..))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, "repository");
+    }
+
+    private Object time(ProceedingJoinPoint joinPoint, String layer) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        MethodTimers methodTimers = timers.computeIfAbsent(new Key(joinPoint.getThis().getClass(), method),
+                key -> new MethodTimers(layer, component(key.type()), method.getName()));
+        long start = System.nanoTime();
+        Outcome outcome = Outcome.ERROR;
+        try {
+            Object result = joinPoint.proceed();
+            // Les services rendent null et les repositories Optional.empty() pour une ressource absente
+            boolean absent = (result == null && method.getReturnType() != void.class)
+                    || (result instanceof Optional<?> optional && optional.isEmpty());
+            outcome = absent ? Outcome.NOT_FOUND : Outcome.OK;
+            return result;
+        } catch (Throwable e) {
+            outcome = outcome(e);
+            throw e;
+        } finally {
+            methodTimers.get(outcome).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer register(String layer, String component, String method, Outcome outcome) {
+        return Timer.builder("directory.method")
+                .description("Latence des méthodes de service et de repository")
+                .tag("layer", layer)
+                .tag("component", component)
+                .tag("method", method)
+                .tag("outcome", outcome.tag)
+                .publishPercentileHistogram()
+                .serviceLevelObjectives(slo)
+                .register(meterRegistry);
+    }
+
+    static Outcome outcome(Throwable e) {
+        if (e instanceof ApiException api) {
+            return switch (api.getStatus()) {
+                case NOT_FOUND -> Outcome.NOT_FOUND;
+                case CONFLICT -> Outcome.DUPLICATE;
+                case BAD_REQUEST -> Outcome.VALIDATION;
+                default -> Outcome.ERROR;
+            };
+        }
+        if (e instanceof ConstraintViolationException) {
+            return Outcome.VALIDATION;
+        }
+        if (e instanceof DataIntegrityViolationException) {
+            return Outcome.DUPLICATE;
+        }
+        return Outcome.ERROR;
+    }
+
+    // Interface du projet implémentée par le proxy (UserService, UserRepository...), à défaut la classe
+    private static String component(Class<?> proxyType) {
+        for (Class<?> type : ClassUtils.getAllInterfacesForClassAsSet(proxyType)) {
+            if (type.getName().startsWith(BASE_PACKAGE)) {
+                return type.getSimpleName();
+            }
+        }
+        return ClassUtils.getUserClass(proxyType).getSimpleName();
+    }
+}
@@ -0,0 +1,62 @@
+/**
+ * Journal asynchrone des requêtes SQL lentes
+ * 
+ * Les lignes sont déposées dans une file bornée et écrites par un thread dédié :
+ * le thread de la requête ne fait jamais d'E/S de log. File pleine : la ligne est
+ * abandonnée et comptée (sql.slow.log.dropped).
+ * 
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+package com.abdatytch.user_service.monitoring;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public final class SlowQueryLog implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger("sql.slow");
+
+    private final BlockingQueue<String> queue;
+    private final Counter dropped;
+    private final Thread writer;
+
+    public SlowQueryLog(int capacity, MeterRegistry meterRegistry) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.dropped = meterRegistry.counter("sql.slow.log.dropped");
+        this.writer = new Thread(this::drain, "slow-query-log");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * Dépose une ligne sans bloquer
+     * 
+     * @param line Ligne à journaliser
+     */
+    public void submit(String line) {
+        if (!queue.offer(line)) {
+            dropped.increment();
+        }
+    }
+
+    private void drain() {
+        try {
+            while (true) {
+                logger.warn(queue.take());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        writer.interrupt();
+    }
+}
@@ -0,0 +1,173 @@
+/**
+ * Mesure des requêtes SQL au niveau de la source de données
+ * 
+ * Chaque requête exécutée alimente deux Timers : jdbc.operation, étiqueté par opération
+ * et table, avec histogramme pour les centiles ; jdbc.statement, étiqueté en plus par
+ * l'empreinte de la requête (texte SQL haché, lisible dans le journal lent), sans
+ * histogramme pour ne pas multiplier les séries par requête distincte.
+ * Les requêtes au-delà du seuil sont journalisées de façon asynchrone et
+ * échantillonnée ; les valeurs des paramètres liés sont masquées (type et taille
+ * seulement).
+ * 
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+package com.abdatytch.user_service.monitoring;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+public class SqlMetricsListener implements QueryExecutionListener {
+
+    // Au-delà, les nouvelles requêtes partagent l'étiquette statement="other"
+    private static final int MAX_STATEMENTS = 500;
+
+    private final MeterRegistry meterRegistry;
+    private final long slowThresholdMillis;
+    private final double sampleRate;
+    private final SlowQueryLog slowQueryLog;
+    private record Timers(Timer statement, Timer operation) {
+
+        void record(long elapsedMillis) {
+            statement.record(elapsedMillis, TimeUnit.MILLISECONDS);
+            operation.record(elapsedMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // Par texte SQL, au plus MAX_STATEMENTS entrées
+    private final Map<String, Timers> timers = new ConcurrentHashMap<>();
+    // Par opération et table : Timers jdbc.operation, et jdbc.statement pour statement="other"
+    private final Map<String, Timer> operationTimers = new ConcurrentHashMap<>();
+    private final Map<String, Timer> otherTimers = new ConcurrentHashMap<>();
+
+    public SqlMetricsListener(MeterRegistry meterRegistry, long slowThresholdMillis, double sampleRate,
+                              SlowQueryLog slowQueryLog) {
+        this.meterRegistry = meterRegistry;
+        this.slowThresholdMillis = slowThresholdMillis;
+        this.sampleRate = sampleRate;
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long elapsed = execInfo.getElapsedTime();
+        for (QueryInfo query : queryInfoList) {
+            timers(query.getQuery()).record(elapsed);
+        }
+        if (elapsed >= slowThresholdMillis && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            slowQueryLog.submit(describe(execInfo, queryInfoList));
+        }
+    }
+
+    private Timers timers(String sql) {
+        Timers cached = timers.get(sql);
+        if (cached != null) {
+            return cached;
+        }
+        String operation = operation(sql);
+        String table = table(sql);
+        String key = operation + '|' + table;
+        Timer operationTimer = operationTimers.computeIfAbsent(key, k -> Timer.builder("jdbc.operation")
+                .tag("operation", operation)
+                .tag("table", table)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+        if (timers.size() >= MAX_STATEMENTS) {
+            return new Timers(otherTimers.computeIfAbsent(key, k -> statementTimer(operation, table, "other")),
+                    operationTimer);
+        }
+        return timers.computeIfAbsent(sql,
+                k -> new Timers(statementTimer(operation, table, fingerprint(sql)), operationTimer));
+    }
+
+    private Timer statementTimer(String operation, String table, String statement) {
+        return Timer.builder("jdbc.statement")
+                .tag("operation", operation)
+                .tag("table", table)
+                .tag("statement", statement)
+                .register(meterRegistry);
+    }
+
+    public static String fingerprint(String sql) {
+        return String.format("%08x", sql.hashCode());
+    }
+
+    public static String operation(String sql) {
+        String trimmed = sql.stripLeading();
+        int end = 0;
+        while (end < trimmed.length() && Character.isLetter(trimmed.charAt(end))) {
+            end++;
+        }
+        return end == 0 ? "other" : trimmed.substring(0, end).toLowerCase(Locale.ROOT);
+    }
+
+    // Première table après from / into / update
+    public static String table(String sql) {
+        String lower = sql.toLowerCase(Locale.ROOT);
+        for (String keyword : new String[] {" from ", " into ", "update "}) {
+            int index = lower.indexOf(keyword);
+            if (index >= 0) {
+                int start = index + keyword.length();
+                while (start < lower.length() && lower.charAt(start) == ' ') {
+                    start++;
+                }
+                int end = start;
+                while (end < lower.length() && (Character.isLetterOrDigit(lower.charAt(end)) || lower.charAt(end) == '_')) {
+                    end++;
+                }
+                if (end > start) {
+                    return lower.substring(start, end);
+                }
+            }
+        }
+        return "other";
+    }
+
+    private static String describe(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        StringBuilder line = new StringBuilder(256)
+                .append("Requête lente ").append(execInfo.getElapsedTime()).append(" ms")
+                .append(execInfo.isSuccess() ? "" : " (échec)");
+        for (QueryInfo query : queryInfoList) {
+            line.append(" [").append(fingerprint(query.getQuery())).append("] ").append(query.getQuery());
+            for (List<ParameterSetOperation> parameters : query.getParametersList()) {
+                line.append(" params=").append(redact(parameters));
+            }
+        }
+        return line.toString();
+    }
+
+    // Valeurs masquées : seuls le type et la taille des chaînes sont conservés
+    private static String redact(List<ParameterSetOperation> parameters) {
+        StringBuilder redacted = new StringBuilder("[");
+        for (int i = 0; i < parameters.size(); i++) {
+            Object[] args = parameters.get(i).getArgs();
+            Object value = args.length > 1 ? args[1] : null;
+            if (i > 0) {
+                redacted.append(", ");
+            }
+            if (value == null) {
+                redacted.append("null");
+            } else if (value instanceof CharSequence text) {
+                redacted.append("String(").append(text.length()).append(')');
+            } else {
+                redacted.append(value.getClass().getSimpleName());
+            }
+        }
+        return redacted.append(']').toString();
+    }
+}
@@ -0,0 +1,88 @@
+package com.abdatytch.user_service.monitoring;
+
+import java.time.Duration;
+import javax.sql.DataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Observation SQL au niveau de la source de données (remplace spring.jpa.show-sql)
+ * 
+ * La DataSource est enveloppée par datasource-proxy : chaque requête est chronométrée
+ * (jdbc.operation et jdbc.statement, exportés vers Prometheus), les requêtes lentes sont journalisées
+ * hors du thread appelant, échantillonnées, paramètres masqués, et l'acquisition et
+ * la détention des connexions sont mesurées par endpoint.
+ */
+@Configuration
+@ConditionalOnProperty(name = "sql-monitoring.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlMonitoringConfig {
+
+    /**
+     * @param meterRegistry Registre Micrometer
+     * @param capacity Nombre maximal de lignes en attente d'écriture
+     * @return journal asynchrone des requêtes lentes
+     */
+    @Bean(destroyMethod = "close")
+    public SlowQueryLog slowQueryLog(MeterRegistry meterRegistry,
+                                     @Value("${sql-monitoring.slow-log.queue-capacity:1000}") int capacity) {
+        return new SlowQueryLog(capacity, meterRegistry);
+    }
+
+    /**
+     * @param meterRegistry Registre Micrometer
+     * @param slowThreshold Seuil de journalisation d'une requête
+     * @param sampleRate Part des requêtes lentes journalisées (0 à 1)
+     * @param slowQueryLog Journal asynchrone
+     * @return écouteur des requêtes exécutées
+     */
+    @Bean
+    public SqlMetricsListener sqlMetricsListener(MeterRegistry meterRegistry,
+                                                 @Value("${sql-monitoring.slow-log.threshold:200ms}") Duration slowThreshold,
+                                                 @Value("${sql-monitoring.slow-log.sample-rate:1.0}") double sampleRate,
+                                                 SlowQueryLog slowQueryLog) {
+        return new SqlMetricsListener(meterRegistry, slowThreshold.toMillis(), sampleRate, slowQueryLog);
+    }
+
+    /**
+     * @param meterRegistry Registre Micrometer
+     * @return mesure d'acquisition et de détention des connexions par endpoint
+     */
+    @Bean
+    public ConnectionMetricsListener connectionMetricsListener(MeterRegistry meterRegistry) {
+        return new ConnectionMetricsListener(meterRegistry);
+    }
+
+    /**
+     * Enveloppe la DataSource de l'application
+     * 
+     * @param listeners Écouteurs des requêtes déclarés comme beans (métriques, spans JDBC si le traçage
+     *                  est actif, compteurs des tests), résolus à la première DataSource rencontrée
+     * @param connectionListener Écouteur des connexions
+     * @return post-processeur des DataSource
+     */
+    @Bean
+    public static BeanPostProcessor sqlMonitoringDataSourcePostProcessor(ObjectProvider<QueryExecutionListener> listeners,
+                                                                         ObjectProvider<ConnectionMetricsListener> connectionListener) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .methodListener(connectionListener.getObject());
+                    listeners.orderedStream().forEach(builder::listener);
+                    return builder.build();
+                }
+                return bean;
+            }
+        };
+    }
+}
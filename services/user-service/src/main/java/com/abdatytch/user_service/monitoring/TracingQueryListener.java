@@ -0,0 +1,68 @@
+/**
+ * Spans des requêtes JDBC
+ * 
+ * Ouvre un span client enfant du span courant autour de chaque exécution JDBC :
+ * opération, table et empreinte de la requête en étiquettes (texte SQL et valeurs
+ * des paramètres exclus). Une trace HTTP se décompose ainsi jusqu'à la base.
+ * 
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+package com.abdatytch.user_service.monitoring;
+
+import java.util.List;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+public class TracingQueryListener implements QueryExecutionListener {
+
+    private static final String SPAN_KEY = TracingQueryListener.class.getName();
+
+    private final Tracer tracer;
+    private final String remoteServiceName;
+
+    public TracingQueryListener(Tracer tracer, String remoteServiceName) {
+        this.tracer = tracer;
+        this.remoteServiceName = remoteServiceName;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        String sql = queryInfoList.isEmpty() ? "" : queryInfoList.get(0).getQuery();
+        Span.Builder builder = tracer.spanBuilder()
+                .name("jdbc " + SqlMetricsListener.operation(sql))
+                .kind(Span.Kind.CLIENT)
+                .remoteServiceName(remoteServiceName);
+        Span parent = tracer.currentSpan();
+        if (parent != null) {
+            builder.setParent(parent.context());
+        }
+        Span span = builder.start();
+        execInfo.addCustomValue(SPAN_KEY, span);
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Span span = execInfo.getCustomValue(SPAN_KEY, Span.class);
+        if (span == null) {
+            return;
+        }
+        if (!queryInfoList.isEmpty()) {
+            String sql = queryInfoList.get(0).getQuery();
+            span.tag("db.operation", SqlMetricsListener.operation(sql))
+                    .tag("db.table", SqlMetricsListener.table(sql))
+                    .tag("db.statement.id", SqlMetricsListener.fingerprint(sql));
+        }
+        if (queryInfoList.size() > 1 || execInfo.isBatch()) {
+            span.tag("db.batch.size", String.valueOf(Math.max(queryInfoList.size(), execInfo.getBatchSize())));
+        }
+        if (execInfo.getThrowable() != null) {
+            span.error(execInfo.getThrowable());
+        }
+        span.end();
+    }
+}
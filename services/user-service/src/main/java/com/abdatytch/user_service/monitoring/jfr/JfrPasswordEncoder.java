@@ -0,0 +1,59 @@
+/**
+ * PasswordEncoder émettant un événement JFR autour de chaque appel
+ * 
+ * Décore l'encodeur réel (BCrypt) : le coût du hachage apparaît dans un enregistrement
+ * JFR comme un événement PasswordEncode au lieu de piles génériques. Sans enregistrement
+ * actif, seul le test isEnabled() est ajouté.
+ * 
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+package com.abdatytch.user_service.monitoring.jfr;
+
+import java.util.function.Supplier;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+public class JfrPasswordEncoder implements PasswordEncoder {
+
+    private static final String ENTITY = "User";
+
+    private final PasswordEncoder delegate;
+
+    public JfrPasswordEncoder(PasswordEncoder delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return record("encode", () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return record("matches", () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private static <T> T record(String operation, Supplier<T> call) {
+        PasswordEncodeEvent event = new PasswordEncodeEvent();
+        if (!event.isEnabled()) {
+            return call.get();
+        }
+        event.begin();
+        try {
+            return call.get();
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.entity = ENTITY;
+                event.operation = operation;
+                event.commit();
+            }
+        }
+    }
+}
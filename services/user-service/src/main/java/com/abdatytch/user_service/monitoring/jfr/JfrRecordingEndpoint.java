@@ -0,0 +1,173 @@
+/**
+ * Endpoint actuator d'enregistrement JFR à la demande (/actuator/jfr)
+ * 
+ * POST démarre un enregistrement borné (durée, âge et taille maximaux plafonnés par la
+ * configuration), DELETE l'arrête, GET télécharge le fichier .jfr (instantané de
+ * l'enregistrement en cours, ou dernier enregistrement terminé). Un seul enregistrement
+ * à la fois ; les événements du service sont activés au seuil configuré.
+ * 
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+package com.abdatytch.user_service.monitoring.jfr;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import jakarta.annotation.PreDestroy;
+
+@Component
+@Endpoint(id = "jfr")
+public class JfrRecordingEndpoint {
+
+    private final String settings;
+    private final Duration maxDuration;
+    private final Duration maxAge;
+    private final long maxSizeBytes;
+    private final Duration eventThreshold;
+
+    private Recording recording;
+    private Path lastDump;
+
+    public JfrRecordingEndpoint(@Value("${jfr.recording.settings:default}") String settings,
+                                @Value("${jfr.recording.max-duration:10m}") Duration maxDuration,
+                                @Value("${jfr.recording.max-age:10m}") Duration maxAge,
+                                @Value("${jfr.recording.max-size-mb:64}") long maxSizeMb,
+                                @Value("${jfr.recording.event-threshold:0ms}") Duration eventThreshold) {
+        this.settings = settings;
+        this.maxDuration = maxDuration;
+        this.maxAge = maxAge;
+        this.maxSizeBytes = maxSizeMb * 1024 * 1024;
+        this.eventThreshold = eventThreshold;
+    }
+
+    /**
+     * Démarre un enregistrement
+     * 
+     * @param durationSeconds Durée avant arrêt automatique (plafonnée par max-duration)
+     * @param maxSizeMb Taille maximale conservée sur disque (plafonnée par max-size-mb)
+     * @return état de l'enregistrement, 409 si un enregistrement est déjà en cours
+     */
+    @WriteOperation
+    public synchronized WebEndpointResponse<Map<String, Object>> start(@Nullable Integer durationSeconds,
+                                                                       @Nullable Integer maxSizeMb) {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            return new WebEndpointResponse<>(status(), 409);
+        }
+        closeRecording();
+        try {
+            Recording started = new Recording(Configuration.getConfiguration(settings));
+            started.setName("user-service");
+            started.setToDisk(true);
+            started.setDuration(bounded(durationSeconds == null ? null : Duration.ofSeconds(durationSeconds), maxDuration));
+            started.setMaxAge(maxAge);
+            started.setMaxSize(maxSizeMb == null ? maxSizeBytes : Math.min(maxSizeMb * 1024L * 1024L, maxSizeBytes));
+            started.enable(RepositoryQueryEvent.class).withThreshold(eventThreshold);
+            started.enable(PasswordEncodeEvent.class).withThreshold(eventThreshold);
+            started.enable(ValidationEvent.class).withThreshold(eventThreshold);
+            started.start();
+            recording = started;
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("Configuration JFR invalide : " + settings, e);
+        }
+        return new WebEndpointResponse<>(status());
+    }
+
+    /**
+     * Arrête l'enregistrement en cours et conserve son fichier pour téléchargement
+     * 
+     * @return état de l'enregistrement
+     */
+    @DeleteOperation
+    public synchronized Map<String, Object> stop() {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+        }
+        return status();
+    }
+
+    /**
+     * Télécharge l'enregistrement : instantané s'il est en cours, sinon le dernier terminé
+     * 
+     * @return fichier .jfr, 404 si aucun enregistrement n'a été démarré
+     */
+    @ReadOperation
+    public synchronized WebEndpointResponse<Resource> download() {
+        if (recording == null) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        RecordingState state = recording.getState();
+        if (state == RecordingState.RUNNING || state == RecordingState.STOPPED) {
+            try {
+                Path dump = Files.createTempFile("user-service-", ".jfr");
+                recording.dump(dump);
+                deleteLastDump();
+                lastDump = dump;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return lastDump == null
+                ? new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND)
+                : new WebEndpointResponse<>(new FileSystemResource(lastDump));
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        closeRecording();
+        deleteLastDump();
+    }
+
+    private Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("state", recording == null ? "NONE" : recording.getState().name());
+        if (recording != null) {
+            status.put("settings", settings);
+            status.put("duration", String.valueOf(recording.getDuration()));
+            status.put("maxSizeBytes", recording.getMaxSize());
+            status.put("maxAge", String.valueOf(recording.getMaxAge()));
+        }
+        return status;
+    }
+
+    private static Duration bounded(Duration requested, Duration max) {
+        return requested == null || requested.compareTo(max) > 0 ? max : requested;
+    }
+
+    private void closeRecording() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    private void deleteLastDump() {
+        if (lastDump != null) {
+            try {
+                Files.deleteIfExists(lastDump);
+            } catch (IOException ignored) {
+                // Fichier temporaire : supprimé au prochain nettoyage du système
+            }
+            lastDump = null;
+        }
+    }
+}
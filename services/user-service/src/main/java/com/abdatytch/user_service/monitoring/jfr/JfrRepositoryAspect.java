@@ -0,0 +1,57 @@
+/**
+ * Émission d'événements JFR autour des appels de repository
+ * 
+ * Couvre UserRepository ainsi que les repositories des départements et des administrations ;
+ * l'entité est déduite du nom de l'interface (UserRepository : User).
+ * 
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+package com.abdatytch.user_service.monitoring.jfr;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+@Aspect
+@Component
+public class JfrRepositoryAspect {
+
+    private static final String SUFFIX = "Repository";
+
+    @Around("execution(public * com.abdatytch.user_service.repository..*+.*(..))")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        RepositoryQueryEvent event = new RepositoryQueryEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        event.begin();
+        boolean success = false;
+        try {
+            Object result = joinPoint.proceed();
+            success = true;
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.entity = entity(joinPoint.getThis().getClass());
+                event.operation = joinPoint.getSignature().getName();
+                event.success = success;
+                event.commit();
+            }
+        }
+    }
+
+    private static String entity(Class<?> proxyType) {
+        for (Class<?> type : ClassUtils.getAllInterfacesForClassAsSet(proxyType)) {
+            String name = type.getSimpleName();
+            if (type.getName().startsWith("com.abdatytch.user_service.repository.") && name.endsWith(SUFFIX)) {
+                return name.substring(0, name.length() - SUFFIX.length());
+            }
+        }
+        return ClassUtils.getUserClass(proxyType).getSimpleName();
+    }
+}
@@ -0,0 +1,29 @@
+/**
+ * Événement JFR : hachage ou vérification d'un mot de passe
+ * 
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+package com.abdatytch.user_service.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.abdatytch.user.PasswordEncode")
+@Label("Encodage de mot de passe")
+@Description("Durée d'un appel au PasswordEncoder (BCrypt)")
+@Category({"User Service", "Sécurité"})
+@StackTrace(false)
+public class PasswordEncodeEvent extends Event {
+
+    @Label("Entité")
+    String entity;
+
+    @Label("Opération")
+    String operation;
+}
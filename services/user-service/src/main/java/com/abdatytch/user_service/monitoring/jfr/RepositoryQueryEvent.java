@@ -0,0 +1,32 @@
+/**
+ * Événement JFR : appel d'une méthode de repository
+ * 
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+package com.abdatytch.user_service.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.abdatytch.user.RepositoryQuery")
+@Label("Requête de repository")
+@Description("Durée d'un appel de repository Spring Data")
+@Category({"User Service", "Persistance"})
+@StackTrace(false)
+public class RepositoryQueryEvent extends Event {
+
+    @Label("Entité")
+    String entity;
+
+    @Label("Opération")
+    String operation;
+
+    @Label("Succès")
+    boolean success;
+}
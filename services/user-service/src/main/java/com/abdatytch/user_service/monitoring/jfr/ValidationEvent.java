@@ -0,0 +1,66 @@
+/**
+ * Événement JFR : validation d'un DTO d'écriture
+ * 
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+package com.abdatytch.user_service.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.abdatytch.user.Validation")
+@Label("Validation")
+@Description("Durée de la validation Bean Validation d'une écriture")
+@Category({"User Service", "Validation"})
+@StackTrace(false)
+public class ValidationEvent extends Event {
+
+    @Label("Entité")
+    String entity;
+
+    @Label("Opération")
+    String operation;
+
+    @Label("Violations")
+    int violations;
+
+    /**
+     * Ouvre un événement de validation, null si aucun enregistrement ne l'a activé
+     * 
+     * @param entity Entité validée
+     * @param operation Méthode de validation
+     * @return événement démarré, ou null
+     */
+    public static ValidationEvent start(String entity, String operation) {
+        ValidationEvent event = new ValidationEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.entity = entity;
+        event.operation = operation;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Termine l'événement s'il a été démarré
+     * 
+     * @param event Événement rendu par {@link #start}, éventuellement null
+     * @param violations Nombre de violations trouvées
+     */
+    public static void end(ValidationEvent event, int violations) {
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.violations = violations;
+                event.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,25 @@
+/**
+ * Trace conservée par l'échantillonnage, telle qu'exportée localement
+ * 
+ * @param traceId Identifiant de trace
+ * @param decision Motif de conservation : head, slow ou error
+ * @param durationMicros Durée du span racine local
+ * @param spans Spans de la trace dans ce service, racine en dernier
+ * 
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+package com.abdatytch.user_service.monitoring.tracing;
+
+import java.util.List;
+import java.util.Map;
+
+public record ExportedTrace(String traceId, String decision, long durationMicros, List<Span> spans) {
+
+    /**
+     * Span exporté : les étiquettes sont celles posées par les observations (HTTP, JDBC...)
+     */
+    public record Span(String spanId, String parentId, String name, String kind,
+                       long startMicros, long durationMicros, String error, Map<String, String> tags) {}
+}
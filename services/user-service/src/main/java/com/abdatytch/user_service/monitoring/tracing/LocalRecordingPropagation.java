@@ -0,0 +1,71 @@
+/**
+ * Enregistrement local borné des traces non échantillonnées en tête
+ * 
+ * Enveloppe la propagation configurée par Spring Boot (W3C) sans changer ce qui est
+ * transmis à l'aval ; seul le drapeau sampledLocal des contextes créés est ajusté.
+ * Pour une trace écartée en tête :
+ * - le span racine local est toujours enregistré (un span par requête), pour que
+ *   TailSamplingSpanHandler conserve les racines lentes ou en erreur ;
+ * - ses spans enfants ne le sont que pour une part localSampleRate des traces,
+ *   choisie d'après l'identifiant de la racine locale (même décision sur tous les
+ *   threads de la requête).
+ * 
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+package com.abdatytch.user_service.monitoring.tracing;
+
+import brave.propagation.Propagation;
+import brave.propagation.TraceContext;
+
+public class LocalRecordingPropagation extends Propagation.Factory {
+
+    private static final long PRECISION = 10_000;
+
+    private final Propagation.Factory delegate;
+    private final long threshold;
+
+    /**
+     * @param delegate Propagation configurée (en-têtes, baggage)
+     * @param localSampleRate Part des traces non échantillonnées enregistrées en entier (0 à 1)
+     */
+    public LocalRecordingPropagation(Propagation.Factory delegate, double localSampleRate) {
+        if (localSampleRate < 0 || localSampleRate > 1) {
+            throw new IllegalArgumentException("Taux d'enregistrement local invalide : " + localSampleRate);
+        }
+        this.delegate = delegate;
+        this.threshold = Math.round(localSampleRate * PRECISION);
+    }
+
+    @Override
+    public TraceContext decorate(TraceContext context) {
+        TraceContext decorated = delegate.decorate(context);
+        if (Boolean.TRUE.equals(decorated.sampled())) {
+            return decorated;
+        }
+        boolean record = decorated.isLocalRoot() || Math.floorMod(decorated.localRootId(), PRECISION) < threshold;
+        return decorated.sampledLocal() == record ? decorated : decorated.toBuilder().sampledLocal(record).build();
+    }
+
+    @Override
+    public boolean supportsJoin() {
+        return delegate.supportsJoin();
+    }
+
+    @Override
+    public boolean requires128BitTraceId() {
+        return delegate.requires128BitTraceId();
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public <K> Propagation<K> create(Propagation.KeyFactory<K> keyFactory) {
+        return delegate.create(keyFactory);
+    }
+
+    @Override
+    public Propagation<String> get() {
+        return delegate.get();
+    }
+}
@@ -0,0 +1,92 @@
+/**
+ * Exporteur local des traces conservées (mémoire et fichier)
+ * 
+ * Garde les dernières traces dans un tampon borné, lisible par /actuator/spans, et les
+ * ajoute optionnellement à un fichier JSON Lines (une trace par ligne). Destiné au
+ * développement et aux tests locaux : l'écriture fichier est synchrone.
+ * 
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+package com.abdatytch.user_service.monitoring.tracing;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class LocalSpanExporter implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(LocalSpanExporter.class);
+
+    private final int capacity;
+    private final Deque<ExportedTrace> traces;
+    private final ObjectMapper objectMapper;
+    private BufferedWriter writer;
+
+    /**
+     * @param capacity Nombre de traces gardées en mémoire
+     * @param file Fichier JSON Lines, null pour l'export mémoire seul
+     * @param objectMapper Sérialisation des traces
+     */
+    public LocalSpanExporter(int capacity, Path file, ObjectMapper objectMapper) {
+        this.capacity = capacity;
+        this.traces = new ArrayDeque<>(capacity);
+        this.objectMapper = objectMapper;
+        if (file != null) {
+            try {
+                this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            } catch (IOException e) {
+                logger.warn("Export des traces vers {} impossible : {}", file, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * @param trace Trace conservée par l'échantillonnage
+     */
+    public synchronized void export(ExportedTrace trace) {
+        if (traces.size() == capacity) {
+            traces.removeFirst();
+        }
+        traces.addLast(trace);
+        if (writer != null) {
+            try {
+                writer.write(objectMapper.writeValueAsString(trace));
+                writer.newLine();
+                writer.flush();
+            } catch (IOException e) {
+                logger.warn("Écriture d'une trace impossible : {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * @return traces en mémoire, de la plus récente à la plus ancienne
+     */
+    public synchronized List<ExportedTrace> recent() {
+        List<ExportedTrace> recent = new ArrayList<>(traces);
+        Collections.reverse(recent);
+        return recent;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (writer != null) {
+            writer.close();
+            writer = null;
+        }
+    }
+}
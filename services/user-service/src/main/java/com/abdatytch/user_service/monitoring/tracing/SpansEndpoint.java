@@ -0,0 +1,36 @@
+/**
+ * Endpoint actuator des traces conservées (/actuator/spans)
+ * 
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+package com.abdatytch.user_service.monitoring.tracing;
+
+import java.util.List;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+
+@Endpoint(id = "spans")
+public class SpansEndpoint {
+
+    private final LocalSpanExporter exporter;
+
+    public SpansEndpoint(LocalSpanExporter exporter) {
+        this.exporter = exporter;
+    }
+
+    /**
+     * @param traceId Identifiant de trace (optionnel)
+     * @param decision Motif de conservation : head, slow ou error (optionnel)
+     * @return traces récentes, de la plus récente à la plus ancienne
+     */
+    @ReadOperation
+    public List<ExportedTrace> traces(@Nullable String traceId, @Nullable String decision) {
+        return exporter.recent().stream()
+                .filter(trace -> traceId == null || trace.traceId().equals(traceId))
+                .filter(trace -> decision == null || trace.decision().equals(decision))
+                .toList();
+    }
+}
@@ -0,0 +1,171 @@
+/**
+ * Échantillonnage en queue des traces (tail-based)
+ * 
+ * L'échantillonnage en tête (management.tracing.sampling.probability) décide, à l'entrée,
+ * des traces propagées comme échantillonnées vers l'aval. LocalRecordingPropagation (positionnée
+ * par TracingConfig) fait aussi enregistrer localement, pour les traces écartées en tête, le span
+ * racine de chaque requête et la trace complète d'une part d'entre elles : ce gestionnaire met
+ * les spans enfants en attente jusqu'à la fin du span racine local, puis conserve la trace si
+ * elle a été échantillonnée en tête, si elle est lente (au-delà du seuil) ou si un span est en
+ * erreur. Une racine lente ou en erreur hors de la part enregistrée en entier est conservée
+ * seule. Les traces conservées partent vers l'exporteur local.
+ * 
+ * Les entrées en attente sont retirées à la fin du span racine, y compris abandonné, et celles
+ * qui dépassent maxPendingAge sont évincées : spans enfants terminés après leur racine (lecture
+ * poursuivie en arrière-plan après le délai du cache), racine jamais terminée.
+ * 
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+package com.abdatytch.user_service.monitoring.tracing;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import brave.handler.MutableSpan;
+import brave.handler.SpanHandler;
+import brave.propagation.TraceContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+public class TailSamplingSpanHandler extends SpanHandler {
+
+    static final String HEAD = "head";
+    static final String SLOW = "slow";
+    static final String ERROR = "error";
+
+    private final long slowThresholdMicros;
+    private final int maxPendingTraces;
+    private final long maxPendingAgeNanos;
+    private final LocalSpanExporter exporter;
+    private final Map<Long, Pending> pending = new ConcurrentHashMap<>();
+    private final AtomicLong lastEviction = new AtomicLong(System.nanoTime());
+    private final Map<String, Counter> decisions = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * @param slowThresholdMicros Durée du span racine au-delà de laquelle une trace est conservée
+     * @param maxPendingTraces Nombre maximal de traces en attente de décision
+     * @param maxPendingAge Durée au-delà de laquelle une trace en attente est évincée
+     * @param exporter Destination des traces conservées
+     * @param meterRegistry Registre Micrometer
+     */
+    public TailSamplingSpanHandler(long slowThresholdMicros, int maxPendingTraces, Duration maxPendingAge,
+                                   LocalSpanExporter exporter, MeterRegistry meterRegistry) {
+        this.slowThresholdMicros = slowThresholdMicros;
+        this.maxPendingTraces = maxPendingTraces;
+        this.maxPendingAgeNanos = maxPendingAge.toNanos();
+        this.exporter = exporter;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean end(TraceContext context, MutableSpan span, Cause cause) {
+        long localRoot = context.localRootId();
+        if (cause == Cause.ABANDONED) {
+            if (context.isLocalRoot()) {
+                pending.remove(localRoot);
+            }
+            return true;
+        }
+        evictExpired();
+        if (!context.isLocalRoot()) {
+            Pending trace = pending.get(localRoot);
+            if (trace == null) {
+                if (pending.size() >= maxPendingTraces) {
+                    count("overflow");
+                    return true;
+                }
+                trace = pending.computeIfAbsent(localRoot, id -> new Pending(System.nanoTime()));
+            }
+            trace.spans.add(span);
+            return true;
+        }
+
+        Pending children = pending.remove(localRoot);
+        List<MutableSpan> trace = new ArrayList<>(children == null ? 1 : children.spans.size() + 1);
+        if (children != null) {
+            synchronized (children.spans) {
+                trace.addAll(children.spans);
+            }
+        }
+        trace.add(span);
+
+        String decision = decide(context, span, trace);
+        count(decision == null ? "dropped" : decision);
+        if (decision != null) {
+            exporter.export(toExported(span, decision, trace));
+        }
+        return true;
+    }
+
+    /**
+     * Retire les traces en attente depuis plus de maxPendingAge ; balayage au plus une fois par
+     * quart de cette durée, par un seul thread
+     */
+    private void evictExpired() {
+        long now = System.nanoTime();
+        long last = lastEviction.get();
+        if (now - last < maxPendingAgeNanos / 4 || !lastEviction.compareAndSet(last, now)) {
+            return;
+        }
+        pending.entrySet().removeIf(entry -> {
+            boolean expired = now - entry.getValue().createdAt >= maxPendingAgeNanos;
+            if (expired) {
+                count("expired");
+            }
+            return expired;
+        });
+    }
+
+    private String decide(TraceContext context, MutableSpan root, List<MutableSpan> trace) {
+        if (Boolean.TRUE.equals(context.sampled())) {
+            return HEAD;
+        }
+        for (MutableSpan span : trace) {
+            if (span.error() != null || span.tag("error") != null || "SERVER_ERROR".equals(span.tag("outcome"))) {
+                return ERROR;
+            }
+        }
+        return duration(root) >= slowThresholdMicros ? SLOW : null;
+    }
+
+    private static ExportedTrace toExported(MutableSpan root, String decision, List<MutableSpan> trace) {
+        List<ExportedTrace.Span> spans = new ArrayList<>(trace.size());
+        for (MutableSpan span : trace) {
+            Map<String, String> tags = new LinkedHashMap<>();
+            span.forEachTag((target, key, value) -> target.put(key, value), tags);
+            spans.add(new ExportedTrace.Span(span.id(), span.parentId(), span.name(),
+                    span.kind() == null ? null : span.kind().name(), span.startTimestamp(), duration(span),
+                    span.error() == null ? span.tag("error") : span.error().toString(), tags));
+        }
+        return new ExportedTrace(root.traceId(), decision, duration(root), spans);
+    }
+
+    private static long duration(MutableSpan span) {
+        return span.finishTimestamp() - span.startTimestamp();
+    }
+
+    /**
+     * Spans d'une trace en attente de son span racine local
+     */
+    private static final class Pending {
+
+        private final long createdAt;
+        private final List<MutableSpan> spans = Collections.synchronizedList(new ArrayList<>());
+
+        Pending(long createdAt) {this.createdAt = createdAt;}
+    }
+
+    private void count(String decision) {
+        decisions.computeIfAbsent(decision, d -> Counter.builder("tracing.tail.decisions")
+                .tag("decision", d)
+                .register(meterRegistry)).increment();
+    }
+}
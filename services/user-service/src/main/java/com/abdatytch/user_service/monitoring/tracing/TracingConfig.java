@@ -0,0 +1,121 @@
+package com.abdatytch.user_service.monitoring.tracing;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import com.abdatytch.user_service.monitoring.TracingQueryListener;
+import brave.TracingCustomizer;
+import brave.propagation.Propagation;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * Traçage distribué : échantillonnage en queue, export local et spans JDBC
+ * 
+ * Le contexte de trace (W3C traceparent) est repris de la passerelle par l'instrumentation
+ * HTTP de Spring Boot ; l'échantillonnage en tête reste celui de
+ * management.tracing.sampling.probability. Cette configuration ajoute la conservation des
+ * traces lentes ou en erreur, leur export local, les spans JDBC et la propagation du
+ * contexte vers le pool de lecture.
+ */
+@Configuration
+@ConditionalOnProperty(name = "management.tracing.enabled", havingValue = "true", matchIfMissing = true)
+public class TracingConfig {
+
+    /**
+     * @param capacity Nombre de traces gardées en mémoire
+     * @param file Fichier JSON Lines (vide : pas d'export fichier)
+     * @param objectMapper Sérialisation des traces
+     * @return exporteur local
+     */
+    @Bean(destroyMethod = "close")
+    public LocalSpanExporter localSpanExporter(@Value("${tracing.export.capacity:500}") int capacity,
+                                               @Value("${tracing.export.file:}") String file,
+                                               ObjectMapper objectMapper) {
+        return new LocalSpanExporter(capacity, file.isBlank() ? null : Path.of(file), objectMapper);
+    }
+
+    /**
+     * Ajouté aux gestionnaires de spans de Brave par l'auto-configuration de Spring Boot
+     * 
+     * @param slowThreshold Durée au-delà de laquelle une trace non échantillonnée est conservée
+     * @param maxPending Nombre maximal de traces en attente de décision
+     * @param maxPendingAge Durée au-delà de laquelle une trace en attente est évincée
+     * @param exporter Exporteur local
+     * @param meterRegistry Registre Micrometer
+     * @return gestionnaire d'échantillonnage en queue
+     */
+    @Bean
+    public TailSamplingSpanHandler tailSamplingSpanHandler(@Value("${tracing.tail.slow-threshold:500ms}") Duration slowThreshold,
+                                                           @Value("${tracing.tail.max-pending:10000}") int maxPending,
+                                                           @Value("${tracing.tail.max-pending-age:60s}") Duration maxPendingAge,
+                                                           LocalSpanExporter exporter,
+                                                           MeterRegistry meterRegistry) {
+        return new TailSamplingSpanHandler(slowThreshold.toNanos() / 1000, maxPending, maxPendingAge,
+                exporter, meterRegistry);
+    }
+
+    /**
+     * Enregistre localement, en plus des traces échantillonnées en tête, la racine de chaque
+     * requête et les traces complètes d'une part localSampleRate : sans ce réglage, les
+     * gestionnaires de spans ne voient que les traces échantillonnées et l'échantillonnage en
+     * queue ne conserve rien de plus
+     * 
+     * @param propagationFactory Propagation configurée par Spring Boot
+     * @param localSampleRate Part des traces non échantillonnées enregistrées en entier
+     * @return personnalisation du Tracing Brave, appliquée par l'auto-configuration de Spring Boot
+     */
+    @Bean
+    public TracingCustomizer localRecordingCustomizer(Propagation.Factory propagationFactory,
+                                                      @Value("${tracing.tail.local-sample-rate:0.1}") double localSampleRate) {
+        return builder -> builder.propagationFactory(new LocalRecordingPropagation(propagationFactory, localSampleRate));
+    }
+
+    /**
+     * @param exporter Exporteur local
+     * @return endpoint /actuator/spans
+     */
+    @Bean
+    public SpansEndpoint spansEndpoint(LocalSpanExporter exporter) {
+        return new SpansEndpoint(exporter);
+    }
+
+    /**
+     * @param tracer Traceur Micrometer
+     * @param remoteServiceName Nom de la base dans les spans JDBC
+     * @return écouteur JDBC, branché sur la DataSource par SqlMonitoringConfig
+     */
+    @Bean
+    public TracingQueryListener tracingQueryListener(Tracer tracer,
+                                                     @Value("${tracing.jdbc.remote-service-name:mysql}") String remoteServiceName) {
+        return new TracingQueryListener(tracer, remoteServiceName);
+    }
+
+    /**
+     * Rattache les tâches du pool de lecture (rafraîchissements du cache) au span courant
+     * 
+     * @param tracer Traceur Micrometer
+     * @return décorateur appliqué par ReadExecutorConfig
+     */
+    @Bean
+    @SuppressWarnings("try")
+    public TaskDecorator tracingTaskDecorator(Tracer tracer) {
+        return task -> {
+            Span parent = tracer.currentSpan();
+            if (parent == null) {
+                return task;
+            }
+            return () -> {
+                try (Tracer.SpanInScope scope = tracer.withSpan(parent)) {
+                    task.run();
+                }
+            };
+        };
+    }
+}
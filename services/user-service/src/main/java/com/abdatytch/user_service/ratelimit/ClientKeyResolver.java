@@ -0,0 +1,61 @@
+/**
+ * Identification du client pour la limitation de débit
+ * 
+ * Seules des identités vérifiées servent de clé :
+ * - l'utilisateur authentifié de la requête (getUserPrincipal), lorsqu'il a été
+ *   établi par le conteneur ou par un filtre d'authentification placé avant ;
+ * - sinon l'adresse du client telle que vue par la gateway : l'entrée de
+ *   X-Forwarded-For ajoutée par le proxy de confiance le plus proche du client (la
+ *   dernière avec une seule gateway), sinon l'adresse distante.
+ * 
+ * Les en-têtes que le client choisit librement (clé d'API, sujet d'un jeton dont la
+ * signature n'est pas vérifiée ici, entrées de X-Forwarded-For situées avant celles
+ * des proxies de confiance) ne sont jamais retenus : en changer à chaque requête
+ * donnerait un seau neuf à chaque fois et remplirait la table des clients.
+ * 
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+package com.abdatytch.user_service.ratelimit;
+
+import java.security.Principal;
+import jakarta.servlet.http.HttpServletRequest;
+
+public final class ClientKeyResolver {
+
+    private final int trustedProxies;
+
+    /**
+     * @param trustedProxies Nombre de proxies de confiance ajoutant une entrée à X-Forwarded-For
+     */
+    public ClientKeyResolver(int trustedProxies) {
+        if (trustedProxies < 0) {
+            throw new IllegalArgumentException("Nombre de proxies de confiance invalide : " + trustedProxies);
+        }
+        this.trustedProxies = trustedProxies;
+    }
+
+    /**
+     * @param request Requête HTTP
+     * @return Clé du client, préfixée par sa nature (user:, ip:)
+     */
+    public String resolve(HttpServletRequest request) {
+        Principal principal = request.getUserPrincipal();
+        if (principal != null && principal.getName() != null && !principal.getName().isBlank()) {
+            return "user:" + principal.getName();
+        }
+        return "ip:" + clientAddress(request);
+    }
+
+    private String clientAddress(HttpServletRequest request) {
+        String forwarded = request.getHeader("X-Forwarded-For");
+        if (trustedProxies == 0 || forwarded == null || forwarded.isBlank()) {
+            return request.getRemoteAddr();
+        }
+        String[] hops = forwarded.split(",");
+        // Chaque proxy de confiance ajoute l'adresse de son interlocuteur en fin de liste
+        String hop = hops[Math.max(0, hops.length - trustedProxies)].trim();
+        return hop.isEmpty() ? request.getRemoteAddr() : hop;
+    }
+}
@@ -0,0 +1,87 @@
+/**
+ * Limitation de débit par route et par client
+ * 
+ * Chaque route configurée (rate-limit.routes) dispose de son seau à jetons local ;
+ * le client est identifié par ClientKeyResolver (utilisateur authentifié ou adresse
+ * ajoutée par la gateway). Une requête refusée reçoit 429 avec l'en-tête
+ * Retry-After (secondes).
+ * 
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+package com.abdatytch.user_service.ratelimit;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import com.abdatytch.user_service.constant.Message;
+import com.abdatytch.user_service.dto.response.ErrorDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "rate-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private record LimitedRoute(String name, String path, TokenBucketRateLimiter limiter, Counter rejected) {}
+
+    private final List<LimitedRoute> routes = new ArrayList<>();
+    private final ClientKeyResolver clientKeyResolver;
+    private final ObjectMapper objectMapper;
+
+    public RateLimitFilter(RateLimitProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.clientKeyResolver = new ClientKeyResolver(properties.getClient().getTrustedProxies());
+        this.objectMapper = objectMapper;
+        properties.getRoutes().forEach((name, route) -> routes.add(new LimitedRoute(name, route.getPath(),
+                new TokenBucketRateLimiter(route.getPermitsPerSecond(), route.getBurst(), properties.getMaxKeys()),
+                meterRegistry.counter("rate.limit.rejected", "route", name))));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        LimitedRoute route = match(request.getRequestURI());
+        if (route == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        long waitNanos = route.limiter().tryAcquire(clientKeyResolver.resolve(request), System.nanoTime());
+        if (waitNanos == 0) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        route.rejected().increment();
+        long retryAfterSeconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new ErrorDTO(HttpStatus.TOO_MANY_REQUESTS.value(),
+                Message.RATE_LIMIT_EXCEEDED, List.of("Réessayer dans " + retryAfterSeconds + " s")));
+    }
+
+    private LimitedRoute match(String uri) {
+        for (LimitedRoute route : routes) {
+            if (uri.equals(route.path()) || uri.startsWith(route.path() + "/")) {
+                return route;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,79 @@
+/**
+ * Configuration de la limitation de débit (préfixe rate-limit)
+ * 
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+package com.abdatytch.user_service.ratelimit;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    /**
+     * Nombre maximal de clients suivis par route
+     */
+    private int maxKeys = 100_000;
+
+    /**
+     * Limites par route, dans l'ordre de correspondance
+     */
+    private Map<String, Route> routes = new LinkedHashMap<>();
+
+    /**
+     * Identification des clients
+     */
+    private Client client = new Client();
+
+    public int getMaxKeys() {return maxKeys;}
+
+    public void setMaxKeys(int maxKeys) {this.maxKeys = maxKeys;}
+
+    public Map<String, Route> getRoutes() {return routes;}
+
+    public void setRoutes(Map<String, Route> routes) {this.routes = routes;}
+
+    public Client getClient() {return client;}
+
+    public void setClient(Client client) {this.client = client;}
+
+    /**
+     * Identification d'un client (ClientKeyResolver)
+     */
+    public static class Client {
+        // Proxies de confiance (gateway) ajoutant chacun une entrée à X-Forwarded-For
+        private int trustedProxies = 1;
+
+        public int getTrustedProxies() {return trustedProxies;}
+
+        public void setTrustedProxies(int trustedProxies) {this.trustedProxies = trustedProxies;}
+    }
+
+    /**
+     * Limite d'une route
+     */
+    public static class Route {
+        // Préfixe de chemin (ex. /api/users)
+        private String path;
+        private double permitsPerSecond;
+        private int burst;
+
+        public String getPath() {return path;}
+
+        public void setPath(String path) {this.path = path;}
+
+        public double getPermitsPerSecond() {return permitsPerSecond;}
+
+        public void setPermitsPerSecond(double permitsPerSecond) {this.permitsPerSecond = permitsPerSecond;}
+
+        public int getBurst() {return burst;}
+
+        public void setBurst(int burst) {this.burst = burst;}
+    }
+}
@@ -0,0 +1,95 @@
+/**
+ * Seau à jetons local et sans verrou, une instance par route
+ * 
+ * Chaque clé (client) est représentée par un seul AtomicLong : l'instant théorique
+ * d'arrivée de la prochaine requête (algorithme GCRA, équivalent d'un seau à jetons
+ * de capacité burst rechargé à permitsPerSecond). Une acquisition est un CAS, sans
+ * verrou ni tâche de recharge.
+ * 
+ * La table des clés est bornée : une clé dont l'instant est passé a un seau plein
+ * et peut être oubliée sans changer le comportement. Si la table reste pleine après
+ * ce nettoyage, les nouvelles clés partagent un seau de débordement.
+ * 
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+package com.abdatytch.user_service.ratelimit;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class TokenBucketRateLimiter {
+
+    private static final long SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final int maxKeys;
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong overflow;
+    private final AtomicLong lastSweep;
+
+    /**
+     * @param permitsPerSecond Débit soutenu autorisé par clé
+     * @param burst Nombre de requêtes acceptées d'affilée (capacité du seau)
+     * @param maxKeys Nombre maximal de clés suivies
+     */
+    public TokenBucketRateLimiter(double permitsPerSecond, int burst, int maxKeys) {
+        if (permitsPerSecond <= 0 || burst < 1 || maxKeys < 1) {
+            throw new IllegalArgumentException("permitsPerSecond > 0, burst >= 1 et maxKeys >= 1 attendus");
+        }
+        this.emissionIntervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+        this.burstToleranceNanos = emissionIntervalNanos * (burst - 1);
+        this.maxKeys = maxKeys;
+        long now = System.nanoTime();
+        this.overflow = new AtomicLong(now);
+        this.lastSweep = new AtomicLong(now);
+    }
+
+    /**
+     * Tente de consommer un jeton
+     * 
+     * @param key Identité du client
+     * @param now Instant courant (System.nanoTime())
+     * @return 0 si la requête est acceptée, sinon le délai en nanosecondes avant qu'un jeton soit disponible
+     */
+    public long tryAcquire(String key, long now) {
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            bucket = register(key, now);
+        }
+        while (true) {
+            long arrival = bucket.get();
+            long start = arrival - now > 0 ? arrival : now;
+            long wait = start - now - burstToleranceNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (bucket.compareAndSet(arrival, start + emissionIntervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * @return Nombre de clés suivies
+     */
+    public int size() {
+        return buckets.size();
+    }
+
+    private AtomicLong register(String key, long now) {
+        if (buckets.size() >= maxKeys) {
+            long last = lastSweep.get();
+            if (now - last > SWEEP_INTERVAL_NANOS && lastSweep.compareAndSet(last, now)) {
+                buckets.values().removeIf(bucket -> bucket.get() - now <= 0);
+            }
+            if (buckets.size() >= maxKeys) {
+                return overflow;
+            }
+        }
+        return buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+    }
+}
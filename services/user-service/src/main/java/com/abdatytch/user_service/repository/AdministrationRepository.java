@@ -12,6 +12,9 @@ package com.abdatytch.user_service.repository;
 
 import com.abdatytch.user_service.model.Administration;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.util.Optional;
 import java.util.UUID;
@@ -25,4 +28,14 @@ public interface AdministrationRepository extends JpaRepository<Administration,
      * @return Administration correspondante ou Optional.empty() si non trouvée
      */
     Optional<Administration> findByName(String name);
+
+    /**
+     * Supprime une administration en une seule requête DELETE, sans cascade JPA
+     * 
+     * @param id Identifiant de l'administration
+     * @return Nombre de lignes supprimées
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Administration a where a.id = :id")
+    int deleteAdministrationById(@Param("id") UUID id);
 }
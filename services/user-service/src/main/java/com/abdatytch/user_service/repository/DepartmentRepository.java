@@ -11,13 +11,29 @@
 package com.abdatytch.user_service.repository;
 
 import com.abdatytch.user_service.model.Department;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface DepartmentRepository extends JpaRepository<Department, UUID> {
+    /**
+     * Liste les départements avec leur administration, jointe à la requête (plan de chargement explicite)
+     * 
+     * @return Liste des départements
+     */
+    @Override
+    @EntityGraph(attributePaths = "administration")
+    List<Department> findAll();
+
     /**
      * Recherche un département par nom
      * 
@@ -26,4 +42,24 @@ public interface DepartmentRepository extends JpaRepository<Department, UUID> {
      */
     Optional<Department> findByName(String name);
     boolean existsByNameIgnoreCase(String name);
+
+    /**
+     * Récupère un lot d'identifiants de départements d'une administration, sans charger les entités
+     * 
+     * @param administrationId Identifiant de l'administration
+     * @param pageable Taille du lot
+     * @return Identifiants des départements
+     */
+    @Query("select d.id from Department d where d.administration.id = :administrationId")
+    List<UUID> findIdsByAdministrationId(@Param("administrationId") UUID administrationId, Pageable pageable);
+
+    /**
+     * Supprime des départements en une seule requête DELETE
+     * 
+     * @param ids Identifiants des départements
+     * @return Nombre de lignes supprimées
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Department d where d.id in :ids")
+    int deleteDepartmentsByIdIn(@Param("ids") Collection<UUID> ids);
 }
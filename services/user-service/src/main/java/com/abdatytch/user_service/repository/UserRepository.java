@@ -10,18 +10,50 @@
  */
 package com.abdatytch.user_service.repository;
 
+import com.abdatytch.user_service.model.Administration;
+import com.abdatytch.user_service.model.Department;
 import com.abdatytch.user_service.model.User;
+import com.abdatytch.user_service.model.UserRole;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 
 @Repository
 public interface UserRepository extends JpaRepository<User, UUID>, JpaSpecificationExecutor<User> {
+    /*
+     * Plan de chargement explicite : l'administration et le département, lus par chaque
+     * conversion en DTO, sont joints à la requête principale au lieu d'une sélection
+     * secondaire par association. Les lectures ne dépendent ainsi pas de open-in-view.
+     */
+
+    @Override
+    @EntityGraph(attributePaths = {"administration", "department"})
+    Optional<User> findById(UUID id);
+
+    @Override
+    @EntityGraph(attributePaths = {"administration", "department"})
+    List<User> findAllById(Iterable<UUID> ids);
+
+    @Override
+    @EntityGraph(attributePaths = {"administration", "department"})
+    Page<User> findAll(Pageable pageable);
+
+    @Override
+    @EntityGraph(attributePaths = {"administration", "department"})
+    Page<User> findAll(Specification<User> spec, Pageable pageable);
+
     /**
      * Recherche des utilisateurs par administration
      * 
@@ -29,6 +61,7 @@ public interface UserRepository extends JpaRepository<User, UUID>, JpaSpecificat
      * @param pageable Paramètres de pagination
      * @return Page d'utilisateurs
      */
+    @EntityGraph(attributePaths = {"administration", "department"})
     Page<User> findByAdministrationId(UUID administrationId, Pageable pageable);
 
     /**
@@ -38,6 +71,7 @@ public interface UserRepository extends JpaRepository<User, UUID>, JpaSpecificat
      * @param pageable Paramètres de pagination
      * @return Page d'utilisateurs
      */
+    @EntityGraph(attributePaths = {"administration", "department"})
     Page<User> findByDepartmentId(UUID departmentId, Pageable pageable);
 
     /**
@@ -69,4 +103,66 @@ public interface UserRepository extends JpaRepository<User, UUID>, JpaSpecificat
     boolean existsByMatriculeNumber(String matriculeNumber);
     Optional<User> findByUsername(String username);
 
+    /**
+     * Compte les utilisateurs rattachés à un département
+     * @param departmentId Identifiant du département
+     * @return Nombre d'utilisateurs
+     */
+    long countByDepartmentId(UUID departmentId);
+
+    /**
+     * Compte les utilisateurs rattachés à une administration, directement ou via l'un de ses départements
+     * @param administrationId Identifiant de l'administration
+     * @return Nombre d'utilisateurs
+     */
+    @Query("select count(u) from User u where u.administration.id = :administrationId " +
+           "or u.department.administration.id = :administrationId")
+    long countReferencingAdministration(@Param("administrationId") UUID administrationId);
+
+    /**
+     * Déplace un lot d'utilisateurs en une seule requête UPDATE
+     * @param ids Identifiants des utilisateurs
+     * @param department Département de destination
+     * @param administration Administration de destination
+     * @return Nombre de lignes modifiées
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update User u set u.department = :department, u.administration = :administration where u.id in :ids")
+    int moveUsers(@Param("ids") Collection<UUID> ids,
+                  @Param("department") Department department,
+                  @Param("administration") Administration administration);
+
+    /**
+     * Récupère un lot d'identifiants des utilisateurs correspondant au filtre, sans charger les entités
+     * 
+     * Parcours par clé : le lot suivant commence après le dernier identifiant du précédent,
+     * que les utilisateurs déjà modifiés correspondent encore au filtre ou non.
+     * @param administrationId Administration actuelle (optionnel)
+     * @param departmentId Département actuel (optionnel)
+     * @param role Rôle actuel (optionnel)
+     * @param after Dernier identifiant du lot précédent (null pour le premier lot)
+     * @param pageable Taille du lot
+     * @return Identifiants triés
+     */
+    @Query("select u.id from User u " +
+           "where (:administrationId is null or u.administration.id = :administrationId) " +
+           "and (:departmentId is null or u.department.id = :departmentId) " +
+           "and (:role is null or u.role = :role) " +
+           "and (:after is null or u.id > :after) " +
+           "order by u.id")
+    List<UUID> findIdsMatching(@Param("administrationId") UUID administrationId,
+                               @Param("departmentId") UUID departmentId,
+                               @Param("role") UserRole role,
+                               @Param("after") UUID after,
+                               Pageable pageable);
+
+    /**
+     * Change le rôle d'un lot d'utilisateurs en une seule requête UPDATE
+     * @param ids Identifiants des utilisateurs
+     * @param role Nouveau rôle
+     * @return Nombre de lignes modifiées
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update User u set u.role = :role where u.id in :ids")
+    int updateRoles(@Param("ids") Collection<UUID> ids, @Param("role") UserRole role);
 }
@@ -0,0 +1,108 @@
+/**
+ * Écriture en flux d'un UserResponseDTO avec projection de champs (?fields=id,username)
+ * 
+ * La liste des champs est analysée une fois par requête ; l'écriture d'un élément
+ * ne fait ensuite que tester des booléens. Les valeurs nulles sont omises.
+ * 
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+package com.abdatytch.user_service.serialization;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import com.abdatytch.user_service.constant.Message;
+import com.abdatytch.user_service.dto.response.PageEnvelope;
+import com.abdatytch.user_service.dto.response.UserResponseDTO;
+import com.abdatytch.user_service.exception.ApiException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.springframework.http.HttpStatus;
+
+public final class UserResponseWriter implements PageEnvelope.ElementWriter<UserResponseDTO> {
+
+    /**
+     * Champs projetables, dans l'ordre d'écriture
+     */
+    public static final List<String> FIELDS = List.of("id", "username", "firstName", "lastName", "role",
+            "administrationId", "administrationName", "departmentId", "departmentName");
+
+    private static final UserResponseWriter ALL_FIELDS = new UserResponseWriter(FIELDS);
+
+    private final boolean id;
+    private final boolean username;
+    private final boolean firstName;
+    private final boolean lastName;
+    private final boolean role;
+    private final boolean administrationId;
+    private final boolean administrationName;
+    private final boolean departmentId;
+    private final boolean departmentName;
+
+    private UserResponseWriter(List<String> fields) {
+        this.id = fields.contains("id");
+        this.username = fields.contains("username");
+        this.firstName = fields.contains("firstName");
+        this.lastName = fields.contains("lastName");
+        this.role = fields.contains("role");
+        this.administrationId = fields.contains("administrationId");
+        this.administrationName = fields.contains("administrationName");
+        this.departmentId = fields.contains("departmentId");
+        this.departmentName = fields.contains("departmentName");
+    }
+
+    /**
+     * Analyse le paramètre fields
+     * 
+     * @param fields Liste de champs séparés par des virgules (null ou vide : tous les champs)
+     * @return Writer limité aux champs demandés
+     * @throws ApiException 400 si un champ est inconnu
+     */
+    public static UserResponseWriter forFields(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL_FIELDS;
+        }
+        List<String> selected = List.of(fields.replace(" ", "").split(","));
+        for (String field : selected) {
+            if (!FIELDS.contains(field)) {
+                throw new ApiException(HttpStatus.BAD_REQUEST, Message.UNKNOWN_FIELD, field);
+            }
+        }
+        return new UserResponseWriter(selected);
+    }
+
+    @Override
+    public void write(UserResponseDTO user, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        if (id) writeUuid(generator, "id", user.getId());
+        if (username) writeString(generator, "username", user.getUsername());
+        if (firstName) writeString(generator, "firstName", user.getFirstName());
+        if (lastName) writeString(generator, "lastName", user.getLastName());
+        if (role && user.getRole() != null) generator.writeStringField("role", user.getRole().name());
+        if (administrationId) writeUuid(generator, "administrationId", user.getAdministrationId());
+        if (administrationName) writeString(generator, "administrationName", user.getAdministrationName());
+        if (departmentId) writeUuid(generator, "departmentId", user.getDepartmentId());
+        if (departmentName) writeString(generator, "departmentName", user.getDepartmentName());
+        generator.writeEndObject();
+    }
+
+    private static void writeString(JsonGenerator generator, String name, String value) throws IOException {
+        if (value != null) {
+            generator.writeStringField(name, value);
+        }
+    }
+
+    // UUID en 16 octets bruts pour les formats binaires (CBOR, Smile), en texte pour JSON
+    private static void writeUuid(JsonGenerator generator, String name, UUID value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (generator.canWriteBinaryNatively()) {
+            generator.writeFieldName(name);
+            generator.writeBinary(UuidBytes.toBytes(value));
+        } else {
+            generator.writeStringField(name, value.toString());
+        }
+    }
+}
@@ -0,0 +1,44 @@
+/**
+ * Conversion d'un UUID en 16 octets bruts (formats binaires, gRPC)
+ * 
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+package com.abdatytch.user_service.serialization;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+public final class UuidBytes {
+
+    public static final int LENGTH = 16;
+
+    private UuidBytes() {
+        throw new IllegalStateException("Cette classe est une classe utilitaire et ne peut pas être instanciée");
+    }
+
+    /**
+     * @param uuid UUID à encoder
+     * @return 16 octets, bits de poids fort en premier
+     */
+    public static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(LENGTH)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    /**
+     * @param bytes 16 octets, bits de poids fort en premier
+     * @return UUID décodé
+     * @throws IllegalArgumentException si la longueur n'est pas de 16 octets
+     */
+    public static UUID fromBytes(byte[] bytes) {
+        if (bytes.length != LENGTH) {
+            throw new IllegalArgumentException("UUID attendu sur 16 octets, reçu " + bytes.length);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
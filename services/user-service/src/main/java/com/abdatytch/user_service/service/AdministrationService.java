@@ -53,4 +53,12 @@ public interface AdministrationService {
      * @return Administration correspondante ou null si non trouvée
      */
     AdministrationResponseDTO getAdministrationByName(String name);
+
+    /**
+     * Récupère une administration par son identifiant
+     * 
+     * @param administrationId Identifiant de l'administration
+     * @return Administration correspondante ou null si non trouvée
+     */
+    AdministrationResponseDTO getAdministrationById(UUID administrationId);
 }
@@ -55,4 +55,12 @@ public interface DepartmentService {
      * @return Département correspondant ou null si non trouvé
      */
     DepartmentResponseDTO getDepartmentByName(String name);
+
+    /**
+     * Récupère un département par son identifiant
+     * 
+     * @param departmentId Identifiant du département
+     * @return Département correspondant ou null si non trouvé
+     */
+    DepartmentResponseDTO getDepartmentById(UUID departmentId);
 }
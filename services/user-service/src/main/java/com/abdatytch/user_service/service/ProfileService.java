@@ -0,0 +1,28 @@
+/**
+ * Interface du service Profil.
+ * Agrège en une réponse un utilisateur, son département et son administration.
+ * 
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+package com.abdatytch.user_service.service;
+
+import com.abdatytch.user_service.dto.response.ProfileResponseDTO;
+import com.abdatytch.user_service.exception.ApiException;
+import java.util.UUID;
+
+public interface ProfileService {
+
+    /**
+     * Récupère le profil agrégé d'un utilisateur
+     * 
+     * L'utilisateur, puis son département et son administration, sont lus à la suite
+     * sur le thread appelant.
+     * 
+     * @param userId Identifiant de l'utilisateur
+     * @return Profil agrégé
+     * @throws ApiException 404 si l'utilisateur n'existe pas
+     */
+    ProfileResponseDTO getProfile(UUID userId);
+}
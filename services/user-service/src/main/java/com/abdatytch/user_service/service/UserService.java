@@ -10,13 +10,19 @@
  */
 package com.abdatytch.user_service.service;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
+import com.abdatytch.user_service.dto.request.UserBulkMoveRequestDTO;
+import com.abdatytch.user_service.dto.request.UserBulkRoleRequestDTO;
 import com.abdatytch.user_service.dto.request.UserRequestDTO;
+import com.abdatytch.user_service.dto.response.BulkUpdateResponseDTO;
+import com.abdatytch.user_service.dto.response.PageEnvelope;
 import com.abdatytch.user_service.dto.response.UserResponseDTO;
 import com.abdatytch.user_service.dto.CredentialsUpdateDTO;
-import org.springframework.data.domain.Page;
+import com.fasterxml.jackson.databind.JsonNode;
 import org.springframework.data.domain.Pageable;
-import org.springframework.web.server.ResponseStatusException;
+import com.abdatytch.user_service.exception.ApiException;
 
 
 public interface UserService {
@@ -25,9 +31,9 @@ public interface UserService {
      * 
      * @param userRequestDTO Détails du nouvel utilisateur
      * @return Représentation du nouvel utilisateur créé
-     * @throws ResponseStatusException si l'utilisateur existe déjà ou si les données sont invalides
+     * @throws ApiException si l'utilisateur existe déjà ou si les données sont invalides
      */
-    UserResponseDTO createUser(UserRequestDTO userRequestDTO) throws ResponseStatusException;
+    UserResponseDTO createUser(UserRequestDTO userRequestDTO);
 
     /**
      * Met à jour un utilisateur existant
@@ -35,9 +41,22 @@ public interface UserService {
      * @param userId Identifiant de l'utilisateur à modifier
      * @param userRequestDTO Nouveaux détails de l'utilisateur
      * @return Représentation de l'utilisateur mis à jour
-     * @throws ResponseStatusException si l'utilisateur n'existe pas ou si les données sont invalides
+     * @throws ApiException si l'utilisateur n'existe pas ou si les données sont invalides
      */
-    UserResponseDTO updateUser(UUID userId, UserRequestDTO userRequestDTO) throws ResponseStatusException;
+    UserResponseDTO updateUser(UUID userId, UserRequestDTO userRequestDTO);
+
+    /**
+     * Modifie partiellement un utilisateur (JSON Merge Patch, RFC 7396)
+     * 
+     * Seuls les champs présents dans le document sont validés, contrôlés en unicité
+     * et écrits en base.
+     * 
+     * @param userId Identifiant de l'utilisateur à modifier
+     * @param patch Document de modification partielle
+     * @return Représentation de l'utilisateur mis à jour
+     * @throws ApiException si l'utilisateur n'existe pas ou si les données sont invalides
+     */
+    UserResponseDTO patchUser(UUID userId, JsonNode patch);
 
     /**
      * Met à jour les identifiants d'un utilisateur
@@ -45,9 +64,27 @@ public interface UserService {
      * @param userId Identifiant de l'utilisateur
      * @param credentialsDTO Nouveaux identifiants
      * @return Utilisateur mis à jour
-     * @throws ResponseStatusException si l'utilisateur n'existe pas ou si les identifiants sont invalides
+     * @throws ApiException si l'utilisateur n'existe pas ou si les identifiants sont invalides
      */
-    UserResponseDTO updateCredentials(UUID userId, CredentialsUpdateDTO credentialsDTO) throws ResponseStatusException;
+    UserResponseDTO updateCredentials(UUID userId, CredentialsUpdateDTO credentialsDTO);
+
+    /**
+     * Déplace en masse des utilisateurs vers un département (et son administration)
+     * 
+     * @param request Sélection des utilisateurs et destination
+     * @return Nombre d'utilisateurs demandés et modifiés
+     * @throws ApiException si la sélection ou la destination est invalide
+     */
+    BulkUpdateResponseDTO bulkMoveUsers(UserBulkMoveRequestDTO request);
+
+    /**
+     * Change en masse le rôle d'utilisateurs
+     * 
+     * @param request Sélection des utilisateurs et nouveau rôle
+     * @return Nombre d'utilisateurs demandés et modifiés
+     * @throws ApiException si la sélection est invalide
+     */
+    BulkUpdateResponseDTO bulkChangeRole(UserBulkRoleRequestDTO request);
 
     /**
      * Supprime un utilisateur
@@ -61,18 +98,18 @@ public interface UserService {
      * 
      * @param administrationId Identifiant de l'administration
      * @param pageable Paramètres de pagination
-     * @return Page d'utilisateurs
+     * @return Page d'utilisateurs (convertis à la sérialisation)
      */
-    Page<UserResponseDTO> getUsersByAdministration(UUID administrationId, Pageable pageable);
+    PageEnvelope<UserResponseDTO> getUsersByAdministration(UUID administrationId, Pageable pageable);
 
     /**
      * Récupère la liste des utilisateurs d'un département
      * 
      * @param departmentId Identifiant du département
      * @param pageable Paramètres de pagination
-     * @return Page d'utilisateurs
+     * @return Page d'utilisateurs (convertis à la sérialisation)
      */
-    Page<UserResponseDTO> getUsersByDepartment(UUID departmentId, Pageable pageable);
+    PageEnvelope<UserResponseDTO> getUsersByDepartment(UUID departmentId, Pageable pageable);
 
     /**
      * Récupère un utilisateur par son identifiant
@@ -82,13 +119,21 @@ public interface UserService {
      */
     UserResponseDTO getUserById(UUID userId);
 
+    /**
+     * Récupère plusieurs utilisateurs en une requête
+     * 
+     * @param userIds Identifiants des utilisateurs
+     * @return Utilisateurs trouvés (les identifiants inconnus sont ignorés)
+     */
+    List<UserResponseDTO> getUsersByIds(Collection<UUID> userIds);
+
     /**
      * Récupère tous les utilisateurs avec pagination
      * 
      * @param pageable Paramètres de pagination
-     * @return Page d'utilisateurs
+     * @return Page d'utilisateurs (convertis à la sérialisation)
      */
-    Page<UserResponseDTO> getAllUsers(Pageable pageable);
+    PageEnvelope<UserResponseDTO> getAllUsers(Pageable pageable);
 
     /**
      * Recherche avancée d'utilisateurs avec filtres combinés
@@ -98,7 +143,7 @@ public interface UserService {
      * @param departmentId Identifiant de département (optionnel)
      * @param role Rôle de l'utilisateur (optionnel)
      * @param pageable Paramètres de pagination
-     * @return Page d'utilisateurs correspondant aux critères
+     * @return Page d'utilisateurs correspondant aux critères (convertis à la sérialisation)
      */
-    Page<UserResponseDTO> searchUsers(String username, UUID administrationId, UUID departmentId, String role, Pageable pageable);
+    PageEnvelope<UserResponseDTO> searchUsers(String username, UUID administrationId, UUID departmentId, String role, Pageable pageable);
 }
@@ -13,15 +13,22 @@ import com.abdatytch.user_service.dto.request.AdministrationRequestDTO;
 import com.abdatytch.user_service.dto.response.AdministrationResponseDTO;
 import com.abdatytch.user_service.model.Administration;
 import com.abdatytch.user_service.repository.AdministrationRepository;
+import com.abdatytch.user_service.repository.DepartmentRepository;
+import com.abdatytch.user_service.repository.UserRepository;
 import com.abdatytch.user_service.service.AdministrationService;
-import jakarta.persistence.EntityNotFoundException;
+import com.abdatytch.user_service.event.DirectoryChangedEvent;
+import com.abdatytch.user_service.exception.ApiErrors;
+import com.abdatytch.user_service.exception.ApiException;
+import com.abdatytch.user_service.constant.Message;
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.UUID;
-import jakarta.validation.Validation;
 import jakarta.validation.Validator;
-import jakarta.validation.ValidatorFactory;
 import jakarta.validation.ConstraintViolationException;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -29,26 +36,56 @@ import java.util.stream.Collectors;
 @Service
 public class AdministrationServiceImpl implements AdministrationService {
 
+    /**
+     * Nombre de départements supprimés par requête DELETE
+     */
+    private static final int DELETE_CHUNK_SIZE = 500;
+
     /**
      * Repository pour l'accès aux données des administrations
      */
     private final AdministrationRepository administrationRepository;
 
     /**
-     * Validator pour la validation des DTOs
+     * Repository pour la suppression des départements rattachés
+     */
+    private final DepartmentRepository departmentRepository;
+
+    /**
+     * Repository pour le contrôle des utilisateurs rattachés
+     */
+    private final UserRepository userRepository;
+
+    /**
+     * Validator partagé de l'application pour la validation des DTOs
      */
     private final Validator validator;
 
+    /**
+     * Publication des notifications de modification (invalidation des caches)
+     */
+    private final ApplicationEventPublisher eventPublisher;
+
     /**
      * Constructeur avec injection de dépendance
      * 
      * @param administrationRepository Repository pour les opérations CRUD
+     * @param departmentRepository Repository des départements
+     * @param userRepository Repository des utilisateurs
+     * @param validator Validator partagé
+     * @param eventPublisher Publication des notifications de modification
      */
     @Autowired
-    public AdministrationServiceImpl(AdministrationRepository administrationRepository) {
+    public AdministrationServiceImpl(AdministrationRepository administrationRepository,
+                                     DepartmentRepository departmentRepository,
+                                     UserRepository userRepository,
+                                     Validator validator,
+                                     ApplicationEventPublisher eventPublisher) {
         this.administrationRepository = administrationRepository;
-        ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
-        this.validator = factory.getValidator();
+        this.departmentRepository = departmentRepository;
+        this.userRepository = userRepository;
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -68,6 +105,7 @@ public class AdministrationServiceImpl implements AdministrationService {
         Administration administration = new Administration();
         administration.setName(administrationRequestDTO.getName());
         Administration saved = administrationRepository.save(administration);
+        publishChange(saved.getId());
         return convertToDTO(saved);
     }
 
@@ -77,7 +115,7 @@ public class AdministrationServiceImpl implements AdministrationService {
      * @param administrationId Identifiant de l'administration à modifier
      * @param administrationRequestDTO Nouveaux détails de l'administration
      * @return Représentation de l'administration mise à jour
-     * @throws EntityNotFoundException Si l'administration n'est pas trouvée
+     * @throws ApiException Si l'administration n'est pas trouvée
      */
     @Override
     public AdministrationResponseDTO updateAdministration(UUID administrationId, AdministrationRequestDTO administrationRequestDTO) {
@@ -88,23 +126,43 @@ public class AdministrationServiceImpl implements AdministrationService {
         }
         
         Administration administration = administrationRepository.findById(administrationId)
-                .orElseThrow(() -> new EntityNotFoundException("Administration not found"));
+                .orElseThrow(() -> ApiErrors.ADMINISTRATION_NOT_FOUND);
         administration.setName(administrationRequestDTO.getName());
         Administration updated = administrationRepository.save(administration);
+        publishChange(administrationId);
         return convertToDTO(updated);
     }
 
     /**
-     * Supprime une administration
+     * Supprime une administration et ses départements
+     * 
+     * Suppression ensembliste dans l'ordre des dépendances (départements puis administration),
+     * sans hydrater la collection departments ni les utilisateurs : comptage préalable des
+     * utilisateurs rattachés, puis DELETE des départements par lots et DELETE de l'administration.
      * 
      * @param administrationId Identifiant de l'administration à supprimer
-     * @throws EntityNotFoundException Si l'administration n'est pas trouvée
+     * @throws ApiException 404 si l'administration n'est pas trouvée, 409 si des utilisateurs y sont rattachés
      */
     @Override
+    @Transactional
     public void deleteAdministration(UUID administrationId) {
-        Administration administration = administrationRepository.findById(administrationId)
-                .orElseThrow(() -> new EntityNotFoundException("Administration not found"));
-        administrationRepository.delete(administration);
+        if (!administrationRepository.existsById(administrationId)) {
+            throw ApiErrors.ADMINISTRATION_NOT_FOUND;
+        }
+        long users = userRepository.countReferencingAdministration(administrationId);
+        if (users > 0) {
+            throw new ApiException(HttpStatus.CONFLICT, Message.ADMINISTRATION_HAS_USERS,
+                users + " utilisateur(s) encore rattaché(s)");
+        }
+
+        // Supprimer les départements par lots ; les lignes supprimées sortent de la sélection suivante
+        List<UUID> departmentIds;
+        while (!(departmentIds = departmentRepository.findIdsByAdministrationId(
+                administrationId, PageRequest.of(0, DELETE_CHUNK_SIZE))).isEmpty()) {
+            departmentRepository.deleteDepartmentsByIdIn(departmentIds);
+        }
+        administrationRepository.deleteAdministrationById(administrationId);
+        publishChange(administrationId);
     }
 
     /**
@@ -132,6 +190,21 @@ public class AdministrationServiceImpl implements AdministrationService {
         return convertToDTO(administration);
     }
 
+    /**
+     * Récupère une administration par son identifiant
+     * 
+     * @param administrationId Identifiant de l'administration
+     * @return Administration correspondante ou null si non trouvée
+     */
+    @Override
+    public AdministrationResponseDTO getAdministrationById(UUID administrationId) {
+        return administrationRepository.findById(administrationId).map(this::convertToDTO).orElse(null);
+    }
+
+    private void publishChange(UUID id) {
+        eventPublisher.publishEvent(new DirectoryChangedEvent(DirectoryChangedEvent.Resource.ADMINISTRATION, id));
+    }
+
     /**
      * Convertit une entité Administration en DTO
      * 
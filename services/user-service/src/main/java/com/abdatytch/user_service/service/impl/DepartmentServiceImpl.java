@@ -16,17 +16,19 @@ import com.abdatytch.user_service.model.Department;
 import com.abdatytch.user_service.model.Administration;
 import com.abdatytch.user_service.repository.DepartmentRepository;
 import com.abdatytch.user_service.repository.AdministrationRepository;
+import com.abdatytch.user_service.repository.UserRepository;
 import com.abdatytch.user_service.service.DepartmentService;
-import jakarta.persistence.EntityNotFoundException;
+import com.abdatytch.user_service.event.DirectoryChangedEvent;
+import com.abdatytch.user_service.exception.ApiErrors;
+import com.abdatytch.user_service.exception.ApiException;
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import com.abdatytch.user_service.constant.Message;
 import org.springframework.http.HttpStatus;
-import org.springframework.web.server.ResponseStatusException;
-import jakarta.validation.Validation;
 import jakarta.validation.Validator;
-import jakarta.validation.ValidatorFactory;
 import jakarta.validation.ConstraintViolationException;
 import java.util.UUID;
 
@@ -48,22 +50,38 @@ public class DepartmentServiceImpl implements DepartmentService {
     private final AdministrationRepository administrationRepository;
 
     /**
-     * Validator pour la validation des DTOs
+     * Repository pour le contrôle des utilisateurs rattachés
+     */
+    private final UserRepository userRepository;
+
+    /**
+     * Validator partagé de l'application pour la validation des DTOs
      */
     private final Validator validator;
 
+    /**
+     * Publication des notifications de modification (invalidation des caches)
+     */
+    private final ApplicationEventPublisher eventPublisher;
+
     /**
      * Constructeur avec injection de dépendances
      * 
      * @param departmentRepository Repository des départements
      * @param administrationRepository Repository des administrations
+     * @param userRepository Repository des utilisateurs
+     * @param validator Validator partagé
+     * @param eventPublisher Publication des notifications de modification
      */
     @Autowired
-    public DepartmentServiceImpl(DepartmentRepository departmentRepository, AdministrationRepository administrationRepository) {
+    public DepartmentServiceImpl(DepartmentRepository departmentRepository, AdministrationRepository administrationRepository,
+                                 UserRepository userRepository, Validator validator,
+                                 ApplicationEventPublisher eventPublisher) {
         this.departmentRepository = departmentRepository;
         this.administrationRepository = administrationRepository;
-        ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
-        this.validator = factory.getValidator();
+        this.userRepository = userRepository;
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -71,7 +89,7 @@ public class DepartmentServiceImpl implements DepartmentService {
      * 
      * @param departmentRequestDTO Détails du nouveau département
      * @return Représentation du département créé
-     * @throws EntityNotFoundException Si l'administration n'est pas trouvée
+     * @throws ApiException Si l'administration n'est pas trouvée
      */
     @Override
     public DepartmentResponseDTO createDepartment(DepartmentRequestDTO departmentRequestDTO) {
@@ -83,19 +101,17 @@ public class DepartmentServiceImpl implements DepartmentService {
 
         // Vérifier si le département existe déjà
         if (departmentRepository.existsByNameIgnoreCase(departmentRequestDTO.getName())) {
-            throw new ResponseStatusException(
-                HttpStatus.BAD_REQUEST,
-                Message.DEPARTMENT_ALREADY_EXISTS
-            );
+            throw ApiErrors.DEPARTMENT_ALREADY_EXISTS;
         }
         Department department = new Department();
         department.setName(departmentRequestDTO.getName());
         if (departmentRequestDTO.getAdministrationId() != null) {
             Administration administration = administrationRepository.findById(departmentRequestDTO.getAdministrationId())
-                    .orElseThrow(() -> new EntityNotFoundException("Administration not found"));
+                    .orElseThrow(() -> ApiErrors.ADMINISTRATION_NOT_FOUND);
             department.setAdministration(administration);
         }
         Department saved = departmentRepository.save(department);
+        publishChange(saved.getId());
         return convertToDTO(saved);
     }
 
@@ -105,53 +121,53 @@ public class DepartmentServiceImpl implements DepartmentService {
      * @param id Identifiant du département à modifier
      * @param departmentRequestDTO Nouveaux détails du département
      * @return Représentation du département mis à jour
-     * @throws EntityNotFoundException Si le département ou l'administration n'est pas trouvé
+     * @throws ApiException Si le département ou l'administration n'est pas trouvé
      */
     @Override
     public DepartmentResponseDTO updateDepartment(UUID id, DepartmentRequestDTO departmentRequestDTO) {
+        // Valider le DTO avant de sauvegarder
+        var violations = validator.validate(departmentRequestDTO);
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException("Validation errors", violations);
+        }
+
         // Vérifier si le département existe
         Department existingDepartment = departmentRepository.findById(id)
-            .orElseThrow(() -> new ResponseStatusException(
-                HttpStatus.NOT_FOUND,
-                Message.DEPARTMENT_NOT_FOUND
-            ));
-
-        // Vérifier les données obligatoires
-        if (departmentRequestDTO.getName() == null || departmentRequestDTO.getName().trim().isEmpty()) {
-            throw new ResponseStatusException(
-                HttpStatus.BAD_REQUEST,
-                Message.INVALID_DEPARTMENT_DATA
-            );
-        }
-        if (departmentRequestDTO.getAdministrationId() == null) {
-            throw new ResponseStatusException(
-                HttpStatus.BAD_REQUEST,
-                Message.INVALID_DEPARTMENT_DATA
-            );
-        }
+            .orElseThrow(() -> ApiErrors.DEPARTMENT_NOT_FOUND);
         existingDepartment.setName(departmentRequestDTO.getName());
         if (departmentRequestDTO.getAdministrationId() != null) {
             Administration administration = administrationRepository.findById(departmentRequestDTO.getAdministrationId())
-                    .orElseThrow(() -> new EntityNotFoundException("Administration not found"));
+                    .orElseThrow(() -> ApiErrors.ADMINISTRATION_NOT_FOUND);
             existingDepartment.setAdministration(administration);
         } else {
             existingDepartment.setAdministration(null);
         }
         Department updated = departmentRepository.save(existingDepartment);
+        publishChange(id);
         return convertToDTO(updated);
     }
 
     /**
      * Supprime un département
      * 
+     * Suppression ensembliste : un comptage préalable des utilisateurs rattachés puis une
+     * requête DELETE, sans charger l'entité ni ses collections.
+     * 
      * @param departmentId Identifiant du département à supprimer
-     * @throws EntityNotFoundException Si le département n'est pas trouvé
+     * @throws ApiException 404 si le département n'est pas trouvé, 409 si des utilisateurs y sont rattachés
      */
     @Override
+    @Transactional
     public void deleteDepartment(UUID departmentId) {
-        Department department = departmentRepository.findById(departmentId)
-                .orElseThrow(() -> new EntityNotFoundException("Department not found"));
-        departmentRepository.delete(department);
+        long users = userRepository.countByDepartmentId(departmentId);
+        if (users > 0) {
+            throw new ApiException(HttpStatus.CONFLICT, Message.DEPARTMENT_HAS_USERS,
+                users + " utilisateur(s) encore rattaché(s)");
+        }
+        if (departmentRepository.deleteDepartmentsByIdIn(List.of(departmentId)) == 0) {
+            throw ApiErrors.DEPARTMENT_NOT_FOUND;
+        }
+        publishChange(departmentId);
     }
 
     /**
@@ -175,6 +191,21 @@ public class DepartmentServiceImpl implements DepartmentService {
         return departmentRepository.findByName(name).map(this::convertToDTO).orElse(null);
     }
 
+    /**
+     * Récupère un département par son identifiant
+     * 
+     * @param departmentId Identifiant du département
+     * @return Département correspondant ou null si non trouvé
+     */
+    @Override
+    public DepartmentResponseDTO getDepartmentById(UUID departmentId) {
+        return departmentRepository.findById(departmentId).map(this::convertToDTO).orElse(null);
+    }
+
+    private void publishChange(UUID id) {
+        eventPublisher.publishEvent(new DirectoryChangedEvent(DirectoryChangedEvent.Resource.DEPARTMENT, id));
+    }
+
     /**
      * Convertit une entité Department en DTO
      * 
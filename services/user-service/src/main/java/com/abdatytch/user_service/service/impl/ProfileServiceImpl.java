@@ -0,0 +1,57 @@
+/**
+ * Implémentation du service d'agrégation des profils
+ * 
+ * Les trois lectures s'enchaînent sur le thread de la requête : l'utilisateur (il
+ * porte les identifiants du département et de l'administration), puis son
+ * département et son administration tels qu'ils sont en base. Le département est
+ * renvoyé avec sa propre administration, qui n'est pas déduite de celle de
+ * l'utilisateur. Dans une même requête, le contexte de persistance évite de relire
+ * les entités déjà chargées avec l'utilisateur.
+ * 
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+package com.abdatytch.user_service.service.impl;
+
+import java.util.UUID;
+import com.abdatytch.user_service.dto.response.AdministrationResponseDTO;
+import com.abdatytch.user_service.dto.response.DepartmentResponseDTO;
+import com.abdatytch.user_service.dto.response.ProfileResponseDTO;
+import com.abdatytch.user_service.dto.response.UserResponseDTO;
+import com.abdatytch.user_service.exception.ApiErrors;
+import com.abdatytch.user_service.service.AdministrationService;
+import com.abdatytch.user_service.service.DepartmentService;
+import com.abdatytch.user_service.service.ProfileService;
+import com.abdatytch.user_service.service.UserService;
+import org.springframework.stereotype.Service;
+
+@Service
+public class ProfileServiceImpl implements ProfileService {
+
+    private final UserService userService;
+    private final DepartmentService departmentService;
+    private final AdministrationService administrationService;
+
+    // Constructeur avec injection de dépendances
+    public ProfileServiceImpl(UserService userService,
+                              DepartmentService departmentService,
+                              AdministrationService administrationService) {
+        this.userService = userService;
+        this.departmentService = departmentService;
+        this.administrationService = administrationService;
+    }
+
+    @Override
+    public ProfileResponseDTO getProfile(UUID userId) {
+        UserResponseDTO user = userService.getUserById(userId);
+        if (user == null) {
+            throw ApiErrors.USER_NOT_FOUND;
+        }
+        DepartmentResponseDTO department = user.getDepartmentId() == null
+                ? null : departmentService.getDepartmentById(user.getDepartmentId());
+        AdministrationResponseDTO administration = user.getAdministrationId() == null
+                ? null : administrationService.getAdministrationById(user.getAdministrationId());
+        return new ProfileResponseDTO(user, department, administration);
+    }
+}
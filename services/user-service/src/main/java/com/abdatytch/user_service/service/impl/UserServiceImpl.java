@@ -10,9 +10,15 @@
  */
 package com.abdatytch.user_service.service.impl;
 
+import com.abdatytch.user_service.dto.request.UserBulkMoveRequestDTO;
+import com.abdatytch.user_service.dto.request.UserBulkRoleRequestDTO;
+import com.abdatytch.user_service.dto.request.UserFilterDTO;
 import com.abdatytch.user_service.dto.request.UserRequestDTO;
+import com.abdatytch.user_service.dto.response.BulkUpdateResponseDTO;
+import com.abdatytch.user_service.dto.response.PageEnvelope;
 import com.abdatytch.user_service.dto.response.UserResponseDTO;
 import com.abdatytch.user_service.dto.CredentialsUpdateDTO;
+import com.abdatytch.user_service.event.DirectoryChangedEvent;
 import com.abdatytch.user_service.model.Administration;
 import com.abdatytch.user_service.model.Department;
 import com.abdatytch.user_service.model.User;
@@ -22,19 +28,31 @@ import com.abdatytch.user_service.repository.UserRepository;
 import com.abdatytch.user_service.service.UserService;
 import com.abdatytch.user_service.validation.UserValidator;
 import com.abdatytch.user_service.constant.Message;
+import com.abdatytch.user_service.exception.ApiErrors;
+import com.abdatytch.user_service.exception.ApiException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.http.HttpStatus;
-import org.springframework.web.server.ResponseStatusException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import java.util.UUID;
 
 import jakarta.persistence.criteria.Predicate;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ToIntFunction;
 
 
 
@@ -42,36 +60,66 @@ import java.util.List;
 @Service
 public class UserServiceImpl implements UserService {
 
+    /**
+     * Champs modifiables par PATCH : nom JSON -> propriété de UserRequestDTO
+     */
+    private static final Map<String, String> PATCHABLE_FIELDS = Map.ofEntries(
+        Map.entry("firstname", "firstName"),
+        Map.entry("lastName", "lastName"),
+        Map.entry("role", "role"),
+        Map.entry("administrationId", "administrationId"),
+        Map.entry("departmentId", "departmentId"),
+        Map.entry("phoneNumber", "phoneNumber"),
+        Map.entry("email", "email"),
+        Map.entry("address", "address"),
+        Map.entry("birthDate", "birthDate"),
+        Map.entry("birthPlace", "birthPlace"),
+        Map.entry("position", "position"),
+        Map.entry("maritalStatus", "maritalStatus"),
+        Map.entry("matriculeNumber", "matriculeNumber")
+    );
+
+    /**
+     * Taille maximale de la liste IN d'une requête UPDATE en masse
+     */
+    private static final int BULK_CHUNK_SIZE = 500;
+
     private final UserRepository userRepository;
     private final AdministrationRepository administrationRepository;
     private final DepartmentRepository departmentRepository;
     private final PasswordEncoder passwordEncoder;
     private final UserValidator userValidator;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     // Constructeur avec injection de dépendances
     public UserServiceImpl(UserRepository userRepository, 
                        AdministrationRepository administrationRepository, 
                        DepartmentRepository departmentRepository,
                        PasswordEncoder passwordEncoder,
-                       UserValidator userValidator) {
+                       UserValidator userValidator,
+                       ObjectMapper objectMapper,
+                       ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
         this.administrationRepository = administrationRepository;
         this.departmentRepository = departmentRepository;
         this.passwordEncoder = passwordEncoder;
         this.userValidator = userValidator;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
     @Transactional
-    public UserResponseDTO updateCredentials(UUID userId, CredentialsUpdateDTO credentialsDTO) throws ResponseStatusException {
+    public UserResponseDTO updateCredentials(UUID userId, CredentialsUpdateDTO credentialsDTO) {
         // Vérifier si l'utilisateur existe
         User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, Message.USER_NOT_FOUND));
+                .orElseThrow(() -> ApiErrors.USER_NOT_FOUND);
 
         // Vérifier si le nouveau nom d'utilisateur est déjà utilisé par un autre utilisateur
         if (!user.getUsername().equals(credentialsDTO.getUsername()) &&
             userRepository.existsByUsername(credentialsDTO.getUsername())) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, Message.USER_ALREADY_EXISTS);
+            throw ApiErrors.USER_ALREADY_EXISTS;
         }
 
         // Mettre à jour les identifiants
@@ -81,6 +129,7 @@ public class UserServiceImpl implements UserService {
 
         // Sauvegarder les modifications
         user = userRepository.save(user);
+        publishChange(userId);
 
         // Convertir et retourner l'utilisateur mis à jour
         return convertToDTO(user);
@@ -101,9 +150,9 @@ public class UserServiceImpl implements UserService {
      * @return Liste paginée des utilisateurs
      */
     @Override
-    public Page<UserResponseDTO> getAllUsers(Pageable pageable) {
+    public PageEnvelope<UserResponseDTO> getAllUsers(Pageable pageable) {
         Page<User> users = userRepository.findAll(pageable);
-        return users.map(this::convertToDTO);
+        return PageEnvelope.of(users, this::convertToDTO);
     }
 
     /**
@@ -111,111 +160,73 @@ public class UserServiceImpl implements UserService {
      * 
      * @param userRequestDTO Détails du nouvel utilisateur
      * @return Représentation du nouvel utilisateur créé
-     * @throws EntityNotFoundException Si l'administration ou le département n'est pas trouvé
+     * @throws ApiException Si l'administration ou le département n'est pas trouvé
      */
     @Override
     @Transactional
     public UserResponseDTO createUser(UserRequestDTO userRequestDTO) {
+        // Valider le DTO (passe unique sur toutes les contraintes)
+        userValidator.validate(userRequestDTO);
+
         // Vérifier l'unicité des champs
         if (userRepository.existsByEmail(userRequestDTO.getEmail())) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, Message.DUPLICATE_EMAIL);
+            throw ApiErrors.DUPLICATE_EMAIL;
         }
         if (userRepository.existsByPhoneNumber(userRequestDTO.getPhoneNumber())) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, Message.DUPLICATE_PHONE_NUMBER);
+            throw ApiErrors.DUPLICATE_PHONE_NUMBER;
         }
         if (userRepository.existsByMatriculeNumber(userRequestDTO.getMatriculeNumber())) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, Message.DUPLICATE_MATRICULE);
+            throw ApiErrors.DUPLICATE_MATRICULE;
         }
 
         // Générer le username automatiquement si non fourni
         String username = userRequestDTO.getUsername();
         if (username == null || username.trim().isEmpty()) {
             username = generateUsername(userRequestDTO.getFirstName(), userRequestDTO.getLastName());
-        }
-        
-        // Vérifier les données obligatoires
-        if (userRequestDTO.getFirstName() == null || userRequestDTO.getFirstName().trim().isEmpty()) {
-            throw new ResponseStatusException(
-                HttpStatus.BAD_REQUEST,
-                Message.FIRSTNAME_REQUIRED
-            );
-        }
-        if (userRequestDTO.getLastName() == null || userRequestDTO.getLastName().trim().isEmpty()) {
-            throw new ResponseStatusException(
-                HttpStatus.BAD_REQUEST,
-                Message.LASTNAME_REQUIRED
-            );
-        }
-        if (userRequestDTO.getRole() == null) {
-            throw new ResponseStatusException(
-                HttpStatus.BAD_REQUEST,
-                Message.ROLE_REQUIRED
-            );
-        }
-        if (userRequestDTO.getAdministrationId() == null) {
-            throw new ResponseStatusException(
-                HttpStatus.BAD_REQUEST,
-                Message.ADMINISTRATION_ID_REQUIRED
-            );
-        }
 
-        // Valider la longueur du nom d'utilisateur
-        if (username == null || username.length() < 3) {
-            throw new ResponseStatusException(
-                HttpStatus.BAD_REQUEST,
-                Message.USERNAME_TOO_SHORT
-            );
-        }
-        if (username == null || username.length() > 50) {
-            throw new ResponseStatusException(
-                HttpStatus.BAD_REQUEST,
-                Message.USERNAME_TOO_LONG
-            );
+            // Le username généré n'est pas couvert par les contraintes du DTO
+            if (username.length() < 3) {
+                throw ApiErrors.USERNAME_TOO_SHORT;
+            }
+            if (username.length() > 50) {
+                throw ApiErrors.USERNAME_TOO_LONG;
+            }
         }
 
-        try {
-            // Valider le DTO
-            userValidator.validate(userRequestDTO, false);
+        // Vérifier si l'administration existe
+        Administration administration = administrationRepository.findById(userRequestDTO.getAdministrationId())
+                .orElseThrow(() -> ApiErrors.ADMINISTRATION_NOT_FOUND);
 
-            // Vérifier si l'administration existe
-            Administration administration = administrationRepository.findById(userRequestDTO.getAdministrationId())
-                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, Message.ADMINISTRATION_NOT_FOUND));
+        // Vérifier si le département existe
+        Department department = departmentRepository.findById(userRequestDTO.getDepartmentId())
+                .orElseThrow(() -> ApiErrors.DEPARTMENT_NOT_FOUND);
 
-            // Vérifier si le département existe
-            Department department = departmentRepository.findById(userRequestDTO.getDepartmentId())
-                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, Message.DEPARTMENT_NOT_FOUND));
-
-            // Créer l'utilisateur
-            User user = new User();
-            user.setUsername(username);
-            
-            // Générer un mot de passe aléatoire de 12 caractères
-            String generatedPassword = UUID.randomUUID().toString().substring(0, 12);
-            user.setPassword(passwordEncoder.encode(generatedPassword));
-            
-            user.setFirstName(userRequestDTO.getFirstName());
-            user.setLastName(userRequestDTO.getLastName());
-            user.setRole(userRequestDTO.getRole());
-            user.setAdministration(administration);
-            user.setDepartment(department);
-            user.setPhoneNumber(userRequestDTO.getPhoneNumber());
-            user.setEmail(userRequestDTO.getEmail());
-            user.setAddress(userRequestDTO.getAddress());
-            user.setBirthDate(userRequestDTO.getBirthDate());
-            user.setBirthPlace(userRequestDTO.getBirthPlace());
-            user.setPosition(userRequestDTO.getPosition());
-            user.setMaritalStatus(userRequestDTO.getMaritalStatus());
-            user.setMatriculeNumber(userRequestDTO.getMatriculeNumber());
-
-            // Valider l'entité avant sauvegarde
-            userValidator.validate(user);
-
-            // Sauvegarder l'utilisateur
-            User savedUser = userRepository.save(user);
-            return convertToDTO(savedUser);
-        } catch (UserValidator.ValidationException e) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessages()[0]);
-        }
+        // Créer l'utilisateur
+        User user = new User();
+        user.setUsername(username);
+        
+        // Générer un mot de passe aléatoire de 12 caractères
+        String generatedPassword = UUID.randomUUID().toString().substring(0, 12);
+        user.setPassword(passwordEncoder.encode(generatedPassword));
+        
+        user.setFirstName(userRequestDTO.getFirstName());
+        user.setLastName(userRequestDTO.getLastName());
+        user.setRole(userRequestDTO.getRole());
+        user.setAdministration(administration);
+        user.setDepartment(department);
+        user.setPhoneNumber(userRequestDTO.getPhoneNumber());
+        user.setEmail(userRequestDTO.getEmail());
+        user.setAddress(userRequestDTO.getAddress());
+        user.setBirthDate(userRequestDTO.getBirthDate());
+        user.setBirthPlace(userRequestDTO.getBirthPlace());
+        user.setPosition(userRequestDTO.getPosition());
+        user.setMaritalStatus(userRequestDTO.getMaritalStatus());
+        user.setMatriculeNumber(userRequestDTO.getMatriculeNumber());
+
+        // Sauvegarder l'utilisateur
+        User savedUser = userRepository.save(user);
+        publishChange(savedUser.getId());
+        return convertToDTO(savedUser);
     }
 
     /**
@@ -224,53 +235,30 @@ public class UserServiceImpl implements UserService {
      * @param id Identifiant de l'utilisateur à modifier
      * @param userRequestDTO Nouveaux détails de l'utilisateur
      * @return Représentation de l'utilisateur mis à jour
-     * @throws EntityNotFoundException Si l'utilisateur, l'administration ou le département n'est pas trouvé
+     * @throws ApiException Si l'utilisateur, l'administration ou le département n'est pas trouvé
      */
     @Override
     @Transactional
     public UserResponseDTO updateUser(UUID id, UserRequestDTO userRequestDTO) {
-        // Vérifier les données obligatoires
-        if (userRequestDTO.getFirstName() == null || userRequestDTO.getFirstName().trim().isEmpty()) {
-            throw new ResponseStatusException(
-                HttpStatus.BAD_REQUEST,
-                Message.FIRSTNAME_REQUIRED
-            );
-        }
-        if (userRequestDTO.getLastName() == null || userRequestDTO.getLastName().trim().isEmpty()) {
-            throw new ResponseStatusException(
-                HttpStatus.BAD_REQUEST,
-                Message.LASTNAME_REQUIRED
-            );
-        }
-        if (userRequestDTO.getRole() == null) {
-            throw new ResponseStatusException(
-                HttpStatus.BAD_REQUEST,
-                Message.ROLE_REQUIRED
-            );
-        }
-        if (userRequestDTO.getAdministrationId() == null) {
-            throw new ResponseStatusException(
-                HttpStatus.BAD_REQUEST,
-                Message.ADMINISTRATION_ID_REQUIRED
-            );
-        }
+        // Valider le DTO (passe unique sur toutes les contraintes)
+        userValidator.validate(userRequestDTO);
 
         // Vérifier si l'utilisateur existe
         User user = userRepository.findById(id)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, Message.USER_NOT_FOUND));
+                .orElseThrow(() -> ApiErrors.USER_NOT_FOUND);
 
         // Vérifier l'unicité des champs
         if (!user.getEmail().equals(userRequestDTO.getEmail()) && 
             userRepository.existsByEmail(userRequestDTO.getEmail())) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, Message.DUPLICATE_EMAIL);
+            throw ApiErrors.DUPLICATE_EMAIL;
         }
         if (!user.getPhoneNumber().equals(userRequestDTO.getPhoneNumber()) && 
             userRepository.existsByPhoneNumber(userRequestDTO.getPhoneNumber())) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, Message.DUPLICATE_PHONE_NUMBER);
+            throw ApiErrors.DUPLICATE_PHONE_NUMBER;
         }
         if (!user.getMatriculeNumber().equals(userRequestDTO.getMatriculeNumber()) && 
             userRepository.existsByMatriculeNumber(userRequestDTO.getMatriculeNumber())) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, Message.DUPLICATE_MATRICULE);
+            throw ApiErrors.DUPLICATE_MATRICULE;
         }
 
         // Mettre à jour les champs de l'utilisateur
@@ -289,37 +277,231 @@ public class UserServiceImpl implements UserService {
         // Mettre à jour l'administration si spécifiée
         if (userRequestDTO.getAdministrationId() != null) {
             Administration administration = administrationRepository.findById(userRequestDTO.getAdministrationId())
-                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, Message.ADMINISTRATION_NOT_FOUND));
+                    .orElseThrow(() -> ApiErrors.ADMINISTRATION_NOT_FOUND);
             user.setAdministration(administration);
         }
 
         // Mettre à jour le département si spécifié
         if (userRequestDTO.getDepartmentId() != null) {
             Department department = departmentRepository.findById(userRequestDTO.getDepartmentId())
-                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, Message.DEPARTMENT_NOT_FOUND));
+                    .orElseThrow(() -> ApiErrors.DEPARTMENT_NOT_FOUND);
             user.setDepartment(department);
         }
 
         // Sauvegarder et retourner l'utilisateur mis à jour
         User updatedUser = userRepository.save(user);
+        publishChange(id);
         return convertToDTO(updatedUser);
     }
+
+    /**
+     * Modifie partiellement un utilisateur
+     * 
+     * Seuls les champs présents dans le document sont validés et contrôlés en unicité.
+     * L'entité étant annotée @DynamicUpdate, l'UPDATE généré ne contient que les
+     * colonnes réellement modifiées (aucun UPDATE si rien ne change).
+     * 
+     * @param id Identifiant de l'utilisateur à modifier
+     * @param patch Document JSON Merge Patch
+     * @return Représentation de l'utilisateur mis à jour
+     */
+    @Override
+    @Transactional
+    public UserResponseDTO patchUser(UUID id, JsonNode patch) {
+        if (patch == null || !patch.isObject()) {
+            throw ApiErrors.INVALID_PATCH_DOCUMENT;
+        }
+
+        // Relever les propriétés fournies et rejeter les champs non modifiables
+        Set<String> fields = new LinkedHashSet<>();
+        Iterator<String> names = patch.fieldNames();
+        while (names.hasNext()) {
+            String name = names.next();
+            String property = PATCHABLE_FIELDS.get(name);
+            if (property == null) {
+                throw new ApiException(HttpStatus.BAD_REQUEST, Message.PATCH_FIELD_NOT_ALLOWED, name);
+            }
+            fields.add(property);
+        }
+
+        UserRequestDTO changes;
+        try {
+            changes = objectMapper.treeToValue(patch, UserRequestDTO.class);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            throw ApiErrors.INVALID_PATCH_DOCUMENT;
+        }
+
+        // Valider uniquement les champs fournis
+        userValidator.validateProperties(changes, fields);
+
+        // Vérifier si l'utilisateur existe
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> ApiErrors.USER_NOT_FOUND);
+
+        // Vérifier l'unicité des seuls champs fournis et modifiés
+        if (fields.contains("email") && !user.getEmail().equals(changes.getEmail()) &&
+            userRepository.existsByEmail(changes.getEmail())) {
+            throw ApiErrors.DUPLICATE_EMAIL;
+        }
+        if (fields.contains("phoneNumber") && !user.getPhoneNumber().equals(changes.getPhoneNumber()) &&
+            userRepository.existsByPhoneNumber(changes.getPhoneNumber())) {
+            throw ApiErrors.DUPLICATE_PHONE_NUMBER;
+        }
+        if (fields.contains("matriculeNumber") && !user.getMatriculeNumber().equals(changes.getMatriculeNumber()) &&
+            userRepository.existsByMatriculeNumber(changes.getMatriculeNumber())) {
+            throw ApiErrors.DUPLICATE_MATRICULE;
+        }
+
+        // Appliquer les changements ; le dirty checking ignore les valeurs identiques
+        if (fields.contains("firstName")) user.setFirstName(changes.getFirstName());
+        if (fields.contains("lastName")) user.setLastName(changes.getLastName());
+        if (fields.contains("role")) user.setRole(changes.getRole());
+        if (fields.contains("phoneNumber")) user.setPhoneNumber(changes.getPhoneNumber());
+        if (fields.contains("email")) user.setEmail(changes.getEmail());
+        if (fields.contains("address")) user.setAddress(changes.getAddress());
+        if (fields.contains("birthDate")) user.setBirthDate(changes.getBirthDate());
+        if (fields.contains("birthPlace")) user.setBirthPlace(changes.getBirthPlace());
+        if (fields.contains("position")) user.setPosition(changes.getPosition());
+        if (fields.contains("maritalStatus")) user.setMaritalStatus(changes.getMaritalStatus());
+        if (fields.contains("matriculeNumber")) user.setMatriculeNumber(changes.getMatriculeNumber());
+
+        if (fields.contains("administrationId") &&
+            !changes.getAdministrationId().equals(user.getAdministration().getId())) {
+            Administration administration = administrationRepository.findById(changes.getAdministrationId())
+                    .orElseThrow(() -> ApiErrors.ADMINISTRATION_NOT_FOUND);
+            user.setAdministration(administration);
+        }
+        if (fields.contains("departmentId") &&
+            !changes.getDepartmentId().equals(user.getDepartment().getId())) {
+            Department department = departmentRepository.findById(changes.getDepartmentId())
+                    .orElseThrow(() -> ApiErrors.DEPARTMENT_NOT_FOUND);
+            user.setDepartment(department);
+        }
+
+        // Pas de save() : l'entité est gérée, le flush a lieu au commit
+        publishChange(id);
+        return convertToDTO(user);
+    }
+
+    /**
+     * Déplace en masse des utilisateurs
+     * 
+     * La destination est validée une seule fois, puis les utilisateurs sont modifiés par
+     * requêtes UPDATE ensemblistes, une par lot d'identifiants (fournis, ou résolus à partir
+     * du filtre), sans chargement des entités.
+     * 
+     * @param request Sélection des utilisateurs et destination
+     * @return Nombre d'utilisateurs demandés et modifiés
+     */
+    @Override
+    @Transactional
+    public BulkUpdateResponseDTO bulkMoveUsers(UserBulkMoveRequestDTO request) {
+        List<UUID> ids = selectedIds(request.getUserIds(), request.getFilter());
+
+        // Valider la destination
+        Department department = departmentRepository.findById(request.getTargetDepartmentId())
+                .orElseThrow(() -> ApiErrors.DEPARTMENT_NOT_FOUND);
+        Administration administration = department.getAdministration();
+        if (request.getTargetAdministrationId() != null) {
+            if (administration != null && !administration.getId().equals(request.getTargetAdministrationId())) {
+                throw ApiErrors.DEPARTMENT_ADMINISTRATION_MISMATCH;
+            }
+            if (administration == null) {
+                administration = administrationRepository.findById(request.getTargetAdministrationId())
+                        .orElseThrow(() -> ApiErrors.ADMINISTRATION_NOT_FOUND);
+            }
+        }
+        if (administration == null) {
+            throw ApiErrors.ADMINISTRATION_ID_REQUIRED;
+        }
+
+        Department targetDepartment = department;
+        Administration targetAdministration = administration;
+        BulkUpdateResponseDTO response = updateInChunks(ids, request.getFilter(),
+                chunk -> userRepository.moveUsers(chunk, targetDepartment, targetAdministration));
+        publishChange(null);
+        return response;
+    }
+
+    /**
+     * Change en masse le rôle d'utilisateurs par requêtes UPDATE ensemblistes
+     * 
+     * @param request Sélection des utilisateurs et nouveau rôle
+     * @return Nombre d'utilisateurs demandés et modifiés
+     */
+    @Override
+    @Transactional
+    public BulkUpdateResponseDTO bulkChangeRole(UserBulkRoleRequestDTO request) {
+        List<UUID> ids = selectedIds(request.getUserIds(), request.getFilter());
+
+        BulkUpdateResponseDTO response = updateInChunks(ids, request.getFilter(),
+                chunk -> userRepository.updateRoles(chunk, request.getRole()));
+        publishChange(null);
+        return response;
+    }
+
+    /**
+     * Applique une requête UPDATE par lot d'au plus BULK_CHUNK_SIZE identifiants
+     * 
+     * @param ids Identifiants fournis, ou null pour une sélection par filtre
+     * @param filter Filtre, résolu en identifiants lot par lot
+     * @param update Requête UPDATE d'un lot, rendant le nombre de lignes modifiées
+     * @return Nombre d'utilisateurs demandés et modifiés
+     */
+    private BulkUpdateResponseDTO updateInChunks(List<UUID> ids, UserFilterDTO filter,
+                                                 ToIntFunction<List<UUID>> update) {
+        int requested = 0;
+        int affected = 0;
+        if (ids != null) {
+            for (int from = 0; from < ids.size(); from += BULK_CHUNK_SIZE) {
+                affected += update.applyAsInt(ids.subList(from, Math.min(from + BULK_CHUNK_SIZE, ids.size())));
+            }
+            return new BulkUpdateResponseDTO(ids.size(), affected);
+        }
+        UUID after = null;
+        List<UUID> chunk;
+        while (!(chunk = userRepository.findIdsMatching(filter.getAdministrationId(), filter.getDepartmentId(),
+                filter.getRole(), after, PageRequest.of(0, BULK_CHUNK_SIZE))).isEmpty()) {
+            requested += chunk.size();
+            affected += update.applyAsInt(chunk);
+            after = chunk.get(chunk.size() - 1);
+        }
+        return new BulkUpdateResponseDTO(requested, affected);
+    }
+
+    /**
+     * Vérifie qu'exactement un mode de sélection est fourni
+     * 
+     * @param userIds Identifiants fournis (optionnel)
+     * @param filter Filtre fourni (optionnel)
+     * @return Identifiants distincts, ou null si la sélection se fait par filtre
+     */
+    private List<UUID> selectedIds(List<UUID> userIds, UserFilterDTO filter) {
+        boolean hasIds = userIds != null && !userIds.isEmpty();
+        boolean hasFilter = filter != null && !filter.isEmpty();
+        if (hasIds == hasFilter) {
+            throw ApiErrors.BULK_SELECTION_INVALID;
+        }
+        return hasIds ? new ArrayList<>(new LinkedHashSet<>(userIds)) : null;
+    }
+
     /**
      * Supprime un utilisateur
      * 
      * @param userId Identifiant de l'utilisateur à supprimer
-     * @throws ResponseStatusException Si l'utilisateur n'est pas trouvé
+     * @throws ApiException Si l'utilisateur n'est pas trouvé
      */
     @Override
     @Transactional
     public void deleteUser(UUID userId) {
         // Vérifier si l'utilisateur existe
         if (!userRepository.existsById(userId)) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, Message.USER_NOT_FOUND);
+            throw ApiErrors.USER_NOT_FOUND;
         }
 
         // Supprimer l'utilisateur
         userRepository.deleteById(userId);
+        publishChange(userId);
     }
 
     /**
@@ -330,9 +512,9 @@ public class UserServiceImpl implements UserService {
      * @return Page d'utilisateurs appartenant à l'administration
      */
     @Override
-    public Page<UserResponseDTO> getUsersByAdministration(UUID administrationId, Pageable pageable) {
+    public PageEnvelope<UserResponseDTO> getUsersByAdministration(UUID administrationId, Pageable pageable) {
         Page<User> users = userRepository.findByAdministrationId(administrationId, pageable);
-        return users.map(this::convertToDTO);
+        return PageEnvelope.of(users, this::convertToDTO);
     }
 
     /**
@@ -363,9 +545,9 @@ public class UserServiceImpl implements UserService {
      * @return Page d'utilisateurs appartenant au département
      */
     @Override
-    public Page<UserResponseDTO> getUsersByDepartment(UUID departmentId, Pageable pageable) {
+    public PageEnvelope<UserResponseDTO> getUsersByDepartment(UUID departmentId, Pageable pageable) {
         Page<User> users = userRepository.findByDepartmentId(departmentId, pageable);
-        return users.map(this::convertToDTO);
+        return PageEnvelope.of(users, this::convertToDTO);
     }
 
     /**
@@ -379,7 +561,7 @@ public class UserServiceImpl implements UserService {
      * @return Page d'utilisateurs correspondant aux critères
      */
     @Override
-    public Page<UserResponseDTO> searchUsers(String username, UUID administrationId, UUID departmentId, String roleStr, Pageable pageable) {
+    public PageEnvelope<UserResponseDTO> searchUsers(String username, UUID administrationId, UUID departmentId, String roleStr, Pageable pageable) {
         Specification<User> spec = (root, query, cb) -> {
             List<Predicate> predicates = new ArrayList<>();
 
@@ -411,7 +593,7 @@ public class UserServiceImpl implements UserService {
         };
 
         Page<User> users = userRepository.findAll(spec, pageable);
-        return users.map(this::convertToDTO);
+        return PageEnvelope.of(users, this::convertToDTO);
     }
 
     @Override
@@ -423,6 +605,18 @@ public class UserServiceImpl implements UserService {
         return convertToDTO(user);
     }
 
+    @Override
+    public List<UserResponseDTO> getUsersByIds(Collection<UUID> userIds) {
+        return userRepository.findAllById(userIds).stream()
+                .map(this::convertToDTO)
+                .toList();
+    }
+
+    // Notifie les abonnés (caches) après le commit ; id null pour une modification en masse
+    private void publishChange(UUID userId) {
+        eventPublisher.publishEvent(new DirectoryChangedEvent(DirectoryChangedEvent.Resource.USER, userId));
+    }
+
     private UserResponseDTO convertToDTO(User user) {
         UserResponseDTO dto = new UserResponseDTO();
         dto.setId(user.getId());
@@ -1,8 +1,9 @@
 /**
  * Classe de validation pour les utilisateurs
  * 
- * Cette classe contient toutes les validations métier pour les utilisateurs,
- * y compris la validation des formats et l'unicité des champs.
+ * Point d'entrée unique de la validation des écritures d'utilisateurs : chaque
+ * contrainte Bean Validation du DTO est évaluée une seule fois par requête, avec le
+ * Validator partagé de l'application (métadonnées de contraintes construites une fois).
  * 
  * @author Makan Sissoko
  * @version 1.0
@@ -11,86 +12,71 @@
 package com.abdatytch.user_service.validation;
 
 import com.abdatytch.user_service.dto.request.UserRequestDTO;
-import com.abdatytch.user_service.model.User;
-import com.abdatytch.user_service.repository.UserRepository;
-import com.abdatytch.user_service.constant.Message;
+import com.abdatytch.user_service.exception.ApiException;
+import com.abdatytch.user_service.monitoring.jfr.ValidationEvent;
 import jakarta.validation.ConstraintViolation;
-import jakarta.validation.Validation;
 import jakarta.validation.Validator;
-import jakarta.validation.ValidatorFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.Set;
 
 @Component
 public class UserValidator {
 
+    /**
+     * Entité des événements JFR de validation
+     */
+    private static final String ENTITY = "User";
+
     private final Validator validator;
-    private final UserRepository userRepository;
 
     @Autowired
-    public UserValidator(UserRepository userRepository) {
-        ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
-        this.validator = factory.getValidator();
-        this.userRepository = userRepository;
+    public UserValidator(Validator validator) {
+        this.validator = validator;
     }
 
     /**
      * Valide un DTO de création ou mise à jour d'utilisateur
      * @param userRequestDTO DTO à valider
-     * @param isUpdate true si c'est une mise à jour
-     * @throws ValidationException si des erreurs de validation sont trouvées
+     * @throws ApiException 400 si des erreurs de validation sont trouvées
      */
-    public void validate(UserRequestDTO userRequestDTO, boolean isUpdate) throws ValidationException {
-        // Validation des contraintes JPA
+    public void validate(UserRequestDTO userRequestDTO) throws ApiException {
+        ValidationEvent event = ValidationEvent.start(ENTITY, "validate");
         Set<ConstraintViolation<UserRequestDTO>> violations = validator.validate(userRequestDTO);
+        ValidationEvent.end(event, violations.size());
         if (!violations.isEmpty()) {
-            throw new ValidationException(violations.stream()
-                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
-                .toArray(String[]::new));
-        }
-
-        // Validation de l'unicité des champs
-        if (!isUpdate || userRequestDTO.getId() == null) {
-            if (userRepository.existsByEmail(userRequestDTO.getEmail())) {
-                throw new ValidationException(Message.DUPLICATE_EMAIL);
-            }
-            if (userRepository.existsByPhoneNumber(userRequestDTO.getPhoneNumber())) {
-                throw new ValidationException(Message.DUPLICATE_PHONE_NUMBER);
-            }
-            if (userRepository.existsByMatriculeNumber(userRequestDTO.getMatriculeNumber())) {
-                throw new ValidationException(Message.DUPLICATE_MATRICULE);
-            }
+            throw validationError(violations);
         }
     }
 
     /**
-     * Valide une entité User
-     * @param user Entité à valider
-     * @throws ValidationException si des erreurs de validation sont trouvées
+     * Valide uniquement les propriétés fournies d'un DTO (modification partielle)
+     * @param userRequestDTO DTO contenant les nouvelles valeurs
+     * @param properties Noms des propriétés à valider
+     * @throws ApiException 400 si des erreurs de validation sont trouvées
      */
-    public void validate(User user) throws ValidationException {
-        // Validation des contraintes JPA
-        Set<ConstraintViolation<User>> violations = validator.validate(user);
+    public void validateProperties(UserRequestDTO userRequestDTO, Collection<String> properties) throws ApiException {
+        ValidationEvent event = ValidationEvent.start(ENTITY, "validateProperties");
+        Set<ConstraintViolation<UserRequestDTO>> violations = new HashSet<>();
+        for (String property : properties) {
+            violations.addAll(validator.validateProperty(userRequestDTO, property));
+        }
+        ValidationEvent.end(event, violations.size());
         if (!violations.isEmpty()) {
-            throw new ValidationException(violations.stream()
-                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
-                .toArray(String[]::new));
+            throw validationError(violations);
         }
     }
 
     /**
-     * Exception personnalisée pour les erreurs de validation
+     * Construit l'erreur de validation (sans pile d'appels) au format de GlobalExceptionHandler
+     * @param violations Violations de contraintes
+     * @return Exception 400 portant les messages de violation en détails
      */
-    public static class ValidationException extends RuntimeException {
-        private final String[] messages;
-
-        public ValidationException(String... messages) {
-            this.messages = messages;
-        }
-
-        public String[] getMessages() {
-            return messages;
-        }
+    private static ApiException validationError(Set<ConstraintViolation<UserRequestDTO>> violations) {
+        return new ApiException(HttpStatus.BAD_REQUEST, "Validation errors",
+            violations.stream().map(ConstraintViolation::getMessage).toArray(String[]::new));
     }
 }
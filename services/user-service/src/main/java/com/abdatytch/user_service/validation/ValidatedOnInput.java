@@ -0,0 +1,24 @@
+/**
+ * Marque une entité dont chaque écriture part d'un DTO déjà validé par son service
+ * 
+ * La validation Bean Validation déclenchée par Hibernate (pre-persist / pre-update)
+ * n'est pas rejouée pour ces entités, elle réévaluerait les contraintes que le DTO
+ * vient de passer. Les autres entités restent validées par Hibernate.
+ * 
+ * @author Makan Sissoko
+ * @version 1.0
+ * @since 2026-10-19
+ */
+package com.abdatytch.user_service.validation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface ValidatedOnInput {
+}
@@ -0,0 +1,130 @@
+package com.abdatytch.user_service.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import com.abdatytch.user_service.event.DirectoryChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Lecture sur le thread appelant, repli sur la dernière valeur valide et rafraîchissement
+ * en arrière-plan d'une région dégradée
+ */
+class StaleWhileRevalidateCacheTest {
+
+    private static final Executor SATURATED = task -> {
+        throw new RejectedExecutionException("pool saturé");
+    };
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private StaleWhileRevalidateCache cache(Executor executor) {
+        return new StaleWhileRevalidateCache(executor, meterRegistry,
+                Duration.ofMillis(300), 100, Duration.ofMillis(500));
+    }
+
+    private static String failing() {
+        throw new IllegalStateException("base indisponible");
+    }
+
+    @Test
+    void readsRunOnCallerThreadEvenWithPreviousValue() {
+        StaleWhileRevalidateCache cache = cache(SATURATED);
+        Thread caller = Thread.currentThread();
+        cache.get(StaleWhileRevalidateCache.USER, 1, Thread::currentThread);
+
+        StaleWhileRevalidateCache.Result<Thread> result =
+                cache.get(StaleWhileRevalidateCache.USER, 1, Thread::currentThread);
+
+        assertSame(caller, result.value());
+        assertFalse(result.stale());
+    }
+
+    @Test
+    void firstReadFailurePropagatesOriginalError() {
+        StaleWhileRevalidateCache cache = cache(Runnable::run);
+
+        IllegalStateException error = assertThrows(IllegalStateException.class,
+                () -> cache.get(StaleWhileRevalidateCache.USER, 1, StaleWhileRevalidateCacheTest::failing));
+        assertEquals("base indisponible", error.getMessage());
+    }
+
+    @Test
+    void failedReadServesPreviousValueWithMillisecondAge() throws InterruptedException {
+        StaleWhileRevalidateCache cache = cache(Runnable::run);
+        cache.get(StaleWhileRevalidateCache.USER, 1, () -> "Awa");
+        Thread.sleep(20);
+
+        StaleWhileRevalidateCache.Result<String> result =
+                cache.get(StaleWhileRevalidateCache.USER, 1, StaleWhileRevalidateCacheTest::failing);
+
+        assertTrue(result.stale());
+        assertEquals("Awa", result.value());
+        double age = meterRegistry.get("stale.cache.age").tag("cache", "user").summary().totalAmount();
+        assertTrue(age >= 0.02 && age < 1, "âge enregistré : " + age + " s");
+    }
+
+    @Test
+    void degradedRegionRefreshesOnExecutorOnly() {
+        List<Runnable> refreshes = new ArrayList<>();
+        StaleWhileRevalidateCache cache = cache(refreshes::add);
+        cache.get(StaleWhileRevalidateCache.DEPARTMENTS, () -> "v1");
+        cache.get(StaleWhileRevalidateCache.DEPARTMENTS, StaleWhileRevalidateCacheTest::failing);
+
+        // Région dégradée : la valeur précédente est servie sans lecture sur le thread appelant
+        AtomicInteger reads = new AtomicInteger();
+        StaleWhileRevalidateCache.Result<String> result = cache.get(StaleWhileRevalidateCache.DEPARTMENTS, () -> {
+            reads.incrementAndGet();
+            return "v2";
+        });
+        cache.get(StaleWhileRevalidateCache.DEPARTMENTS, () -> "v3");
+
+        assertEquals(0, reads.get());
+        assertTrue(result.stale());
+        assertEquals("v1", result.value());
+        assertEquals(1, refreshes.size(), "un seul rafraîchissement par clé");
+
+        refreshes.get(0).run();
+        assertEquals(1, reads.get());
+        StaleWhileRevalidateCache.Result<String> refreshed =
+                cache.get(StaleWhileRevalidateCache.DEPARTMENTS, () -> "v4");
+        assertFalse(refreshed.stale());
+        assertEquals("v4", refreshed.value());
+    }
+
+    @Test
+    void slowReadDegradesRegion() {
+        StaleWhileRevalidateCache cache = new StaleWhileRevalidateCache(SATURATED, meterRegistry,
+                Duration.ofNanos(1), 100, Duration.ofMillis(500));
+        cache.get(StaleWhileRevalidateCache.USER, 1, () -> "Awa");
+
+        StaleWhileRevalidateCache.Result<String> result = cache.get(StaleWhileRevalidateCache.USER, 1, () -> "Awa2");
+
+        // Pool saturé : le rafraîchissement est ignoré et la valeur précédente reste servie
+        assertTrue(result.stale());
+        assertEquals("Awa", result.value());
+    }
+
+    @Test
+    void departmentChangeEvictsUsers() {
+        StaleWhileRevalidateCache cache = cache(Runnable::run);
+        cache.get(StaleWhileRevalidateCache.USER, 1, () -> "Awa, département Budget");
+
+        cache.onDirectoryChanged(
+                new DirectoryChangedEvent(DirectoryChangedEvent.Resource.DEPARTMENT, UUID.randomUUID()));
+
+        assertThrows(IllegalStateException.class,
+                () -> cache.get(StaleWhileRevalidateCache.USER, 1, StaleWhileRevalidateCacheTest::failing));
+    }
+}
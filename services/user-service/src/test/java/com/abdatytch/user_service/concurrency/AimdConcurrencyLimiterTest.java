@@ -0,0 +1,163 @@
+package com.abdatytch.user_service.concurrency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Évolution de la limite : croissance sous charge saine, une réduction par fenêtre en
+ * surcharge, latence de référence propre à chaque classe de route
+ */
+class AimdConcurrencyLimiterTest {
+
+    private static final int FAST = 0;
+    private static final int SLOW = 1;
+
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private static AimdConcurrencyLimiter limiter(int initialLimit) {
+        return new AimdConcurrencyLimiter(2, initialLimit, 4, 200, 0.8, 2.0, 0.9);
+    }
+
+    /**
+     * Une fenêtre complète à pleine charge : la limite est occupée puis libérée
+     *
+     * @param latencies Latence de chaque requête (classe FAST, SLOW en alternance)
+     */
+    private static void saturatedWindow(AimdConcurrencyLimiter limiter, long... latencies) {
+        int samples = Math.max(AimdConcurrencyLimiter.MIN_WINDOW, limiter.getLimit());
+        int released = 0;
+        while (released < samples) {
+            int batch = 0;
+            while (batch < limiter.getLimit() && released + batch < samples
+                    && limiter.tryAcquire(AimdConcurrencyLimiter.Priority.READ)) {
+                batch++;
+            }
+            for (int i = 0; i < batch; i++, released++) {
+                limiter.release(released % 2, latencies[released % latencies.length], false);
+            }
+        }
+    }
+
+    /**
+     * Établit la latence de référence des deux classes, 1 ms et 20 ms, sans solliciter la limite,
+     * puis complète la fenêtre en cours pour que les suivantes commencent à zéro
+     */
+    private static void warmUp(AimdConcurrencyLimiter limiter) {
+        int samples = 0;
+        for (int i = 0; i < AimdConcurrencyLimiter.BASELINE_WINDOW; i++, samples += 2) {
+            assertTrue(limiter.tryAcquire(AimdConcurrencyLimiter.Priority.READ));
+            limiter.release(FAST, MILLIS, false);
+            assertTrue(limiter.tryAcquire(AimdConcurrencyLimiter.Priority.READ));
+            limiter.release(SLOW, 20 * MILLIS, false);
+        }
+        for (; samples % AimdConcurrencyLimiter.MIN_WINDOW != 0; samples++) {
+            assertTrue(limiter.tryAcquire(AimdConcurrencyLimiter.Priority.READ));
+            limiter.release(FAST, MILLIS, false);
+        }
+    }
+
+    @Test
+    void mixedRoutesAtTheirUsualLatencyLetTheLimitGrow() {
+        AimdConcurrencyLimiter limiter = limiter(20);
+        warmUp(limiter);
+        int start = limiter.getLimit();
+
+        // Une seule référence globale (1 ms) jugerait toutes les requêtes à 20 ms en surcharge
+        for (int window = 0; window < 10; window++) {
+            saturatedWindow(limiter, MILLIS, 20 * MILLIS);
+        }
+
+        assertEquals(start + 10, limiter.getLimit());
+    }
+
+    @Test
+    void overloadedWindowBacksOffOnce() {
+        AimdConcurrencyLimiter limiter = limiter(20);
+        warmUp(limiter);
+        int start = limiter.getLimit();
+
+        saturatedWindow(limiter, 5 * MILLIS, 100 * MILLIS);
+
+        assertEquals((int) (start * 0.9), limiter.getLimit());
+    }
+
+    @Test
+    void sustainedOverloadConvergesToMinLimit() {
+        AimdConcurrencyLimiter limiter = limiter(20);
+        warmUp(limiter);
+
+        // 20 × 0,9^15 < 4 : la référence n'apprend pas la latence de surcharge en chemin
+        for (int window = 0; window < 20; window++) {
+            saturatedWindow(limiter, 5 * MILLIS, 100 * MILLIS);
+        }
+
+        assertEquals(4, limiter.getLimit());
+    }
+
+    @Test
+    void isolatedOutlierDoesNotBackOff() {
+        AimdConcurrencyLimiter limiter = limiter(20);
+        warmUp(limiter);
+        int start = limiter.getLimit();
+
+        // 1 requête lente sur une fenêtre d'au moins 20 : sous le seuil de 10 %
+        long[] latencies = new long[AimdConcurrencyLimiter.MIN_WINDOW];
+        Arrays.fill(latencies, MILLIS);
+        latencies[0] = 50 * MILLIS;
+        saturatedWindow(limiter, latencies);
+
+        assertEquals(start + 1, limiter.getLimit());
+    }
+
+    @Test
+    void serverErrorsBackOff() {
+        AimdConcurrencyLimiter limiter = limiter(20);
+        int samples = Math.max(AimdConcurrencyLimiter.MIN_WINDOW, limiter.getLimit());
+        for (int i = 0; i < samples; i++) {
+            assertTrue(limiter.tryAcquire(AimdConcurrencyLimiter.Priority.READ));
+            limiter.release(FAST, MILLIS, true);
+        }
+
+        assertEquals(18, limiter.getLimit());
+    }
+
+    @Test
+    void idleServiceDoesNotGrow() {
+        AimdConcurrencyLimiter limiter = limiter(20);
+        warmUp(limiter);
+        int start = limiter.getLimit();
+
+        // Une requête à la fois : la limite n'est jamais sollicitée
+        for (int i = 0; i < 10 * AimdConcurrencyLimiter.MIN_WINDOW; i++) {
+            assertTrue(limiter.tryAcquire(AimdConcurrencyLimiter.Priority.READ));
+            limiter.release(FAST, MILLIS, false);
+        }
+
+        assertEquals(start, limiter.getLimit());
+    }
+
+    @Test
+    void writesKeepReadReserve() {
+        AimdConcurrencyLimiter limiter = limiter(10);
+        for (int i = 0; i < 8; i++) {
+            assertTrue(limiter.tryAcquire(AimdConcurrencyLimiter.Priority.WRITE));
+        }
+        assertFalse(limiter.tryAcquire(AimdConcurrencyLimiter.Priority.WRITE));
+        assertTrue(limiter.tryAcquire(AimdConcurrencyLimiter.Priority.READ));
+        assertTrue(limiter.tryAcquire(AimdConcurrencyLimiter.Priority.READ));
+        assertFalse(limiter.tryAcquire(AimdConcurrencyLimiter.Priority.READ));
+    }
+
+    @Test
+    void rejectsInvalidParameters() {
+        assertThrows(IllegalArgumentException.class, () -> new AimdConcurrencyLimiter(0, 20, 4, 200, 0.8, 2.0, 0.9));
+        assertThrows(IllegalArgumentException.class, () -> new AimdConcurrencyLimiter(2, 20, 4, 200, 0.8, 1.0, 0.9));
+        assertThrows(IllegalArgumentException.class, () -> new AimdConcurrencyLimiter(2, 20, 4, 200, 0.8, 2.0, 1.0));
+    }
+}
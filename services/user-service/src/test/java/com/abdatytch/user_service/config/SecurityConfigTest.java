@@ -0,0 +1,65 @@
+package com.abdatytch.user_service.config;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Accès aux endpoints d'exploitation : anonymes refusés, compte OPS accepté,
+ * endpoints de supervision et API inchangés
+ *
+ * Traçage et export Prometheus, coupés par défaut en test, sont activés pour exposer spans et prometheus.
+ */
+@SpringBootTest(properties = "spring.security.user.password=ops-secret")
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+class SecurityConfigTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void operationsEndpointsRejectAnonymousCallers() throws Exception {
+        mockMvc.perform(get("/actuator/jfr")).andExpect(status().isUnauthorized());
+        mockMvc.perform(delete("/actuator/hibernate")).andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/spans")).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void operationsEndpointsRejectWrongPassword() throws Exception {
+        mockMvc.perform(get("/actuator/hibernate").header(HttpHeaders.AUTHORIZATION, basic("ops", "wrong")))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void operationsEndpointsAcceptOpsAccount() throws Exception {
+        mockMvc.perform(get("/actuator/hibernate").header(HttpHeaders.AUTHORIZATION, basic("ops", "ops-secret")))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/actuator/spans").header(HttpHeaders.AUTHORIZATION, basic("ops", "ops-secret")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void monitoringAndApiStayOpen() throws Exception {
+        mockMvc.perform(get("/actuator/health")).andExpect(status().isOk());
+        mockMvc.perform(get("/actuator/prometheus")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/administrations")).andExpect(status().isOk());
+    }
+
+    private static String basic(String user, String password) {
+        return "Basic " + Base64.getEncoder()
+                .encodeToString((user + ":" + password).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,204 @@
+package com.abdatytch.user_service.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import com.abdatytch.user_service.model.Administration;
+import com.abdatytch.user_service.model.Department;
+import com.abdatytch.user_service.model.User;
+import com.abdatytch.user_service.model.UserRole;
+import com.abdatytch.user_service.monitoring.SqlStatementCounter;
+import com.abdatytch.user_service.repository.AdministrationRepository;
+import com.abdatytch.user_service.repository.DepartmentRepository;
+import com.abdatytch.user_service.repository.UserRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Budgets de requêtes SQL par endpoint : un N+1 (association chargée ligne à ligne,
+ * collection paresseuse parcourue à la conversion) fait échouer le test correspondant
+ *
+ * Cache de réponses, limitation de débit et délestage désactivés : chaque appel atteint la base.
+ */
+@SpringBootTest(properties = {
+    "response-cache.enabled=false",
+    "rate-limit.enabled=false",
+    "concurrency-limit.enabled=false"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(SqlStatementCounter.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EndpointSqlBudgetTest {
+
+    // Page pleine (plus de 50 utilisateurs) : Spring Data exécute aussi la requête de comptage
+    private static final int USERS = 60;
+
+    // Page d'utilisateurs : sélection avec administration et département joints, puis comptage
+    private static final int USERS_PAGE_BUDGET = 2;
+
+    // Liste des départements avec leur administration jointe
+    private static final int DEPARTMENTS_BUDGET = 1;
+
+    // Liste des administrations, sans leurs collections
+    private static final int ADMINISTRATIONS_BUDGET = 1;
+
+    // Fiche utilisateur avec administration et département joints
+    private static final int USER_BUDGET = 1;
+
+    // Profil : fiche utilisateur, puis administration du département quand ce n'est pas celle
+    // de l'utilisateur ; département et administration déjà chargés ne sont pas relus
+    private static final int PROFILE_BUDGET = 2;
+
+    // Création : 3 contrôles d'unicité (email, téléphone, matricule), 1 sondage du username
+    // (nom sans homonyme), lecture de l'administration et du département, insertion
+    private static final int CREATE_USER_BUDGET = 7;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SqlStatementCounter sqlStatements;
+
+    @Autowired
+    private AdministrationRepository administrationRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Department department;
+    private UUID userId;
+    private UUID crossUserId;
+
+    @BeforeAll
+    void seedDirectory() {
+        List<Department> departments = new ArrayList<>();
+        for (int a = 0; a < 3; a++) {
+            Administration administration = new Administration();
+            administration.setName("Administration budget " + a);
+            administration = administrationRepository.save(administration);
+            for (int d = 0; d < 2; d++) {
+                Department created = new Department();
+                created.setName("Département budget " + a + "-" + d);
+                created.setAdministration(administration);
+                departments.add(departmentRepository.save(created));
+            }
+        }
+        department = departments.get(0);
+
+        // Utilisateurs répartis sur toutes les administrations et tous les départements
+        List<User> users = new ArrayList<>();
+        for (int n = 0; n < USERS; n++) {
+            Department assigned = departments.get(n % departments.size());
+            User user = new User();
+            user.setUsername("agentbudget" + n);
+            user.setPassword("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z7Ff2wH1Q7mZ0Ya7dJ9YxK6W");
+            user.setFirstName("Agent");
+            user.setLastName("Budget");
+            user.setRole(UserRole.USER);
+            user.setAdministration(assigned.getAdministration());
+            user.setDepartment(assigned);
+            user.setPhoneNumber(String.format("7%07d", n));
+            user.setEmail("agent" + n + "@budget.ml");
+            user.setAddress("Rue 100, ACI 2000, Bamako");
+            user.setBirthDate(LocalDate.of(1990, 1, 1));
+            user.setBirthPlace("Bamako");
+            user.setPosition("Agent");
+            user.setMaritalStatus("Célibataire");
+            user.setMatriculeNumber(String.format("BUD%06d", n));
+            users.add(user);
+        }
+        List<User> saved = userRepository.saveAll(users);
+        userId = saved.get(0).getId();
+
+        // Rattachement incohérent laissé par une mise à jour : département d'une autre administration
+        User cross = saved.get(1);
+        cross.setAdministration(departments.get(departments.size() - 1).getAdministration());
+        crossUserId = userRepository.save(cross).getId();
+    }
+
+    @BeforeEach
+    void resetCounter() {
+        sqlStatements.reset();
+    }
+
+    @Test
+    void usersPage() throws Exception {
+        mockMvc.perform(get("/api/users").param("size", "50")).andExpect(status().isOk());
+        sqlStatements.assertAtMost(USERS_PAGE_BUDGET, "GET /api/users?size=50");
+    }
+
+    @Test
+    void usersOfDepartment() throws Exception {
+        mockMvc.perform(get("/api/users/department/{id}", department.getId()).param("size", "5"))
+                .andExpect(status().isOk());
+        sqlStatements.assertAtMost(USERS_PAGE_BUDGET, "GET /api/users/department/{id}?size=5");
+    }
+
+    @Test
+    void user() throws Exception {
+        mockMvc.perform(get("/api/users/{id}", userId)).andExpect(status().isOk());
+        sqlStatements.assertAtMost(USER_BUDGET, "GET /api/users/{id}");
+    }
+
+    @Test
+    void profile() throws Exception {
+        mockMvc.perform(get("/api/profile/{id}", userId)).andExpect(status().isOk());
+        sqlStatements.assertAtMost(PROFILE_BUDGET, "GET /api/profile/{id}");
+    }
+
+    @Test
+    void profileKeepsDepartmentAdministration() throws Exception {
+        User cross = userRepository.findById(crossUserId).orElseThrow();
+        sqlStatements.reset();
+        mockMvc.perform(get("/api/profile/{id}", crossUserId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.department.administrationId")
+                        .value(cross.getDepartment().getAdministration().getId().toString()))
+                .andExpect(jsonPath("$.administration.id").value(cross.getAdministration().getId().toString()));
+        sqlStatements.assertAtMost(PROFILE_BUDGET, "GET /api/profile/{id}");
+    }
+
+    @Test
+    void departments() throws Exception {
+        mockMvc.perform(get("/api/departments")).andExpect(status().isOk());
+        sqlStatements.assertAtMost(DEPARTMENTS_BUDGET, "GET /api/departments");
+    }
+
+    @Test
+    void administrations() throws Exception {
+        mockMvc.perform(get("/api/administrations")).andExpect(status().isOk());
+        sqlStatements.assertAtMost(ADMINISTRATIONS_BUDGET, "GET /api/administrations");
+    }
+
+    @Test
+    void createUser() throws Exception {
+        String body = """
+                {"firstname":"Seydou","lastName":"Kanté","role":"USER","administrationId":"%s","departmentId":"%s",\
+                "phoneNumber":"66000001","email":"seydou.kante@budget.ml","address":"Rue 100, ACI 2000, Bamako",\
+                "birthDate":"1990-01-01","birthPlace":"Bamako","position":"Agent","maritalStatus":"Marié",\
+                "matriculeNumber":"BUD900001"}"""
+                .formatted(department.getAdministration().getId(), department.getId());
+        mockMvc.perform(post("/api/users").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isCreated());
+        sqlStatements.assertAtMost(CREATE_USER_BUDGET, "POST /api/users");
+    }
+}
@@ -0,0 +1,59 @@
+package com.abdatytch.user_service.exception;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.SQLException;
+import com.abdatytch.user_service.constant.Message;
+import com.abdatytch.user_service.dto.response.ErrorDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Violations d'intégrité : statut et message selon la contrainte, sans message du pilote
+ */
+class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    private ResponseEntity<ErrorDTO> handle(String sqlState, int errorCode) {
+        SQLException cause = new SQLException("Contrainte FK_USERS_DEPARTMENT sur la table users, valeur 42",
+                sqlState, errorCode);
+        return handler.handleDataIntegrityViolationException(
+                new DataIntegrityViolationException("could not execute statement", cause));
+    }
+
+    private static void assertError(ResponseEntity<ErrorDTO> response, int status, String message) {
+        assertEquals(status, response.getStatusCode().value());
+        assertEquals(message, response.getBody().getMessage());
+        assertTrue(response.getBody().getDetails().isEmpty(), "message du pilote renvoyé au client");
+    }
+
+    @Test
+    void foreignKeyStillReferenced() {
+        assertError(handle("23000", 1451), 409, Message.RESOURCE_STILL_REFERENCED);
+        assertError(handle("23503", 23503), 409, Message.RESOURCE_STILL_REFERENCED);
+    }
+
+    @Test
+    void foreignKeyToMissingRow() {
+        assertError(handle("23000", 1452), 409, Message.REFERENCED_RESOURCE_NOT_FOUND);
+        assertError(handle("23506", 23506), 409, Message.REFERENCED_RESOURCE_NOT_FOUND);
+    }
+
+    @Test
+    void uniqueConstraint() {
+        assertError(handle("23000", 1062), 409, Message.RESOURCE_ALREADY_EXISTS);
+        assertError(handle("23505", 23505), 409, Message.RESOURCE_ALREADY_EXISTS);
+    }
+
+    @Test
+    void otherConstraints() {
+        assertError(handle("23000", 1048), 400, Message.DATA_INTEGRITY_VIOLATION);
+        assertError(handle("23502", 23502), 400, Message.DATA_INTEGRITY_VIOLATION);
+        ResponseEntity<ErrorDTO> withoutSqlException = handler.handleDataIntegrityViolationException(
+                new DataIntegrityViolationException("Contrainte FK_USERS_DEPARTMENT"));
+        assertError(withoutSqlException, 400, Message.DATA_INTEGRITY_VIOLATION);
+    }
+}
@@ -0,0 +1,112 @@
+package com.abdatytch.user_service.grpc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.UUID;
+import com.abdatytch.user_service.dto.response.DepartmentResponseDTO;
+import com.abdatytch.user_service.dto.response.UserResponseDTO;
+import com.abdatytch.user_service.grpc.v1.GetUserRequest;
+import com.abdatytch.user_service.grpc.v1.ListDepartmentMembersRequest;
+import com.abdatytch.user_service.grpc.v1.UserDirectoryGrpc;
+import com.abdatytch.user_service.serialization.UuidBytes;
+import com.abdatytch.user_service.service.DepartmentService;
+import com.abdatytch.user_service.service.UserService;
+import com.google.protobuf.ByteString;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.MetadataUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Annuaire gRPC : département inconnu, erreurs inattendues sans détail interne, jeton partagé
+ */
+class UserDirectoryGrpcServiceTest {
+
+    private final UserService userService = mock(UserService.class);
+    private final DepartmentService departmentService = mock(DepartmentService.class);
+    private final UserDirectoryGrpcService service = new UserDirectoryGrpcService(userService, departmentService);
+
+    private Server server;
+    private ManagedChannel channel;
+
+    private UserDirectoryGrpc.UserDirectoryBlockingStub start(String token) throws Exception {
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name).directExecutor()
+                .addService(token == null ? service.bindService()
+                                          : ServerInterceptors.intercept(service, new SharedTokenInterceptor(token)))
+                .build()
+                .start();
+        channel = InProcessChannelBuilder.forName(name).directExecutor().build();
+        return UserDirectoryGrpc.newBlockingStub(channel);
+    }
+
+    @AfterEach
+    void stop() {
+        channel.shutdownNow();
+        server.shutdownNow();
+    }
+
+    private static ByteString bytes(UUID id) {
+        return ByteString.copyFrom(UuidBytes.toBytes(id));
+    }
+
+    private static StatusRuntimeException listMembers(UserDirectoryGrpc.UserDirectoryBlockingStub stub, UUID departmentId) {
+        ListDepartmentMembersRequest request = ListDepartmentMembersRequest.newBuilder()
+                .setDepartmentId(bytes(departmentId))
+                .build();
+        return assertThrows(StatusRuntimeException.class, () -> stub.listDepartmentMembers(request).forEachRemaining(u -> {}));
+    }
+
+    @Test
+    void unknownDepartmentIsNotFound() throws Exception {
+        UUID departmentId = UUID.randomUUID();
+        when(departmentService.getDepartmentById(departmentId)).thenReturn(null);
+
+        assertEquals(Status.Code.NOT_FOUND, listMembers(start(null), departmentId).getStatus().getCode());
+    }
+
+    @Test
+    void unexpectedErrorKeepsItsMessageServerSide() throws Exception {
+        UUID departmentId = UUID.randomUUID();
+        when(departmentService.getDepartmentById(departmentId)).thenReturn(new DepartmentResponseDTO());
+        when(userService.getUsersByDepartment(eq(departmentId), any(Pageable.class)))
+                .thenThrow(new IllegalStateException("Table \"USERS\" introuvable : select u1_0.id from users u1_0"));
+
+        Status status = listMembers(start(null), departmentId).getStatus();
+
+        assertEquals(Status.Code.INTERNAL, status.getCode());
+        assertEquals("Erreur interne", status.getDescription());
+    }
+
+    @Test
+    void sharedTokenIsRequiredWhenConfigured() throws Exception {
+        UUID userId = UUID.randomUUID();
+        UserResponseDTO user = new UserResponseDTO();
+        user.setId(userId);
+        when(userService.getUserById(userId)).thenReturn(user);
+        UserDirectoryGrpc.UserDirectoryBlockingStub stub = start("jeton-interne");
+        GetUserRequest request = GetUserRequest.newBuilder().setId(bytes(userId)).build();
+
+        StatusRuntimeException anonymous = assertThrows(StatusRuntimeException.class, () -> stub.getUser(request));
+        assertEquals(Status.Code.UNAUTHENTICATED, anonymous.getStatus().getCode());
+
+        Metadata headers = new Metadata();
+        headers.put(SharedTokenInterceptor.AUTHORIZATION, "Bearer jeton-interne");
+        assertFalse(stub.withInterceptors(MetadataUtils.newAttachHeadersInterceptor(headers))
+                .getUser(request).getId().isEmpty());
+    }
+}
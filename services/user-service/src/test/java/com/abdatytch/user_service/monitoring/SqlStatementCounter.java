@@ -0,0 +1,74 @@
+package com.abdatytch.user_service.monitoring;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+/**
+ * Compte les requêtes SQL exécutées sur la DataSource, quel que soit le thread
+ * (les listes servies par StaleWhileRevalidateCache sont lues sur un exécuteur)
+ *
+ * Enregistré comme bean (@Import), il est ajouté au proxy de SqlMonitoringConfig.
+ * Chaque exécution compte pour une requête, un lot JDBC compris : c'est un seul
+ * aller-retour vers la base, ses requêtes étant regroupées dans la même entrée.
+ */
+public class SqlStatementCounter implements QueryExecutionListener {
+
+    private final List<String> statements = new ArrayList<>();
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        List<String> queries = new ArrayList<>();
+        for (QueryInfo query : queryInfoList) {
+            queries.add(query.getQuery());
+        }
+        // Une exécution, lot compris, est un seul aller-retour : une seule entrée
+        String statement = execInfo.isBatch()
+                ? "[lot de " + execInfo.getBatchSize() + "] " + String.join("; ", queries)
+                : String.join("; ", queries);
+        synchronized (statements) {
+            statements.add(statement);
+        }
+    }
+
+    public void reset() {
+        synchronized (statements) {
+            statements.clear();
+        }
+    }
+
+    public List<String> statements() {
+        synchronized (statements) {
+            return List.copyOf(statements);
+        }
+    }
+
+    /**
+     * Vérifie le budget de requêtes depuis le dernier reset
+     *
+     * @param budget Nombre maximal de requêtes
+     * @param call Appel mesuré, repris dans le message d'échec avec les requêtes exécutées
+     */
+    public void assertAtMost(int budget, String call) {
+        List<String> executed = statements();
+        // Aucune requête : la réponse vient d'un cache et la mesure ne dit rien du plan de chargement
+        assertFalse(executed.isEmpty(), call + " : aucune requête SQL exécutée");
+        if (executed.size() > budget) {
+            List<String> lines = new ArrayList<>();
+            for (int i = 0; i < executed.size(); i++) {
+                lines.add((i + 1) + ". " + executed.get(i));
+            }
+            fail(call + " : " + executed.size() + " requêtes SQL pour un budget de " + budget + "\n"
+                    + String.join("\n", lines));
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.abdatytch.user_service.monitoring.jfr;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import com.abdatytch.user_service.repository.UserRepository;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Événements JFR du service : désactivés sans enregistrement actif, champs renseignés
+ * lorsqu'ils sont enregistrés, y compris autour des appels de repository
+ */
+class JfrEventsTest {
+
+    // Encodeur trivial : seul le coût de l'instrumentation est mesuré
+    private static final PasswordEncoder PLAIN = new PasswordEncoder() {
+        @Override
+        public String encode(CharSequence rawPassword) {return rawPassword.toString();}
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return rawPassword.toString().equals(encodedPassword);
+        }
+    };
+
+    @Test
+    void eventsAreDisabledWithoutRecording() {
+        // Sans enregistrement actif, l'instrumentation se limite à ce test (coût mesuré par
+        // JfrEventOverheadBenchmark dans le module des benchmarks)
+        assertFalse(new PasswordEncodeEvent().isEnabled());
+        assertFalse(new ValidationEvent().isEnabled());
+        assertFalse(new RepositoryQueryEvent().isEnabled());
+    }
+
+    @Test
+    void enabledEventsAreRecordedWithTheirFields() throws Exception {
+        Path file = Files.createTempFile("jfr-events-test-", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(PasswordEncodeEvent.class);
+            recording.enable(ValidationEvent.class);
+            recording.start();
+            new JfrPasswordEncoder(PLAIN).encode("secret");
+            ValidationEvent.end(ValidationEvent.start("User", "validateProperties"), 2);
+            recording.stop();
+            recording.dump(file);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            RecordedEvent encode = find(events, "com.abdatytch.user.PasswordEncode");
+            assertEquals("User", encode.getString("entity"));
+            assertEquals("encode", encode.getString("operation"));
+            RecordedEvent validation = find(events, "com.abdatytch.user.Validation");
+            assertEquals("validateProperties", validation.getString("operation"));
+            assertEquals(2, validation.getInt("violations"));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void repositoryCallsAreRecorded() throws Exception {
+        UserRepository repository = mock(UserRepository.class);
+        UUID missing = UUID.randomUUID();
+        when(repository.existsByEmail("panne@budget.ml")).thenThrow(new IllegalStateException("base indisponible"));
+        AspectJProxyFactory factory = new AspectJProxyFactory(repository);
+        factory.addAspect(new JfrRepositoryAspect());
+        UserRepository proxy = factory.getProxy();
+
+        Path file = Files.createTempFile("jfr-events-test-", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(RepositoryQueryEvent.class).withThreshold(Duration.ZERO);
+            recording.start();
+            assertTrue(proxy.findById(missing).isEmpty());
+            assertThrows(IllegalStateException.class, () -> proxy.existsByEmail("panne@budget.ml"));
+            recording.stop();
+            recording.dump(file);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            RecordedEvent found = find(events, "com.abdatytch.user.RepositoryQuery", "findById");
+            assertEquals("User", found.getString("entity"));
+            assertTrue(found.getBoolean("success"));
+            RecordedEvent failed = find(events, "com.abdatytch.user.RepositoryQuery", "existsByEmail");
+            assertFalse(failed.getBoolean("success"));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static RecordedEvent find(List<RecordedEvent> events, String name, String operation) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .filter(event -> operation.equals(event.getString("operation")))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("Événement absent : " + name + " " + operation));
+    }
+
+    private static RecordedEvent find(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("Événement absent : " + name));
+    }
+}
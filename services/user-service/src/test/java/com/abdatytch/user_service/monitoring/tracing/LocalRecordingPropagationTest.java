@@ -0,0 +1,77 @@
+package com.abdatytch.user_service.monitoring.tracing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import brave.Span;
+import brave.Tracer;
+import brave.Tracing;
+import brave.handler.MutableSpan;
+import brave.handler.SpanHandler;
+import brave.propagation.B3Propagation;
+import brave.propagation.TraceContext;
+import brave.sampler.Sampler;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Traces non échantillonnées en tête : racine toujours enregistrée, enfants selon la part configurée
+ */
+class LocalRecordingPropagationTest {
+
+    private static List<String> recordedSpans(double localSampleRate, Sampler sampler) {
+        List<String> recorded = new ArrayList<>();
+        try (Tracing tracing = Tracing.newBuilder()
+                .sampler(sampler)
+                .propagationFactory(new LocalRecordingPropagation(B3Propagation.FACTORY, localSampleRate))
+                .addSpanHandler(new SpanHandler() {
+                    @Override
+                    public boolean end(TraceContext context, MutableSpan span, Cause cause) {
+                        recorded.add(span.name());
+                        return true;
+                    }
+                })
+                .build()) {
+            Tracer tracer = tracing.tracer();
+            for (int request = 0; request < 10; request++) {
+                Span root = tracer.nextSpan().name("http get").start();
+                try (Tracer.SpanInScope scope = tracer.withSpanInScope(root)) {
+                    tracer.nextSpan().name("jdbc select").start().finish();
+                } finally {
+                    root.finish();
+                }
+            }
+        }
+        return recorded;
+    }
+
+    private static long count(List<String> spans, String name) {
+        return spans.stream().filter(name::equals).count();
+    }
+
+    @Test
+    void unsampledRequestsRecordOnlyTheirRoot() {
+        List<String> spans = recordedSpans(0, Sampler.NEVER_SAMPLE);
+        assertEquals(10, count(spans, "http get"));
+        assertEquals(0, count(spans, "jdbc select"));
+    }
+
+    @Test
+    void locallySampledRequestsRecordTheWholeTrace() {
+        List<String> spans = recordedSpans(1, Sampler.NEVER_SAMPLE);
+        assertEquals(10, count(spans, "http get"));
+        assertEquals(10, count(spans, "jdbc select"));
+    }
+
+    @Test
+    void headSampledRequestsAreUnchanged() {
+        List<String> spans = recordedSpans(0, Sampler.ALWAYS_SAMPLE);
+        assertEquals(10, count(spans, "jdbc select"));
+    }
+
+    @Test
+    void rejectsInvalidRate() {
+        assertThrows(IllegalArgumentException.class, () -> new LocalRecordingPropagation(B3Propagation.FACTORY, 1.5));
+    }
+}
@@ -0,0 +1,70 @@
+package com.abdatytch.user_service.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+/**
+ * Clé de limitation : utilisateur authentifié, sinon adresse ajoutée par la gateway ; en-têtes fournis
+ * par le client (X-Forwarded-For falsifié, clé d'API, jeton non vérifié) ignorés
+ */
+class ClientKeyResolverTest {
+
+    private final ClientKeyResolver resolver = new ClientKeyResolver(1);
+
+    private static MockHttpServletRequest request(String forwardedFor) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users");
+        request.setRemoteAddr("10.0.0.2");
+        if (forwardedFor != null) {
+            request.addHeader("X-Forwarded-For", forwardedFor);
+        }
+        return request;
+    }
+
+    private static String bearer(String payload) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return "Bearer " + encoder.encodeToString("{\"alg\":\"HS256\"}".getBytes(StandardCharsets.UTF_8)) + "."
+                + encoder.encodeToString(payload.getBytes(StandardCharsets.UTF_8)) + ".signature";
+    }
+
+    @Test
+    void usesHopAppendedByGateway() {
+        assertEquals("ip:203.0.113.7", resolver.resolve(request("203.0.113.7")));
+        // Entrées précédentes fournies par le client : changer leur valeur ne change pas de seau
+        assertEquals("ip:203.0.113.7", resolver.resolve(request("1.2.3.4, 203.0.113.7")));
+        assertEquals("ip:203.0.113.7", resolver.resolve(request("5.6.7.8, 203.0.113.7")));
+    }
+
+    @Test
+    void countsEachTrustedProxy() {
+        ClientKeyResolver twoProxies = new ClientKeyResolver(2);
+        assertEquals("ip:203.0.113.7", twoProxies.resolve(request("1.2.3.4, 203.0.113.7, 10.0.0.9")));
+        assertEquals("ip:203.0.113.7", twoProxies.resolve(request("203.0.113.7")));
+    }
+
+    @Test
+    void fallsBackToRemoteAddress() {
+        assertEquals("ip:10.0.0.2", resolver.resolve(request(null)));
+        assertEquals("ip:10.0.0.2",
+                new ClientKeyResolver(0).resolve(request("203.0.113.7")));
+    }
+
+    @Test
+    void usesAuthenticatedPrincipal() {
+        MockHttpServletRequest request = request("203.0.113.7");
+        request.setUserPrincipal(() -> "agent-7");
+        assertEquals("user:agent-7", resolver.resolve(request));
+    }
+
+    @Test
+    void ignoresUnverifiedCredentials() {
+        MockHttpServletRequest request = request("203.0.113.7");
+        request.addHeader("X-API-Key", "cle-choisie-par-le-client");
+        request.addHeader(HttpHeaders.AUTHORIZATION, bearer("{\"sub\":\"agent-7\"}"));
+        assertEquals("ip:203.0.113.7", resolver.resolve(request));
+    }
+}
@@ -0,0 +1,58 @@
+package com.abdatytch.user_service.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * Un client qui change de clé d'API ou de jeton à chaque requête reste limité
+ */
+class RateLimitFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RateLimitFilter filter = new RateLimitFilter(properties(), new ObjectMapper(), meterRegistry);
+
+    private static RateLimitProperties properties() {
+        RateLimitProperties.Route route = new RateLimitProperties.Route();
+        route.setPath("/api/users");
+        route.setPermitsPerSecond(0.01);
+        route.setBurst(2);
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setMaxKeys(2);
+        properties.getRoutes().put("users", route);
+        return properties;
+    }
+
+    private int send(String forwardedFor, int attempt) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users");
+        request.setRemoteAddr("10.0.0.2");
+        request.addHeader("X-Forwarded-For", "198.51.100." + attempt + ", " + forwardedFor);
+        request.addHeader("X-API-Key", "cle-" + attempt);
+        String payload = "{\"sub\":\"agent-" + attempt + "\"}";
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer e30." + Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(payload.getBytes(StandardCharsets.UTF_8)) + ".signature");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response.getStatus();
+    }
+
+    @Test
+    void rotatingCredentialsStayLimited() throws Exception {
+        assertEquals(200, send("203.0.113.7", 0));
+        assertEquals(200, send("203.0.113.7", 1));
+        // max-keys = 2 : des clés tournantes auraient aussi rempli la table et basculé vers le seau de débordement
+        for (int attempt = 2; attempt < 10; attempt++) {
+            assertEquals(429, send("203.0.113.7", attempt));
+        }
+        assertEquals(200, send("203.0.113.8", 10));
+        assertEquals(8, meterRegistry.counter("rate.limit.rejected", "route", "users").count());
+    }
+}